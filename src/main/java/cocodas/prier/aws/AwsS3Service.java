@@ -3,33 +3,58 @@ package cocodas.prier.aws;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class AwsS3Service {
 
+    // 서명 유효기간. 캐시는 이보다 먼저 만료시켜 만료 직전 URL 이 내려가지 않게 함
+    private static final Duration SIGNATURE_DURATION = Duration.ofHours(1);
+
     private S3Client s3Client;
 
+    private S3Presigner presigner;
+
+    // S3 키 -> presigned URL
+    private Cache<String, String> presignedUrlCache;
+
     @Value("${cloud.aws.credentials.accessKey}")
     private String accessKey;
 
@@ -42,55 +67,144 @@ public class AwsS3Service {
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    // 로컬 S3 호환 서버(MinIO, LocalStack 등)로 붙을 때만 지정. 지정하면 path-style 로 접근
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 이 크기 이상이면 멀티파트 업로드, 파트 크기도 같은 값 사용 (S3 최소 파트 크기 5MB 이상)
+    @Value("${cloud.aws.s3.upload.multipart-threshold-mb:16}")
+    private int multipartThresholdMb;
+
+    @Value("${cloud.aws.s3.presigned-cache.ttl-minutes:50}")
+    private long presignedCacheTtlMinutes;
+
+    @Value("${cloud.aws.s3.presigned-cache.max-size:10000}")
+    private long presignedCacheMaxSize;
+
     @PostConstruct
     public void initializeAmazon() {
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
-        this.s3Client = S3Client.builder()
+        S3Client.Builder clientBuilder = S3Client.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .region(Region.of(region));
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
                 .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-                .region(Region.of(region))
+                .region(Region.of(region));
+
+        if (!endpoint.isBlank()) {
+            S3Configuration pathStyle = S3Configuration.builder()
+                    .pathStyleAccessEnabled(true)
+                    .build();
+            clientBuilder.endpointOverride(URI.create(endpoint)).serviceConfiguration(pathStyle);
+            presignerBuilder.endpointOverride(URI.create(endpoint)).serviceConfiguration(pathStyle);
+        }
+
+        this.s3Client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+
+        Duration ttl = Duration.ofMinutes(presignedCacheTtlMinutes);
+        if (ttl.compareTo(SIGNATURE_DURATION) >= 0) {
+            throw new IllegalStateException("presigned URL 캐시 TTL 은 서명 유효기간(1시간)보다 짧아야 합니다.");
+        }
+        this.presignedUrlCache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(presignedCacheMaxSize)
                 .build();
     }
 
-    public String uploadFile(File file) throws IOException {
+    @PreDestroy
+    public void close() {
+        presigner.close();
+        s3Client.close();
+    }
+
+    // 임시 파일 없이 스트림을 그대로 S3 로 전송. 큰 파일은 멀티파트로 나눠 업로드
+    public String uploadStream(InputStream inputStream, long contentLength, String contentType) throws IOException {
         String key = UUID.randomUUID().toString();
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .build();
+        long multipartThreshold = multipartThresholdMb * 1024L * 1024L;
+
+        if (contentLength < multipartThreshold) {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
 
-        s3Client.putObject(putObjectRequest, file.toPath());
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, contentLength));
+        } else {
+            uploadMultipart(key, inputStream, contentType, (int) multipartThreshold);
+        }
         return key;
     }
 
+    private void uploadMultipart(String key, InputStream inputStream, String contentType, int partSize) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(b -> b.bucket(bucketName).key(key).contentType(contentType))
+                .uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                int partNumber = parts.size() + 1;
+                UploadPartResponse response = s3Client.uploadPart(
+                        b -> b.bucket(bucketName).key(key).uploadId(uploadId).partNumber(partNumber),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+                parts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+            }
+
+            s3Client.completeMultipartUpload(b -> b.bucket(bucketName).key(key).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts)));
+        } catch (IOException | RuntimeException e) {
+            // 업로드된 파트가 버킷에 남지 않도록 중단
+            s3Client.abortMultipartUpload(b -> b.bucket(bucketName).key(key).uploadId(uploadId));
+            throw e;
+        }
+    }
+
     public void deleteFile(String fileKey) {
         DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                .bucket("prier")
+                .bucket(bucketName)
                 .key(fileKey)
                 .build();
 
         s3Client.deleteObject(deleteObjectRequest);
+        presignedUrlCache.invalidate(fileKey);
         log.info("File deleted from S3: " + fileKey);
     }
 
-    // S3 키로부터 공개 URL을 생성하는 메소드
+    // S3 키로부터 공개 URL을 생성하는 메소드 (캐시된 URL 이 있으면 재사용)
     public String getPublicUrl(String s3Key) {
-        S3Presigner presigner = S3Presigner.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
-                .region(Region.of(region))
-                .build();
+        if (s3Key == null) {
+            return null;
+        }
+        return presignedUrlCache.get(s3Key, this::presign);
+    }
 
-        try {
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .build();
+    // 목록 조회용: 여러 S3 키의 공개 URL 을 한 번에 가져오기 (중복 키는 한 번만 서명)
+    public Map<String, String> getPublicUrls(Collection<String> s3Keys) {
+        Set<String> distinctKeys = s3Keys.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (distinctKeys.isEmpty()) {
+            return new HashMap<>();
+        }
+        return new HashMap<>(presignedUrlCache.getAll(distinctKeys,
+                keys -> keys.stream().collect(Collectors.toMap(key -> key, this::presign))));
+    }
 
-            PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(b -> b.getObjectRequest(getObjectRequest)
-                    .signatureDuration(Duration.ofHours(1)));
+    private String presign(String s3Key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .build();
 
-            return presignedRequest.url().toString();
-        } finally {
-            presigner.close();
-        }
+        PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(b -> b.getObjectRequest(getObjectRequest)
+                .signatureDuration(SIGNATURE_DURATION));
+
+        return presignedRequest.url().toString();
     }
 }
@@ -0,0 +1,136 @@
+package cocodas.prier.aws;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// 요청 하나의 파일들을 제한된 스레드 풀에서 동시에 S3 로 스트리밍 업로드
+// 하나라도 실패하면 이미 올라간 파일을 지우고 예외를 던지고,
+// 업로드 후 DB 저장이 실패하면 올라간 파일을 모두 지워 S3 에 고아 객체가 남지 않게 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3UploadPipeline {
+
+    private final AwsS3Service awsS3Service;
+
+    @Value("${cloud.aws.s3.upload.threads:4}")
+    private int uploadThreads;
+
+    @Value("${cloud.aws.s3.upload.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ExecutorService uploadExecutor;
+
+    @PostConstruct
+    public void initializeExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 요청 스레드가 직접 업로드해서 자연스럽게 속도를 조절
+        this.uploadExecutor = new ThreadPoolExecutor(
+                uploadThreads, uploadThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdownExecutor() {
+        uploadExecutor.shutdown();
+    }
+
+    // 업로드할 파일만 (null 과 빈 파일 제외)
+    public static List<MultipartFile> nonEmpty(MultipartFile[] files) {
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(files)
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+    }
+
+    // DB 트랜잭션을 열기 전에 먼저 업로드하고, S3 키 목록(files 순서)을 save 에 넘김
+    // save 는 자체 트랜잭션에서 키를 저장하고, 실패하면 올라간 파일을 지움
+    // 업로드 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 안에서는 호출할 수 없음
+    public <T> T uploadThen(List<MultipartFile> files, Function<List<String>, T> save) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("S3 업로드는 DB 트랜잭션 밖에서 호출해야 합니다.");
+        }
+
+        List<String> keys = uploadConcurrently(files);
+        try {
+            return save.apply(keys);
+        } catch (RuntimeException e) {
+            deleteQuietly(keys);
+            throw e;
+        }
+    }
+
+    // 반환되는 S3 키 목록은 files 순서와 같음
+    private List<String> uploadConcurrently(List<MultipartFile> files) {
+        if (files.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<CompletableFuture<String>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadOne(file), uploadExecutor))
+                .toList();
+
+        List<String> keys = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<String> upload : uploads) {
+            try {
+                keys.add(upload.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? unwrap(e) : failure;
+            }
+        }
+
+        if (failure != null) {
+            deleteQuietly(keys);
+            throw failure;
+        }
+        return keys;
+    }
+
+    private String uploadOne(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return awsS3Service.uploadStream(inputStream, file.getSize(), file.getContentType());
+        } catch (IOException e) {
+            throw new RuntimeException("S3 업로드 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    private void deleteQuietly(List<String> keys) {
+        keys.forEach(key -> {
+            try {
+                awsS3Service.deleteFile(key);
+            } catch (RuntimeException e) {
+                log.warn("업로드 보상 삭제 실패: {}", key, e);
+            }
+        });
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+}
@@ -2,6 +2,7 @@ package cocodas.prier.board.comment;
 
 import cocodas.prier.board.comment.request.PostCommentRequestDto;
 import cocodas.prier.board.comment.response.PostCommentListResponseDto;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,28 +18,25 @@ public class PostCommentController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public void createComment(@RequestHeader("Authorization") String auth,
+    public void createComment(@LoginUser Long userId,
                               @RequestBody PostCommentRequestDto dto,
                               @PathVariable(name = "postId") Long postId) {
-        String token = getToken(auth);
-        postCommentService.savePostComment(token, postId, dto);
+        postCommentService.savePostComment(userId, postId, dto);
     }
 
     @PutMapping("/{commentId}")
     @ResponseStatus(HttpStatus.OK)
-    public void updateComment(@RequestHeader("Authorization") String auth,
+    public void updateComment(@LoginUser Long userId,
                               @RequestBody PostCommentRequestDto dto,
                               @PathVariable(name = "commentId") Long commentId) {
-        String token = getToken(auth);
-        postCommentService.updatePostComment(token, commentId, dto);
+        postCommentService.updatePostComment(userId, commentId, dto);
     }
 
     @DeleteMapping("/{commentId}")
     @ResponseStatus(HttpStatus.OK)
-    public void deleteComment(@RequestHeader("Authorization") String auth,
+    public void deleteComment(@LoginUser Long userId,
                               @PathVariable(name = "commentId") Long commentId) {
-        String token = getToken(auth);
-        postCommentService.deletePostComment(token, commentId);
+        postCommentService.deletePostComment(userId, commentId);
     }
 
     @GetMapping
@@ -46,7 +44,4 @@ public class PostCommentController {
         return ResponseEntity.ok().body(postCommentService.findPostCommentByPostId(postId));
     }
 
-    private String getToken(String auth) {
-        return auth.replace("Bearer ", "");
-    }
 }
@@ -1,32 +1,32 @@
 package cocodas.prier.board.comment;
 
-import cocodas.prier.aws.AwsS3Service;
 import cocodas.prier.board.comment.request.PostCommentRequestDto;
 import cocodas.prier.board.comment.response.PostCommentListResponseDto;
 import cocodas.prier.board.post.post.Post;
 import cocodas.prier.board.post.post.PostRepository;
-import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.CurrentUserContext;
+import cocodas.prier.user.UserProfileService;
 import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.user.response.UserProfileDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostCommentService {
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final PostRepository postRepository;
     private final PostCommentRepository postCommentRepository;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final AwsS3Service awsS3Service;
+    private final UserProfileService userProfileService;
 
     @Transactional
-    public void savePostComment(String token, Long postId, PostCommentRequestDto dto) {
-        Users users = findUserByJwt(token);
+    public void savePostComment(Long userId, Long postId, PostCommentRequestDto dto) {
+        Users users = findUserById(userId);
         Post post = findPostById(postId);
 
         PostComment comment = PostComment.builder()
@@ -39,8 +39,7 @@ public class PostCommentService {
     }
 
     @Transactional
-    public void updatePostComment(String token, Long commentId, PostCommentRequestDto dto) {
-        Long userId = findUserIdByJwt(token);
+    public void updatePostComment(Long userId, Long commentId, PostCommentRequestDto dto) {
         PostComment comment = findPostCommentById(commentId);
         if (!comment.getUsers().getUserId().equals(userId)) {
             throw new RuntimeException("No Authorized to update comment");
@@ -49,8 +48,7 @@ public class PostCommentService {
     }
 
     @Transactional
-    public void deletePostComment(String token, Long commentId) {
-        Long userId = findUserIdByJwt(token);
+    public void deletePostComment(Long userId, Long commentId) {
         PostComment comment = findPostCommentById(commentId);
         if (!comment.getUsers().getUserId().equals(userId)) {
             throw new RuntimeException("No Authorized to update comment");
@@ -59,30 +57,29 @@ public class PostCommentService {
     }
 
     public List<PostCommentListResponseDto> findPostCommentByPostId(Long postId) {
-        return postCommentRepository.findByPost_PostId(postId)
-                .stream()
+        List<PostComment> comments = postCommentRepository.findByPost_PostId(postId);
+        Map<Long, UserProfileDto> authors = userProfileService.getProfiles(comments.stream()
+                .map(comment -> comment.getUsers().getUserId())
+                .toList());
+
+        return comments.stream()
                 .map(comment -> new PostCommentListResponseDto(
                         comment.getUsers().getUserId(),
-                        awsS3Service.getPublicUrl(comment.getUsers().getS3Key()),
+                        authors.get(comment.getUsers().getUserId()).getProfileUrl(),
                         comment.getCommentId(),
                         comment.getContent(),
-                        comment.getUsers().getNickname(),
+                        authors.get(comment.getUsers().getUserId()).getNickname(),
                         comment.getCreatedAt(),
                         comment.getUpdatedAt()
                 ))
                 .toList();
     }
 
-    private Users findUserByJwt(String token) {
-        Long userId = findUserIdByJwt(token);
-        return userRepository.findById(userId)
+    private Users findUserById(Long userId) {
+        return currentUserContext.findUser(userId)
                 .orElseThrow(() -> new RuntimeException("User Not Found"));
     }
 
-    private Long findUserIdByJwt(String token) {
-        return jwtTokenProvider.getUserIdFromJwt(token);
-    }
-
     private Post findPostById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("Post Not Found"));
@@ -1,9 +1,11 @@
 package cocodas.prier.board.post;
 
+import cocodas.prier.board.post.post.Category;
 import cocodas.prier.board.post.post.request.PostRequestDto;
 import cocodas.prier.board.post.post.PostService;
 import cocodas.prier.board.post.post.response.PostDetailResponseDto;
 import cocodas.prier.board.post.post.response.PostListResponseDto;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,68 +25,68 @@ public class PostController {
     // 모든 게시글 조회하기 & 검색 키워드 게시글 조회하기
     @GetMapping("/posts")
     @ResponseStatus(HttpStatus.OK)
-    public PostListResponseDto allOrSearchPosts(@RequestHeader("Authorization") String authorizationHeader,
-                                                      @RequestParam(name = "search", required = false) String keyword) {
-        String token = authorizationHeader.replace("Bearer ", "");
+    public PostListResponseDto allOrSearchPosts(@LoginUser Long userId,
+                                                      @RequestParam(name = "search", required = false) String keyword,
+                                                      @RequestParam(name = "category", required = false) Category category,
+                                                      @RequestParam(name = "cursor", required = false) String cursor,
+                                                      @RequestParam(name = "size", defaultValue = "20") int size) {
         if (keyword == null || keyword.isEmpty()) {
-            return postService.allPostList(token);
+            return postService.allPostList(userId, category, cursor, size);
         } else {
-            return postService.searchPostsByKeyword(token, keyword);
+            return postService.searchPostsByKeyword(userId, keyword, category, cursor, size);
         }
     }
 
     // 특정 게시글 조회하기
     @GetMapping("/posts/{postId}")
     @ResponseStatus(HttpStatus.OK)
-    public PostDetailResponseDto getPostByPostId(@RequestHeader("Authorization") String authorizationHeader,
+    public PostDetailResponseDto getPostByPostId(@LoginUser Long userId,
                                                  @PathVariable(name = "postId") Long postId) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        return postService.findByPostId(token, postId);
+        return postService.findByPostId(userId, postId);
     }
 
     // 내가 작성한 게시글 모두 조회하기
     @GetMapping("/posts/my")
     @ResponseStatus(HttpStatus.OK)
-    public PostListResponseDto myPostList(@RequestHeader("Authorization") String authorizationHeader) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        return postService.myPostList(token);
+    public PostListResponseDto myPostList(@LoginUser Long userId,
+                                          @RequestParam(name = "cursor", required = false) String cursor,
+                                          @RequestParam(name = "size", defaultValue = "20") int size) {
+        return postService.myPostList(userId, cursor, size);
     }
 
     // 내가 좋아요 누른 게시글 모두 조회하기
     @GetMapping("/posts/like/my")
     @ResponseStatus(HttpStatus.OK)
-    public PostListResponseDto pushLikePost(@RequestHeader("Authorization") String authorizationHeader) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        return postService.pushLikePost(token);
+    public PostListResponseDto pushLikePost(@LoginUser Long userId,
+                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return postService.pushLikePost(userId, cursor, size);
     }
 
     // 게시글 작성하기
     @PostMapping("/posts")
     @ResponseStatus(HttpStatus.CREATED)
-    public void addPost(@RequestHeader("Authorization") String authorizationHeader,
+    public void addPost(@LoginUser Long userId,
                         @RequestPart("dto") PostRequestDto postRequestDto,
                         @RequestParam(name = "media", required = false) MultipartFile[] media) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        postService.addPost(token, postRequestDto, media);
+        postService.addPost(userId, postRequestDto, media);
     }
 
     // 게시글 수정하기
     @PutMapping("/posts/{postId}")
     @ResponseStatus(HttpStatus.OK)
-    public void updatePost(@RequestHeader("Authorization") String authorizationHeader,
+    public void updatePost(@LoginUser Long userId,
                            @RequestPart("dto") PostRequestDto postRequestDto,
                            @RequestParam(name = "media", required = false) MultipartFile[] media,
                            @PathVariable(name = "postId") Long postId) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        postService.updatePost(token, postRequestDto, postId, media);
+        postService.updatePost(userId, postRequestDto, postId, media);
     }
 
     // 게시글 삭제하기
     @DeleteMapping("/posts/{postId}")
     @ResponseStatus(HttpStatus.OK)
-    public void deletePost(@RequestHeader("Authorization") String authorizationHeader,
+    public void deletePost(@LoginUser Long userId,
                            @PathVariable(name = "postId") Long postId) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        postService.deletePost(token, postId);
+        postService.deletePost(userId, postId);
     }
 }
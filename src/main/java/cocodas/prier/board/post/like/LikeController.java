@@ -1,8 +1,12 @@
 package cocodas.prier.board.post.like;
 
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
@@ -15,10 +19,15 @@ public class LikeController {
 
     // 게시글에 좋아요 누르기
     @PostMapping("/like/{postId}")
-    @ResponseStatus(HttpStatus.CREATED)
-    public void pushLike(@RequestHeader("Authorization") String authorizationHeader,
-                         @PathVariable(name = "postId") Long postId) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        likeService.pushLike(token, postId);
+    public ResponseEntity<Void> pushLike(@LoginUser Long userId,
+                                         @PathVariable(name = "postId") Long postId) {
+        try {
+            likeService.pushLike(userId, postId);
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            // 같은 유저의 요청이 동시에 들어와 이 요청은 롤백됨. 먼저 처리된 요청만 반영되었으니 클라이언트가 상태를 다시 읽도록 409
+            log.info("동시 좋아요 요청 충돌: userId={}, postId={}", userId, postId);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 }
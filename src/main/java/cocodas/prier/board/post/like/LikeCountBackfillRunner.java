@@ -0,0 +1,28 @@
+package cocodas.prier.board.post.like;
+
+import cocodas.prier.board.post.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 기존 좋아요로 게시글별 좋아요 수를 한 번 채움
+// board.like-count.backfill=true 로 기동했을 때만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.like-count.backfill", havingValue = "true")
+public class LikeCountBackfillRunner implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int recounted = postRepository.recountAllLikeCounts();
+        log.info("게시글 좋아요 수 백필 완료: {}개", recounted);
+    }
+}
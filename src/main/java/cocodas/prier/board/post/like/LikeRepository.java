@@ -1,14 +1,25 @@
 package cocodas.prier.board.post.like;
 
-import cocodas.prier.board.post.post.Post;
-import cocodas.prier.user.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Likes, Long> {
-    List<Likes> findByUsers(Users users);
-    Likes findByPostAndUsers(Post post, Users users);
+
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.post.postId = :postId AND l.users.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    boolean existsByPostPostIdAndUsersUserId(Long postId, Long userId);
+
+    // 목록 화면용: 주어진 게시글 중 userId 가 좋아요한 게시글 ID
+    @Query("SELECT l.post.postId FROM Likes l " +
+            "WHERE l.users.userId = :userId AND l.post.postId IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
@@ -1,18 +1,15 @@
 package cocodas.prier.board.post.like;
 
-import cocodas.prier.board.post.post.Post;
 import cocodas.prier.board.post.post.PostRepository;
 import cocodas.prier.user.UserRepository;
-import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.user.notification.LiveNotificationEvent;
+import cocodas.prier.user.notification.NotificationType;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Slf4j
 @Service
 @AllArgsConstructor
@@ -20,54 +17,36 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
 
-    private final JwtTokenProvider jwtTokenProvider;
-
     private UserRepository userRepository;
 
     private PostRepository postRepository;
 
-    // jwt 로 userId 찾기
-    private Long findUserIdByJwt(String token) {
-        return jwtTokenProvider.getUserIdFromJwt(token);
-    }
-
-    // userId 로 Users 객체 가져오기
-    private Users findUserObject(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with id" + userId));
-    }
-
-    // postId 로 Post 객체 가져오기
-    private Post findPostObject(Long postId) {
-        return postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found with id" + postId));
-    }
+    private ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    // 좋아요 누르기
-    public void pushLike(String token, Long postId) {
-        Long userId = findUserIdByJwt(token);
-
-        Users findUser = findUserObject(userId);
-        Post findPost = findPostObject(postId);
+    // 좋아요 누르기 (이미 눌렀으면 취소)
+    // (post_id, user_id) 유니크 제약이 중복 좋아요를 막고, 좋아요 수는 같은 트랜잭션에서 원자적으로 증감
+    // 동시에 두 번 눌러 INSERT 가 충돌하면 유니크 제약 위반으로 이 트랜잭션 전체가 롤백됨
+    public void pushLike(Long userId, Long postId) {
+        // 이미 좋아요한 글이면 한 번의 DELETE 로 취소
+        if (likeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+            postRepository.addLikeCount(postId, -1);
+            return;
+        }
 
-        // 사용자가 좋아요한 모든 Like 엔티티 조회
-        List<Likes> likes = likeRepository.findByUsers(findUser);
+        if (postRepository.addLikeCount(postId, 1) == 0) {
+            throw new IllegalArgumentException("Post not found with id" + postId);
+        }
 
-        // 중복 좋아요 방지
-        boolean alreadyLiked = likes.stream()
-                .anyMatch(like -> like.getPost().getPostId().equals(postId));
+        Likes like = Likes.builder()
+                .users(userRepository.getReferenceById(userId))
+                .post(postRepository.getReferenceById(postId))
+                .build();
+        likeRepository.saveAndFlush(like);
 
-        // 중복한게 아니라면
-        if (!alreadyLiked) {
-            Likes like = Likes.builder()
-                    .users(findUser)
-                    .post(findPost)
-                    .build();
-            likeRepository.save(like);
-        } else {
-            Likes cancelLike = likeRepository.findByPostAndUsers(findPost, findUser);
-            likeRepository.delete(cancelLike);
-        }
+        // 글 작성자에게 실시간 알림 (내 글에 누른 좋아요는 제외)
+        postRepository.findUserIdByPostId(postId)
+                .filter(ownerId -> !ownerId.equals(userId))
+                .ifPresent(ownerId -> eventPublisher.publishEvent(LiveNotificationEvent.of(ownerId, NotificationType.LIKE, postId)));
     }
 }
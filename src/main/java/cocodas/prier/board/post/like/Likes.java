@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_likes_post_user", columnNames = {"post_id", "user_id"}),
+        indexes = @Index(name = "idx_likes_user_post", columnList = "user_id, post_id"))
 public class Likes {
 
     @Id
@@ -24,12 +26,10 @@ public class Likes {
     @JoinColumn(name = "post_id")
     private Post post;
 
+    // 좋아요 저장 때마다 유저의 좋아요 컬렉션 전체가 로딩되지 않도록 양방향 컬렉션은 건드리지 않음
     @Builder
     public Likes(Users users, Post post) {
         this.users = users;
-        if (!users.getLikes().contains(this)) {
-            users.getLikes().add(this);
-        }
         this.post = post;
     }
 }
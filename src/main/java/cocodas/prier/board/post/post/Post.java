@@ -16,6 +16,12 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        // 커서 페이지네이션용 (createdAt DESC, postId DESC)
+        @Index(name = "idx_post_created", columnList = "created_at, post_id"),
+        @Index(name = "idx_post_category_created", columnList = "category, created_at, post_id"),
+        @Index(name = "idx_post_user_created", columnList = "user_id, created_at, post_id")
+})
 public class Post {
 
     @Id
@@ -32,8 +38,15 @@ public class Post {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // PostViewCounter 의 배치 UPDATE 로만 갱신. 게시글 수정 후 flush 가 읽어 둔 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+    @Column(updatable = false)
     private Integer views = 0;
 
+    // 좋아요/취소 시 PostRepository 의 원자적 UPDATE 로만 갱신
+    // 게시글 수정 후 flush 가 읽어 둔 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer likeCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Users users;
@@ -63,10 +76,6 @@ public class Post {
         this.updatedAt = updatedAt;
     }
 
-    public void updateViews(int views) {
-        this.views = views;
-    }
-
     @Builder
     public Post(String title, String content, Category category,
                 Users users, LocalDateTime createdAt, LocalDateTime updatedAt) {
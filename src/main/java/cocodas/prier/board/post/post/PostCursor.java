@@ -0,0 +1,41 @@
+package cocodas.prier.board.post.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시글 목록 커서: 마지막으로 내려준 게시글의 (createdAt, postId)
+// 클라이언트에는 불투명한 문자열로만 내려줌. createdAt 이 없는 게시글은 날짜 부분을 비워서 인코딩
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    private LocalDateTime createdAt;
+    private Long postId;
+
+    public static String encode(Post post) {
+        String createdAt = post.getCreatedAt() == null ? "" : post.getCreatedAt().toString();
+        String raw = createdAt + "_" + post.getPostId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청이면 null
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            String createdAt = raw.substring(0, separator);
+            return new PostCursor(createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -1,14 +1,32 @@
 package cocodas.prier.board.post.post;
 
-import cocodas.prier.user.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findByCategory(Category category);
-    List<Post> findByUsers(Users users);
-    List<Post> findByTitleContaining(String title);
-    List<Post> findByContentContaining(String content);
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+    // 목록 조회는 PostSpecifications + findBy(spec, ...) 로 커서 페이지 단위 조회
+
+    @Query("SELECT p.postId FROM Post p")
+    List<Long> findAllPostIds();
+
+    @Query("SELECT p.users.userId FROM Post p WHERE p.postId = :postId")
+    Optional<Long> findUserIdByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.postId = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 백필용: 모든 게시글의 좋아요 수를 좋아요 테이블에서 다시 집계
+    @Modifying
+    @Query(value = "UPDATE post p " +
+            "SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.post_id)", nativeQuery = true)
+    int recountAllLikeCounts();
 }
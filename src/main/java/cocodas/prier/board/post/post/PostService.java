@@ -1,31 +1,42 @@
 package cocodas.prier.board.post.post;
 
 import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.aws.S3UploadPipeline;
 import cocodas.prier.board.comment.PostCommentService;
-import cocodas.prier.board.post.like.Likes;
 import cocodas.prier.board.post.like.LikeRepository;
 import cocodas.prier.board.post.post.request.PostRequestDto;
 import cocodas.prier.board.post.post.response.PostDetailResponseDto;
 import cocodas.prier.board.post.post.response.PostListResponseDto;
+import cocodas.prier.board.post.post.response.PostMediaDto;
 import cocodas.prier.board.post.post.response.PostResponseDto;
 import cocodas.prier.board.post.postmedia.PostMediaService;
-import cocodas.prier.user.UserRepository;
+import cocodas.prier.board.post.search.PostSearchCursor;
+import cocodas.prier.board.post.search.PostSearchHit;
+import cocodas.prier.board.post.search.PostSearchService;
+import cocodas.prier.user.CurrentUserContext;
+import cocodas.prier.user.UserProfileService;
 import cocodas.prier.user.UserService;
 import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
 import cocodas.prier.user.response.ProfileImgDto;
+import cocodas.prier.user.response.UserProfileDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -35,9 +46,7 @@ public class PostService {
 
     private final LikeRepository likeRepository;
 
-    private final JwtTokenProvider jwtTokenProvider;
-
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
 
     private final PostMediaService postMediaService;
 
@@ -45,40 +54,40 @@ public class PostService {
 
     private final UserService userService;
 
+    private final UserProfileService userProfileService;
+
     private final AwsS3Service awsS3Service;
 
-    // jwt 로 userId 찾기
-    private Long findUserIdByJwt(String token) {
-        return jwtTokenProvider.getUserIdFromJwt(token);
-    }
+    private final PostSearchService postSearchService;
+
+    private final PostViewCounter postViewCounter;
+
+    private final S3UploadPipeline s3UploadPipeline;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    // createdAt 이 NULL 인 게시글은 맨 뒤 (PostSpecifications.before 와 같은 순서)
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt").nullsLast(), Sort.Order.desc("postId"));
 
     // userId 로 Users 객체 가져오기
     private Users findUserObject(Long userId) {
-        return userRepository.findById(userId)
+        return currentUserContext.findUser(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id" + userId));
     }
 
-    // 전체 게시글 조회하기
-    public PostListResponseDto allPostList(String token) {
-        Long userId = findUserIdByJwt(token);
-
-        List<PostResponseDto> postResponseDtos = getPostResponseDtoList(postRepository.findAll(), userId);
-
-        ProfileImgDto myProfile = userService.getProfile(userId);
-
-        return new PostListResponseDto(
-                postResponseDtos,
-                myProfile
-        );
+    // 전체 게시글 조회하기 (category 가 있으면 해당 카테고리만)
+    public PostListResponseDto allPostList(Long userId, Category category, String cursor, int size) {
+        return getPostPage(PostSpecifications.inCategory(category), cursor, size, userId);
     }
 
     // postId로 게시글 조회하기(특정 글 조회하기)
-    @Transactional
-    public PostDetailResponseDto findByPostId(String token, Long postId) {
+    // 조회수는 PostViewCounter 에 모아 두었다가 주기적으로 반영하므로 조회는 읽기 전용
+    @Transactional(readOnly = true)
+    public PostDetailResponseDto findByPostId(Long userId, Long postId) {
         Post post = findById(postId);
-        post.updateViews(post.getViews() + 1);
-
-        Long userId = findUserIdByJwt(token);
+        postViewCounter.increment(postId);
 
         Long postUserId = post.getUsers().getUserId();
 
@@ -92,10 +101,10 @@ public class PostService {
                 post.getContent(),
                 post.getUsers().getNickname(),
                 post.getCategory().name(),
-                post.getLikes().stream().anyMatch(likes -> likes.getUsers().getUserId().equals(userId)),
+                likeRepository.existsByPostPostIdAndUsersUserId(postId, userId),
                 postMediaService.getPostMediaDetail(post),
-                post.getViews(),
-                post.getLikes().size(),
+                currentViews(post),
+                post.getLikeCount(),
                 post.getCreatedAt(),
                 post.getUpdatedAt(),
                 postCommentService.findPostCommentByPostId(postId),
@@ -103,134 +112,113 @@ public class PostService {
         );
     }
 
-    // 검색어에 맞춰 게시글 조회하기
-    public PostListResponseDto searchPostsByKeyword(String token, String keyword) {
-        Long userId = findUserIdByJwt(token);
-        List<Post> postsByTitle = postRepository.findByTitleContaining(keyword);
-        List<Post> postsByContent = postRepository.findByContentContaining(keyword);
-
-        List<Post> combinedPosts = Stream.concat(postsByTitle.stream(), postsByContent.stream())
-                .distinct()
+    // 검색어에 맞춰 게시글 조회하기 (검색 색인 기준 관련도 순)
+    public PostListResponseDto searchPostsByKeyword(Long userId, String keyword, Category category, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<PostSearchHit> hits = postSearchService.search(keyword, category, cursor, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<PostSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+
+        // 순위는 유지하면서 게시글은 한 번에 조회
+        Map<Long, Post> posts = postRepository.findAllById(pageHits.stream().map(PostSearchHit::getPostId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        List<Post> page = pageHits.stream()
+                .map(hit -> posts.get(hit.getPostId()))
+                .filter(Objects::nonNull)
                 .toList();
-
-        List<PostResponseDto> postResponseDtos = getPostResponseDtoList(combinedPosts, userId);
-
-        ProfileImgDto myProfile = userService.getProfile(userId);
+        String nextCursor = hasNext ? PostSearchCursor.encode(pageHits.get(pageHits.size() - 1)) : null;
 
         return new PostListResponseDto(
-                postResponseDtos,
-                myProfile
+                getPostResponseDtoList(page, userId),
+                userService.getProfile(userId),
+                nextCursor
         );
     }
 
     // 내가 작성한 글 조회하기
-    public PostListResponseDto myPostList(String token) {
-        Long userId = findUserIdByJwt(token);
-
-        Users findUser = findUserObject(userId);
-
-        List<Post> findUserPosts = postRepository.findByUsers(findUser);
-
-        List<PostResponseDto> postResponseDtos = getPostResponseDtoList(findUserPosts, userId);
-
-        ProfileImgDto myProfile = userService.getProfile(userId);
-
-        return new PostListResponseDto(
-                postResponseDtos,
-                myProfile
-        );
+    public PostListResponseDto myPostList(Long userId, String cursor, int size) {
+        return getPostPage(PostSpecifications.writtenBy(userId), cursor, size, userId);
     }
 
     // 좋아요한 글 조회하기
-    public PostListResponseDto pushLikePost(String token) {
-        Long userId = findUserIdByJwt(token);
-
-        Users findUser = findUserObject(userId);
-
-        // 사용자가 좋아요한 모든 Like 엔티티 조회
-        List<Likes> likes = likeRepository.findByUsers(findUser);
+    public PostListResponseDto pushLikePost(Long userId, String cursor, int size) {
+        return getPostPage(PostSpecifications.likedBy(userId), cursor, size, userId);
+    }
 
-        // Like 엔티티에서 게시글 ID 추출
-        List<Long> postIds = likes.stream()
-                .map(like -> like.getPost().getPostId())
-                .collect(Collectors.toList());
+    // (createdAt, postId) 커서 기준으로 size 개씩 조회
+    // size + 1 개를 가져와 다음 페이지가 있는지 판단하므로 count 쿼리가 필요 없음
+    private PostListResponseDto getPostPage(Specification<Post> spec, String cursor, int size, Long userId) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
-        // 게시글 ID로 게시글 조회
-        List<Post> posts = postRepository.findAllById(postIds);
+        Specification<Post> pageSpec = Specification.where(spec)
+                .and(PostSpecifications.before(PostCursor.decode(cursor)));
 
-        List<PostResponseDto> postResponseDtos = getPostResponseDtoList(posts, userId);
+        List<Post> posts = postRepository.findBy(pageSpec, query -> query
+                .sortBy(LATEST_FIRST)
+                .limit(pageSize + 1)
+                .all());
 
-        ProfileImgDto myProfile = userService.getProfile(userId);
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+        String nextCursor = hasNext ? PostCursor.encode(page.get(page.size() - 1)) : null;
 
         return new PostListResponseDto(
-                postResponseDtos,
-                myProfile
+                getPostResponseDtoList(page, userId),
+                userService.getProfile(userId),
+                nextCursor
         );
     }
 
     // 게시글 작성하기
-    @Transactional
-    public void addPost(String token, PostRequestDto postRequestDto, MultipartFile[] files) {
-        Long userId = findUserIdByJwt(token);
-
-        Users findUser = findUserObject(userId);
-
-        Post post = Post.builder()
-                .users(findUser)
-                .title(postRequestDto.getTitle())
-                .category(postRequestDto.getCategory())
-                .content(postRequestDto.getContent())
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        postRepository.save(post);
-        uploadMedia(files, post);
-    }
-
-    private void uploadMedia(MultipartFile[] files, Post post) {
-        try {
-            postMediaService.uploadFile(post, files);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed Upload Media");
-        }
+    // 이미지는 트랜잭션 전에 업로드하고, 게시글 저장은 그 다음 짧은 트랜잭션에서 (실패하면 업로드한 파일 삭제)
+    public void addPost(Long userId, PostRequestDto postRequestDto, MultipartFile[] files) {
+        List<MultipartFile> uploadFiles = S3UploadPipeline.nonEmpty(files);
+
+        s3UploadPipeline.uploadThen(uploadFiles, keys -> transactionTemplate.execute(status -> {
+            Users findUser = findUserObject(userId);
+
+            Post post = Post.builder()
+                    .users(findUser)
+                    .title(postRequestDto.getTitle())
+                    .category(postRequestDto.getCategory())
+                    .content(postRequestDto.getContent())
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            postRepository.save(post);
+            postSearchService.index(post);
+            postMediaService.saveMedia(post, uploadFiles, keys);
+            return post.getPostId();
+        }));
     }
 
     // 게시글 수정하기
-    @Transactional
-    public void updatePost(String token, PostRequestDto postRequestDto, Long boardId, MultipartFile[] media) {
-
-        if (media == null) {
-            media = new MultipartFile[0];
-        }
-
-        Long userId = findUserIdByJwt(token);
-
-        Post findPost = findById(boardId);
-
-        if (!findPost.getUsers().getUserId().equals(userId)) {
-            throw new IllegalStateException("해당 게시글을 수정할 권한이 없습니다.");
-        }
-
-        findPost.updateTitle(postRequestDto.getTitle());        // 제목 수정하기
-        findPost.updateCategory(postRequestDto.getCategory());  // 카테고리 수정하기
-        findPost.updateContent(postRequestDto.getContent());    // 내용 수정하기
-        findPost.updateUpdatedAt(LocalDateTime.now());          // 수정한 시간 수정하기
-        updateMedia(postRequestDto.getPostMediaIds(), media, findPost);
-    }
-
-    private void updateMedia(Long[] deleteImagesS3Key, MultipartFile[] media, Post findPost) {
-        try {
-            postMediaService.updateFile(deleteImagesS3Key, findPost, media);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed Update Media");
-        }
+    // 새 이미지는 트랜잭션 전에 업로드하고, 수정은 그 다음 짧은 트랜잭션에서 (실패하면 업로드한 파일 삭제)
+    public void updatePost(Long userId, PostRequestDto postRequestDto, Long boardId, MultipartFile[] media) {
+        List<MultipartFile> uploadFiles = S3UploadPipeline.nonEmpty(media);
+
+        s3UploadPipeline.uploadThen(uploadFiles, keys -> transactionTemplate.execute(status -> {
+            Post findPost = findById(boardId);
+
+            if (!findPost.getUsers().getUserId().equals(userId)) {
+                throw new IllegalStateException("해당 게시글을 수정할 권한이 없습니다.");
+            }
+
+            findPost.updateTitle(postRequestDto.getTitle());        // 제목 수정하기
+            findPost.updateCategory(postRequestDto.getCategory());  // 카테고리 수정하기
+            findPost.updateContent(postRequestDto.getContent());    // 내용 수정하기
+            findPost.updateUpdatedAt(LocalDateTime.now());          // 수정한 시간 수정하기
+            postSearchService.index(findPost);
+            postMediaService.updateFile(postRequestDto.getPostMediaIds(), findPost, uploadFiles, keys);
+            return boardId;
+        }));
     }
 
     // 게시글 삭제하기
     @Transactional
-    public void deletePost(String token, Long postId) {
-        Long userId = findUserIdByJwt(token);
-
+    public void deletePost(Long userId, Long postId) {
         Post findPost = findById(postId);
 
         if (!findPost.getUsers().getUserId().equals(userId)) {
@@ -238,6 +226,7 @@ public class PostService {
         }
 
         postMediaService.deleteFile(findPost);
+        postSearchService.remove(postId);
         postRepository.delete(findPost);
     }
 
@@ -246,20 +235,39 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 postId를 가진 Post가 없습니다."));
     }
 
+    // DB 에 반영된 조회수 + 아직 반영 전인 조회수
+    private int currentViews(Post post) {
+        int views = post.getViews() == null ? 0 : post.getViews();
+        return (int) (views + postViewCounter.getPendingViews(post.getPostId()));
+    }
+
     private List<PostResponseDto> getPostResponseDtoList(List<Post> combinedPosts, Long userId) {
+        // 작성자 닉네임/프로필 이미지는 작성자 ID 를 묶어 한 번에 가져오기 (작성자 엔티티는 로딩하지 않음)
+        Map<Long, UserProfileDto> authors = userProfileService.getProfiles(combinedPosts.stream()
+                .map(post -> post.getUsers().getUserId())
+                .toList());
+
+        List<Long> postIds = combinedPosts.stream().map(Post::getPostId).toList();
+
+        // 좋아요 여부는 게시글별 좋아요 컬렉션을 로딩하지 않고 한 번에 조회
+        Set<Long> likedPostIds = combinedPosts.isEmpty() ? Set.of() : new HashSet<>(likeRepository.findLikedPostIds(userId, postIds));
+
+        // 미디어도 게시글별로 로딩하지 않고 페이지 전체를 한 번에 조회
+        Map<Long, List<PostMediaDto>> mediaByPostId = postMediaService.getPostMediaDetails(postIds);
+
         return combinedPosts.stream()
                 .map(post -> new PostResponseDto(
                         post.getPostId(),
                         post.getUsers().getUserId(),
-                        awsS3Service.getPublicUrl(post.getUsers().getS3Key()),
+                        authors.get(post.getUsers().getUserId()).getProfileUrl(),
                         post.getTitle(),
                         post.getContent(),
-                        post.getUsers().getNickname(),
+                        authors.get(post.getUsers().getUserId()).getNickname(),
                         post.getCategory().name(),
-                        post.getLikes().stream().anyMatch(likes -> likes.getUsers().getUserId().equals(userId)),
-                        postMediaService.getPostMediaDetail(post),
-                        post.getViews(),
-                        post.getLikes().size(),
+                        likedPostIds.contains(post.getPostId()),
+                        mediaByPostId.getOrDefault(post.getPostId(), List.of()),
+                        currentViews(post),
+                        post.getLikeCount(),
                         post.getCreatedAt(),
                         post.getUpdatedAt()
                 ))
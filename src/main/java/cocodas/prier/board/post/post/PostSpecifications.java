@@ -0,0 +1,44 @@
+package cocodas.prier.board.post.post;
+
+import org.springframework.data.jpa.domain.Specification;
+
+// 게시글 목록 조회 조건. 정렬은 항상 (createdAt DESC, postId DESC)
+public final class PostSpecifications {
+
+    private PostSpecifications() {
+    }
+
+    public static Specification<Post> inCategory(Category category) {
+        if (category == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Post> writtenBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("users").get("userId"), userId);
+    }
+
+    public static Specification<Post> likedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.join("likes").get("users").get("userId"), userId);
+    }
+
+    // 커서보다 뒤(더 오래된) 게시글: createdAt < c.createdAt OR (createdAt = c.createdAt AND postId < c.postId)
+    // createdAt DESC 정렬에서 NULL 은 맨 뒤에 오므로, createdAt 이 없는 게시글은 항상 커서 뒤에 있고
+    // 커서 자체가 createdAt 이 없는 게시글이면 그 뒤로는 postId 로만 이어짐
+    public static Specification<Post> before(PostCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.getCreatedAt() == null) {
+            return (root, query, cb) -> cb.and(
+                    cb.isNull(root.get("createdAt")),
+                    cb.lessThan(root.get("postId"), cursor.getPostId()));
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                cb.and(cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                        cb.lessThan(root.get("postId"), cursor.getPostId())),
+                cb.isNull(root.get("createdAt")));
+    }
+}
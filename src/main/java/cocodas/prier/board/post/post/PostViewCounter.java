@@ -0,0 +1,86 @@
+package cocodas.prier.board.post.post;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수를 메모리에 모아 두었다가 주기적으로 한 번의 배치 UPDATE 로 반영
+// 조회마다 같은 행을 갱신하지 않으므로 인기 글에서도 락 경합과 갱신 유실이 없음
+// 비정상 종료 시에는 마지막 반영 이후(기본 5초)의 조회수만 유실되고, 정상 종료 시에는 모두 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE post SET views = COALESCE(views, 0) + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글별 아직 DB 에 반영되지 않은 조회수
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // DB 값에 더해서 보여줄 미반영 조회수
+    public long getPendingViews(Long postId) {
+        LongAdder views = pendingViews.get(postId);
+        return views == null ? 0 : views.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.post.view-flush-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<LongAdder> flushed = new ArrayList<>();
+        // 합계를 읽으면서 0 으로 돌리므로 그 사이 들어온 조회는 다음 반영에 포함됨
+        pendingViews.forEach((postId, views) -> {
+            long count = views.sumThenReset();
+            if (count > 0) {
+                batch.add(new Object[]{count, postId});
+                flushed.add(views);
+            }
+        });
+
+        if (!batch.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            } catch (RuntimeException e) {
+                // 반영 실패한 조회수는 되돌려 두고 다음 주기에 다시 시도
+                for (int i = 0; i < batch.size(); i++) {
+                    flushed.get(i).add((Long) batch.get(i)[0]);
+                }
+                log.warn("게시글 조회수 반영 실패: {}건", batch.size(), e);
+            }
+        }
+
+        removeDrained();
+    }
+
+    // 반영이 끝나 0 인 항목은 제거해서 한 번이라도 조회된 게시글이 맵에 계속 쌓이지 않게 함
+    // 같은 LongAdder 일 때만 제거하고, 제거하는 사이 들어온 조회는 새 항목에 옮겨 둠
+    private void removeDrained() {
+        pendingViews.forEach((postId, views) -> {
+            if (views.sum() == 0 && pendingViews.remove(postId, views)) {
+                long late = views.sumThenReset();
+                if (late > 0) {
+                    pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
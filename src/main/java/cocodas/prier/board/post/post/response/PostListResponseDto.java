@@ -12,4 +12,6 @@ import java.util.List;
 public class PostListResponseDto {
     List<PostResponseDto> postListDto;
     private ProfileImgDto myProfileImgDto;
+    // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+    private String nextCursor;
 }
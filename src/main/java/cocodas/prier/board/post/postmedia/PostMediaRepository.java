@@ -1,11 +1,18 @@
 package cocodas.prier.board.post.postmedia;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PostMediaRepository extends JpaRepository<PostMedia, Long> {
     List<PostMedia> findByPost_PostId(Long postId);
+
+    // 여러 게시글의 미디어를 한 번에 조회 (게시글 안에서는 등록 순서)
+    @Query("SELECT pm FROM PostMedia pm WHERE pm.post.postId IN :postIds ORDER BY pm.postMediaId")
+    List<PostMedia> findByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -9,10 +9,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -35,44 +37,49 @@ public class PostMediaService {
     }
 
 
+    // 목록 조회용: 게시글 ID별 미디어 (미디어는 쿼리 한 번, URL 서명은 키를 묶어 한 번에)
+    public Map<Long, List<PostMediaDto>> getPostMediaDetails(Collection<Long> postIds) {
+        Map<Long, List<PostMediaDto>> mediaByPostId = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return mediaByPostId;
+        }
+
+        List<PostMedia> postMedia = postMediaRepository.findByPostIds(postIds);
+        Map<String, String> urlByS3Key = awsS3Service.getPublicUrls(postMedia.stream()
+                .map(PostMedia::getS3Key)
+                .toList());
+        postMedia.forEach(media -> mediaByPostId.computeIfAbsent(media.getPost().getPostId(), postId -> new ArrayList<>())
+                .add(new PostMediaDto(
+                        media.getPostMediaId(),
+                        media.getMetadata(),
+                        media.getMediaType().name(),
+                        media.getS3Key(),
+                        urlByS3Key.get(media.getS3Key())
+                )));
+        return mediaByPostId;
+    }
+
     private String getS3Url(String s3Key) {
         return awsS3Service.getPublicUrl(s3Key);
     }
 
+    // 먼저 업로드된 파일들(keys 는 files 순서)을 게시글 미디어로 저장
     @Transactional
-    public void uploadFile(Post post, MultipartFile[] files) throws IOException {
-        if (files != null) {
-            for (MultipartFile file : files) {
-                if (file != null && !file.isEmpty()) {
-                    saveMedia(post, file);
-                }
-            }
+    public void saveMedia(Post post, List<MultipartFile> files, List<String> keys) {
+        for (int i = 0; i < files.size(); i++) {
+            PostMedia postMedia = PostMedia.builder()
+                    .metadata(files.get(i).getOriginalFilename())
+                    .s3Key(keys.get(i))
+                    .mediaType(MediaType.IMAGE)
+                    .post(post)
+                    .build();
+
+            postMediaRepository.save(postMedia);
         }
     }
 
-    private void saveMedia(Post post, MultipartFile file) throws IOException {
-        String key = awsFileUploadAndGetKey(file);
-        PostMedia postMedia = PostMedia.builder()
-                .metadata(file.getOriginalFilename())
-                .s3Key(key)
-                .mediaType(MediaType.IMAGE)
-                .post(post)
-                .build();
-
-        postMediaRepository.save(postMedia);
-    }
-
-    private String awsFileUploadAndGetKey(MultipartFile file) throws IOException {
-        File tempFile = File.createTempFile("post-", file.getOriginalFilename());
-        file.transferTo(tempFile);
-
-        String key = awsS3Service.uploadFile(tempFile);
-        tempFile.delete();
-        return key;
-    }
-
     @Transactional
-    public void updateFile(Long[] postMediaIds, Post post, MultipartFile[] files) throws IOException {
+    public void updateFile(Long[] postMediaIds, Post post, List<MultipartFile> files, List<String> keys) {
 
         if (postMediaIds != null) {
             for (Long mediaId : postMediaIds) {
@@ -83,23 +90,7 @@ public class PostMediaService {
             }
         }
 
-        if (files != null) {
-            for (MultipartFile file : files) {
-
-                File tempFile = File.createTempFile("board-", file.getOriginalFilename());
-                file.transferTo(tempFile);
-                String s3Key = awsS3Service.uploadFile(tempFile);
-
-                PostMedia postMedia = PostMedia.builder()
-                        .metadata(file.getOriginalFilename())
-                        .s3Key(s3Key)
-                        .mediaType(MediaType.IMAGE)
-                        .post(post)
-                        .build();
-
-                postMediaRepository.save(postMedia);
-            }
-        }
+        saveMedia(post, files, keys);
     }
 
     @Transactional
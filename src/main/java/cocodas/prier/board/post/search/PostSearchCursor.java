@@ -0,0 +1,36 @@
+package cocodas.prier.board.post.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 검색 결과 커서: 마지막으로 내려준 결과의 (score, postId)
+@Getter
+@AllArgsConstructor
+public class PostSearchCursor {
+    private Long score;
+    private Long postId;
+
+    public static String encode(PostSearchHit hit) {
+        String raw = hit.getScore() + "_" + hit.getPostId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청이면 null
+    public static PostSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('_');
+            return new PostSearchCursor(Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
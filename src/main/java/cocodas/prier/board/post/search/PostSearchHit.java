@@ -0,0 +1,7 @@
+package cocodas.prier.board.post.search;
+
+// 검색어와 일치한 게시글 id 와 가중치 합계
+public interface PostSearchHit {
+    Long getPostId();
+    Long getScore();
+}
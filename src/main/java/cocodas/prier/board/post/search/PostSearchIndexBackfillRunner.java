@@ -0,0 +1,30 @@
+package cocodas.prier.board.post.search;
+
+import cocodas.prier.board.post.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기존 게시글로 검색 색인을 한 번 채움
+// board.search.reindex=true 로 기동했을 때만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.reindex", havingValue = "true")
+public class PostSearchIndexBackfillRunner implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+    private final PostSearchService postSearchService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> postIds = postRepository.findAllPostIds();
+        postIds.forEach(postSearchService::reindex);
+        log.info("게시글 검색 색인 백필 완료: {}개", postIds.size());
+    }
+}
@@ -0,0 +1,221 @@
+package cocodas.prier.board.post.search;
+
+import cocodas.prier.board.post.post.Category;
+import cocodas.prier.board.post.post.Post;
+import cocodas.prier.board.post.post.PostRepository;
+import cocodas.prier.statics.keywordAi.KomoranAnalyzer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 게시글 제목/본문 역색인 관리와 검색
+// 색인은 게시글 작성/수정/삭제와 같은 트랜잭션에서 게시글 단위로 갱신
+// 검색어별 상위 순위(rankingSize 개)는 한 번만 집계해서 캐시하고, 다음 페이지는 캐시된 순위에서 잘라냄
+// 캐시된 순위보다 뒤 페이지만 커서 쿼리로 다시 집계
+// 검색은 형태소 분석한 단어 단위 일치 (예전 LIKE '%검색어%' 와 달리 단어의 일부만 입력하면 찾지 못함)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchService {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int MAX_TERM_LENGTH = 100;
+    private static final int MAX_QUERY_TERMS = 10;
+
+    private final PostSearchTermRepository postSearchTermRepository;
+    private final PostRepository postRepository;
+    private final KomoranAnalyzer komoranAnalyzer;
+
+    @Value("${post.search.ranking-size:500}")
+    private int rankingSize;
+
+    @Value("${post.search.cache.ttl-seconds:60}")
+    private long rankingCacheTtlSeconds;
+
+    @Value("${post.search.cache.max-size:1000}")
+    private long rankingCacheMaxSize;
+
+    private Cache<RankingKey, List<PostSearchHit>> rankingCache;
+
+    @PostConstruct
+    public void initializeCache() {
+        this.rankingCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(rankingCacheTtlSeconds))
+                .maximumSize(rankingCacheMaxSize)
+                .build();
+    }
+
+    // 관련도 순으로 limit 개의 (postId, score)
+    public List<PostSearchHit> search(String keyword, Category category, String cursor, int limit) {
+        Set<String> terms = queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        PostSearchCursor searchCursor = PostSearchCursor.decode(cursor);
+        List<PostSearchHit> ranking = rankingCache.get(new RankingKey(terms, category),
+                key -> rank(terms, category));
+
+        int from = searchCursor == null ? 0 : positionAfter(ranking, searchCursor);
+        int to = from + limit;
+        // 순위가 잘리지 않았거나 이 페이지가 캐시된 순위 안에 있으면 캐시에서 바로
+        if (ranking.size() < rankingSize || to <= ranking.size()) {
+            return ranking.subList(Math.min(from, ranking.size()), Math.min(to, ranking.size()));
+        }
+
+        PageRequest page = PageRequest.of(0, limit);
+        if (searchCursor == null) {
+            return postSearchTermRepository.searchFirst(terms, category, page);
+        }
+        return postSearchTermRepository.searchNext(terms, category,
+                searchCursor.getScore(), searchCursor.getPostId(), page);
+    }
+
+    // 게시글 작성/수정 시 해당 게시글 색인 다시 만들기
+    @Transactional
+    public void index(Post post) {
+        Map<String, Integer> weights = new HashMap<>();
+        komoranAnalyzer.extractSearchTerms(post.getTitle())
+                .forEach(term -> addWeight(weights, term, TITLE_WEIGHT));
+        komoranAnalyzer.extractSearchTerms(post.getContent())
+                .forEach(term -> addWeight(weights, term, CONTENT_WEIGHT));
+
+        // 예전 검색어와 새 검색어가 들어간 순위만 바뀜
+        Set<String> touched = new HashSet<>(postSearchTermRepository.findTermsByPostId(post.getPostId()));
+        touched.addAll(weights.keySet());
+        evictRankings(touched);
+        postSearchTermRepository.deleteAllByPostId(post.getPostId());
+
+        postSearchTermRepository.saveAll(weights.entrySet().stream()
+                .map(entry -> PostSearchTerm.builder()
+                        .post(post)
+                        .term(entry.getKey())
+                        .weight(entry.getValue())
+                        .build())
+                .toList());
+    }
+
+    @Transactional
+    public void remove(Long postId) {
+        evictRankings(new HashSet<>(postSearchTermRepository.findTermsByPostId(postId)));
+        postSearchTermRepository.deleteAllByPostId(postId);
+    }
+
+    // 기존 게시글 색인 (백필용)
+    @Transactional
+    public void reindex(Long postId) {
+        postRepository.findById(postId).ifPresent(this::index);
+    }
+
+    // 바뀐 게시글의 검색어를 하나라도 포함한 순위만 제거 (그 외 검색어의 결과에는 이 게시글이 나오지 않음)
+    // 커밋/롤백 후에 한 번 더 제거 (커밋 전에 다른 요청이 예전 색인으로 다시 캐시에 넣는 경우 방지)
+    private void evictRankings(Set<String> terms) {
+        if (terms.isEmpty()) {
+            return;
+        }
+        evictRankingsContaining(terms);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evictRankingsContaining(terms);
+            }
+        });
+    }
+
+    private void evictRankingsContaining(Set<String> terms) {
+        rankingCache.asMap().keySet().removeIf(key -> !Collections.disjoint(key.terms(), terms));
+    }
+
+    private List<PostSearchHit> rank(Set<String> terms, Category category) {
+        return postSearchTermRepository.searchFirst(terms, category, PageRequest.of(0, rankingSize)).stream()
+                .<PostSearchHit>map(hit -> new RankedHit(hit.getPostId(), hit.getScore()))
+                .toList();
+    }
+
+    // 순위는 (score DESC, postId DESC) 로 정렬되어 있으므로 커서보다 뒤인 첫 위치를 이분 탐색
+    private static int positionAfter(List<PostSearchHit> ranking, PostSearchCursor cursor) {
+        int low = 0;
+        int high = ranking.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isAfter(ranking.get(mid), cursor)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isAfter(PostSearchHit hit, PostSearchCursor cursor) {
+        int byScore = Long.compare(hit.getScore(), cursor.getScore());
+        return byScore < 0 || (byScore == 0 && hit.getPostId() < cursor.getPostId());
+    }
+
+    private static void addWeight(Map<String, Integer> weights, String term, int weight) {
+        if (term.length() <= MAX_TERM_LENGTH) {
+            weights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    // 검색어도 같은 형태소 분석을 거치고, 분석 결과가 없으면 입력 그대로 사용
+    private Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        komoranAnalyzer.extractSearchTerms(keyword).stream()
+                .distinct()
+                .limit(MAX_QUERY_TERMS)
+                .forEach(terms::add);
+
+        if (terms.isEmpty() && keyword != null && !keyword.isBlank() && keyword.strip().length() <= MAX_TERM_LENGTH) {
+            terms.add(keyword.strip().toLowerCase());
+        }
+        return terms;
+    }
+
+    private record RankingKey(Set<String> terms, Category category) {
+    }
+
+    // 캐시에 두는 값은 조회 결과 프록시가 아니라 불변 복사본
+    private static final class RankedHit implements PostSearchHit {
+        private final Long postId;
+        private final Long score;
+
+        private RankedHit(Long postId, Long score) {
+            this.postId = postId;
+            this.score = score;
+        }
+
+        @Override
+        public Long getPostId() {
+            return postId;
+        }
+
+        @Override
+        public Long getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package cocodas.prier.board.post.search;
+
+import cocodas.prier.board.post.post.Post;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 게시글 검색용 역색인: 게시글별 형태소(명사/영문/숫자)와 가중치
+// 게시글 작성/수정/삭제 시 PostSearchService 가 게시글 단위로 다시 만듦
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_post_search_term", columnNames = {"post_id", "term"}),
+        indexes = @Index(name = "idx_post_search_term", columnList = "term, post_id, weight"))
+public class PostSearchTerm {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long postSearchTermId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Column(nullable = false, length = 100)
+    private String term;
+
+    // 제목 등장 횟수 * 3 + 본문 등장 횟수
+    @Column(nullable = false)
+    private int weight;
+
+    @Builder
+    public PostSearchTerm(Post post, String term, int weight) {
+        this.post = post;
+        this.term = term;
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,45 @@
+package cocodas.prier.board.post.search;
+
+import cocodas.prier.board.post.post.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostSearchTermRepository extends JpaRepository<PostSearchTerm, Long> {
+
+    // 일치한 검색어 가중치 합계가 큰 순, 같으면 최신 글 순
+    @Query("SELECT t.post.postId AS postId, SUM(t.weight) AS score FROM PostSearchTerm t " +
+            "WHERE t.term IN :terms AND (:category IS NULL OR t.post.category = :category) " +
+            "GROUP BY t.post.postId " +
+            "ORDER BY SUM(t.weight) DESC, t.post.postId DESC")
+    List<PostSearchHit> searchFirst(@Param("terms") Collection<String> terms,
+                                    @Param("category") Category category,
+                                    Pageable pageable);
+
+    // 커서(score, postId) 다음 순위부터
+    @Query("SELECT t.post.postId AS postId, SUM(t.weight) AS score FROM PostSearchTerm t " +
+            "WHERE t.term IN :terms AND (:category IS NULL OR t.post.category = :category) " +
+            "GROUP BY t.post.postId " +
+            "HAVING SUM(t.weight) < :score OR (SUM(t.weight) = :score AND t.post.postId < :postId) " +
+            "ORDER BY SUM(t.weight) DESC, t.post.postId DESC")
+    List<PostSearchHit> searchNext(@Param("terms") Collection<String> terms,
+                                   @Param("category") Category category,
+                                   @Param("score") Long score,
+                                   @Param("postId") Long postId,
+                                   Pageable pageable);
+
+    // 게시글이 지금 색인된 검색어 (수정/삭제 시 영향받는 순위 캐시만 제거하는 데 사용)
+    @Query("SELECT t.term FROM PostSearchTerm t WHERE t.post.postId = :postId")
+    List<String> findTermsByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostSearchTerm t WHERE t.post.postId = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,56 @@
+package cocodas.prier.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 화면 하나를 여러 조회로 나눠 동시에 실행할 때 쓰는 실행기
+    // Java 21 이상이면 가상 스레드, 아니면 고정 크기 스레드 풀
+    // 어느 쪽이든 BoundedExecutor 로 동시 실행 수를 제한하고, 가득 차면 기다리지 않고 TaskRejectedException.
+    // 호출하는 쪽(ResponseDetailOrchestrator)이 빈 값으로 대체
+    @Bean
+    public Executor fanOutExecutor(@Value("${fan-out.concurrency:32}") int concurrency) {
+        if (Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fan-out-");
+            executor.setVirtualThreads(true);
+            log.info("fan-out 실행기: 가상 스레드, 동시 실행 {}개", concurrency);
+            return new BoundedExecutor(executor, concurrency);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        // 세마포어가 동시 작업 수를 스레드 수 이하로 막으므로 큐는 스레드가 자리를 넘겨받는 짧은 틈만 채움
+        executor.setQueueCapacity(concurrency);
+        executor.initialize();
+        log.info("fan-out 실행기: 스레드 풀, 동시 실행 {}개", concurrency);
+        return new BoundedExecutor(executor, concurrency);
+    }
+
+    // 커밋 후 마이페이지 요약 재생성용 (@Async). 유저 ID 별로 대기 작업은 하나만 두므로 큐는 대기 유저 수만큼만 참
+    // 큐까지 가득 차면 TaskRejectedException. 호출하는 쪽(MyPageChangedListener)이 요약을 지워 다음 조회 때 다시 생성
+    @Bean
+    public Executor myPageRefreshExecutor(@Value("${mypage.refresh.threads:2}") int threads,
+                                          @Value("${mypage.refresh.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mypage-refresh-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,41 @@
+package cocodas.prier.config;
+
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+// 동시 실행 수를 세마포어로 제한하는 실행기
+// 자리가 없으면 기다리지 않고 바로 TaskRejectedException. 가상 스레드든 스레드 풀이든 같은 방식으로 거절
+// (SimpleAsyncTaskExecutor.setConcurrencyLimit 은 자리가 날 때까지 호출한 스레드를 막음)
+public class BoundedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+
+    public BoundedExecutor(Executor delegate, int concurrency) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("동시 실행 한도를 넘었습니다.");
+        }
+
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package cocodas.prier.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// MySQL Connector/J 는 rewriteBatchedStatements=true 일 때만 JDBC 배치를 여러 행 INSERT 한 문장으로 보냄
+// 없으면 batchUpdate(OrderProductJdbcRepository 등)도 행마다 DB 를 왕복함
+// 운영 DB URL 은 환경 변수(SPRING_DATASOURCE_URL)로 들어오므로 URL 에 의존하지 않고 드라이버 속성으로 추가
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    enableBatchRewrite(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 풀이 커넥션을 만들기 전(빈 초기화 전)에 호출해야 적용됨
+    static void enableBatchRewrite(HikariDataSource dataSource) {
+        String jdbcUrl = dataSource.getJdbcUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:mysql:")) {
+            return;
+        }
+        if (jdbcUrl.contains(REWRITE_BATCHED_STATEMENTS)) {
+            // URL 에 직접 지정한 값이 있으면 그대로 둠
+            return;
+        }
+        dataSource.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+        log.info("MySQL JDBC 배치 INSERT 재작성(rewriteBatchedStatements) 활성화");
+    }
+}
@@ -0,0 +1,10 @@
+package cocodas.prier.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업(@Scheduled) 활성화. 조회수 반영 등 쓰기 지연 작업에서 사용
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -15,9 +15,13 @@ public class OrderProduct {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long orderProductId;
 
+    // 단가
     @Column(nullable = false)
     private Integer price;
 
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 1")
+    private Integer quantity = 1;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private Product product;
@@ -27,9 +31,10 @@ public class OrderProduct {
     private Orders orders;
 
     @Builder
-    public OrderProduct(Product product, Orders orders, Integer price) {
+    public OrderProduct(Product product, Orders orders, Integer price, Integer quantity) {
         this.product = product;
         this.orders = orders;
         this.price = price;
+        this.quantity = quantity == null ? 1 : quantity;
     }
 }
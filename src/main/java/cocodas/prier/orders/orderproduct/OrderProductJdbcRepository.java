@@ -0,0 +1,30 @@
+package cocodas.prier.orders.orderproduct;
+
+import cocodas.prier.orders.orderproduct.dto.OrderProductDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 주문 상품 여러 건을 JDBC 배치 INSERT 한 번으로 저장
+// OrderProduct 는 IDENTITY 전략이라 JPA saveAll 로는 배치가 되지 않아 JdbcTemplate 사용
+// MySQL 에서 한 문장으로 묶이려면 rewriteBatchedStatements=true 필요 (DataSourceConfig 에서 설정)
+@Repository
+@RequiredArgsConstructor
+public class OrderProductJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_product (order_id, product_id, price, quantity) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<OrderProductDto> orderProducts) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, orderProducts, orderProducts.size(), (ps, orderProduct) -> {
+            ps.setLong(1, orderProduct.getOrderId());
+            ps.setLong(2, orderProduct.getProductId());
+            ps.setInt(3, orderProduct.getUnitPrice());
+            ps.setInt(4, orderProduct.getCount());
+        });
+    }
+}
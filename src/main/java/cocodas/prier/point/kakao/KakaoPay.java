@@ -6,9 +6,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_kakao_pay_partner_order_id", columnNames = "partner_order_id"),
+        indexes = @Index(name = "idx_kakao_pay_tid", columnList = "tid"))
 public class KakaoPay {
 
     @Id
@@ -17,13 +21,65 @@ public class KakaoPay {
 
     private String tid;
 
+    // 결제마다 새로 만드는 주문 번호. 승인 redirect URL 에 실려 와서 tid 를 바로 찾는 키로 사용
+    @Column(name = "partner_order_id", length = 100)
+    private String partnerOrderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private KakaoPayStatus status;
+
+    // 마지막으로 상태가 바뀐 시각. APPROVING/CANCELING 으로 오래 남은 결제를 찾는 기준
+    private LocalDateTime statusChangedAt;
+
+    // 지금까지 환불이 확정된 금액 (원). 부분 환불 후 남은 금액은 다시 환불 가능
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer canceledAmount = 0;
+
+    // 진행 중인 환불 요청 금액(원)과 포인트 차감 키. 결과를 모를 때 주문 조회로 마무리하는 데 사용
+    private Integer refundCancelAmount;
+
+    @Column(length = 64)
+    private String refundAttemptKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Users users;
 
     @Builder
-    public KakaoPay(String tid, Users users) {
+    public KakaoPay(String tid, String partnerOrderId, KakaoPayStatus status, Users users) {
         this.tid = tid;
+        this.partnerOrderId = partnerOrderId;
+        this.status = status;
         this.users = users;
+        this.statusChangedAt = LocalDateTime.now();
+    }
+
+    public void ready(String tid) {
+        this.tid = tid;
+        changeStatus(KakaoPayStatus.READY);
+    }
+
+    public void changeStatus(KakaoPayStatus status) {
+        this.status = status;
+        this.statusChangedAt = LocalDateTime.now();
+    }
+
+    // 환불 확정: 남은 금액이 있으면 다시 환불할 수 있는 상태로
+    public void completeRefund(int cancelAmount, int remainingAmount) {
+        this.canceledAmount = (canceledAmount == null ? 0 : canceledAmount) + cancelAmount;
+        clearRefund();
+        changeStatus(remainingAmount > 0 ? KakaoPayStatus.APPROVED : KakaoPayStatus.CANCELED);
+    }
+
+    // 카카오페이가 환불을 거절했거나 환불되지 않은 것으로 확인됨
+    public void abortRefund() {
+        clearRefund();
+        changeStatus(KakaoPayStatus.APPROVED);
+    }
+
+    private void clearRefund() {
+        this.refundCancelAmount = null;
+        this.refundAttemptKey = null;
     }
 }
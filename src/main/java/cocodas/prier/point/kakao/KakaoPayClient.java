@@ -0,0 +1,57 @@
+package cocodas.prier.point.kakao;
+
+import cocodas.prier.point.kakao.request.PayRequest;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+// 카카오페이 API 호출용 공용 클라이언트
+// JDK HttpClient 하나를 재사용해서 keep-alive 연결을 풀링하고, 연결/응답 시간 제한을 둠
+@Component
+public class KakaoPayClient {
+
+    private static final MediaType FORM_UTF8 = new MediaType(MediaType.APPLICATION_FORM_URLENCODED, StandardCharsets.UTF_8);
+
+    @Value("${kakao.admin-key}")
+    private String adminKey;
+
+    @Value("${kakao.pay.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${kakao.pay.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    private RestClient restClient;
+
+    @PostConstruct
+    public void initializeClient() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "KakaoAK " + adminKey)
+                .build();
+    }
+
+    // 4xx 응답은 HttpClientErrorException, 5xx 는 HttpServerErrorException 으로 던짐
+    public <T> T post(PayRequest payRequest, Class<T> responseType) {
+        return restClient.post()
+                .uri(payRequest.getUrl())
+                .contentType(FORM_UTF8)
+                .body(payRequest.getMap())
+                .retrieve()
+                .body(responseType);
+    }
+}
@@ -4,6 +4,7 @@ import cocodas.prier.point.kakao.request.RefundRequest;
 import cocodas.prier.point.kakao.response.BaseResponse;
 import cocodas.prier.point.kakao.response.KakaoCancelResponse;
 import cocodas.prier.point.kakao.response.PayApproveResDto;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,22 +20,12 @@ public class KakaoPayController {
 
     private final KakaoPayService kakaoPayService;
 
-    private static String getToken(String auth) {
-        if (auth == null || !auth.startsWith("Bearer ")) {
-            throw new RuntimeException("JWT Token is missing");
-        }
-
-        return auth.substring(7);
-    }
-
     @PostMapping("/ready")
     public ResponseEntity<?> getRedirectUrl(@RequestBody PayInfoDto payInfoDto,
-                                            @RequestHeader("Authorization") String auth) {
-
-        String token = getToken(auth);
+                                            @LoginUser Long userId) {
 
         try {
-            return ResponseEntity.ok(kakaoPayService.getRedirectUrl(payInfoDto, token));
+            return ResponseEntity.ok(kakaoPayService.getRedirectUrl(payInfoDto, userId));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new BaseResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage()));
@@ -43,10 +34,10 @@ public class KakaoPayController {
 
     @GetMapping("/success")
     public void afterGetRedirectUrl(HttpServletResponse response,
-                                    @RequestParam("id") Long id,
+                                    @RequestParam("orderId") String partnerOrderId,
                                     @RequestParam("pg_token") String pgToken) {
         try {
-            PayApproveResDto kakaoApprove = kakaoPayService.getApprove(pgToken, id);
+            PayApproveResDto kakaoApprove = kakaoPayService.getApprove(pgToken, partnerOrderId);
             response.sendRedirect("http://43.203.209.250/store");
 
 
@@ -85,14 +76,13 @@ public class KakaoPayController {
     // 환불
     @PostMapping("/refund")
     public ResponseEntity<?> refund(@RequestBody RefundRequest refundRequest,
-                                    @RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
+                                    @LoginUser Long userId) {
         try {
             KakaoCancelResponse kakaoCancelResponse = kakaoPayService.kakaoCancel(
                     refundRequest.getTid(),
                     refundRequest.getCancelAmount(),
                     refundRequest.getCancelTaxFreeAmount(),
-                    token);
+                    userId);
 
             return new ResponseEntity<>(kakaoCancelResponse, HttpStatus.OK);
         } catch (Exception e) {
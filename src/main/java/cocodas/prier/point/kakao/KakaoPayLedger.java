@@ -0,0 +1,139 @@
+package cocodas.prier.point.kakao;
+
+import cocodas.prier.point.pointTransaction.PointTransaction;
+import cocodas.prier.point.pointTransaction.PointTransactionRepository;
+import cocodas.prier.point.pointTransaction.PointTransactionService;
+import cocodas.prier.point.pointTransaction.TransactionType;
+import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.Users;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 카카오페이 결제의 DB 단계 (예약 → 확정/보상)
+// 외부 API 호출은 KakaoPayService 에서 트랜잭션 밖에서 하고, 그 앞뒤 단계만 여기서 짧은 트랜잭션으로 처리
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class KakaoPayLedger {
+
+    private final KakaoPayRepository kakaoPayRepository;
+    private final UserRepository userRepository;
+    private final PointTransactionService pointTransactionService;
+    private final PointTransactionRepository pointTransactionRepository;
+
+    // 결제 준비 전에 주문 번호로 결제 행 예약
+    public void reserveReady(Long userId, String partnerOrderId) {
+        kakaoPayRepository.save(KakaoPay.builder()
+                .partnerOrderId(partnerOrderId)
+                .status(KakaoPayStatus.REQUESTED)
+                .users(userRepository.getReferenceById(userId))
+                .build());
+    }
+
+    public void confirmReady(String partnerOrderId, String tid) {
+        getByPartnerOrderId(partnerOrderId).ready(tid);
+    }
+
+    public void fail(String partnerOrderId) {
+        getByPartnerOrderId(partnerOrderId).changeStatus(KakaoPayStatus.FAILED);
+    }
+
+    // 승인 요청이 중복으로 들어와도 READY → APPROVING 은 한 번만 성공
+    public KakaoPay startApproval(String partnerOrderId) {
+        KakaoPay kakaoPay = getByPartnerOrderId(partnerOrderId);
+        if (kakaoPayRepository.changeStatus(kakaoPay.getKakaoPayId(),
+                List.of(KakaoPayStatus.READY), KakaoPayStatus.APPROVING, false, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("이미 처리 중이거나 완료된 결제입니다: " + partnerOrderId);
+        }
+        return kakaoPay;
+    }
+
+    // 승인 완료: 포인트 적립 (charge:{tid} 키로 한 번만 적립)
+    public void confirmApproval(String partnerOrderId, int points) {
+        KakaoPay kakaoPay = getByPartnerOrderId(partnerOrderId);
+        kakaoPay.changeStatus(KakaoPayStatus.APPROVED);
+
+        Users user = findUser(kakaoPay.getUsers().getUserId());
+        pointTransactionService.increasePoints(user, points, TransactionType.POINT_CHARGE, kakaoPay.getTid(),
+                "charge:" + kakaoPay.getTid());
+    }
+
+    // 카카오페이에서 아직 승인되지 않은 것으로 확인된 결제는 다시 승인 요청할 수 있게 READY 로 되돌림
+    public void reopenApproval(String partnerOrderId) {
+        KakaoPay kakaoPay = getByPartnerOrderId(partnerOrderId);
+        kakaoPayRepository.changeStatus(kakaoPay.getKakaoPayId(),
+                List.of(KakaoPayStatus.APPROVING), KakaoPayStatus.READY, false, LocalDateTime.now());
+    }
+
+    // 환불 요청 전에 환불 금액만큼 포인트를 먼저 차감해서, 환불 중에 같은 포인트를 쓰지 못하게 함
+    // 포인트는 충전 때와 같이 결제 금액(원)의 1/10
+    public void reserveRefund(Long userId, String tid, int cancelAmount, String attemptKey) {
+        PointTransaction charge = pointTransactionRepository.findByTidAndTransactionType(tid, TransactionType.POINT_CHARGE)
+                .orElseThrow(() -> new RuntimeException("Transaction not found"));
+        if (!charge.getUsers().getUserId().equals(userId)) {
+            throw new RuntimeException("Transaction not found");
+        }
+        if (!pointTransactionService.canRefund(userId, charge.getTransactionId())) {
+            throw new RuntimeException("Cannot refund: points have been used after the transaction");
+        }
+
+        // 예전 결제 행은 상태가 없으므로 그대로 환불 허용
+        Optional<KakaoPay> kakaoPay = kakaoPayRepository.findLatestByTid(tid);
+        int refundedPoints = kakaoPay.map(KakaoPay::getCanceledAmount).orElse(0) / 10;
+        if (cancelAmount <= 0 || cancelAmount % 10 != 0 || cancelAmount / 10 > charge.getAmount() - refundedPoints) {
+            throw new IllegalArgumentException("환불할 수 없는 금액입니다: " + cancelAmount);
+        }
+        kakaoPay.ifPresent(pay -> {
+            if (kakaoPayRepository.startRefund(pay.getKakaoPayId(), cancelAmount, attemptKey, LocalDateTime.now()) == 0) {
+                throw new IllegalStateException("이미 환불 중이거나 환불된 결제입니다: " + tid);
+            }
+        });
+
+        pointTransactionService.decreasePoints(findUser(userId), cancelAmount / 10, TransactionType.REFUND, tid,
+                "refund:" + tid + ":" + attemptKey);
+    }
+
+    // 이 시도의 환불이 아직 진행 중일 때만 확정 (요청 스레드와 재처리 스케줄러가 겹쳐도 한 번만 반영)
+    public void confirmRefund(String tid, int cancelAmount, int remainingAmount, String attemptKey) {
+        kakaoPayRepository.findLatestByTid(tid)
+                .filter(kakaoPay -> isRefunding(kakaoPay, attemptKey))
+                .ifPresent(kakaoPay -> kakaoPay.completeRefund(cancelAmount, remainingAmount));
+    }
+
+    // 카카오페이가 환불을 거절했으면 먼저 차감한 포인트를 돌려주고 다시 환불 가능한 상태로
+    public void compensateRefund(Long userId, String tid, int cancelAmount, String attemptKey) {
+        Optional<KakaoPay> kakaoPay = kakaoPayRepository.findLatestByTid(tid);
+        if (kakaoPay.isPresent() && !isRefunding(kakaoPay.get(), attemptKey)) {
+            return;
+        }
+
+        pointTransactionService.increasePoints(findUser(userId), cancelAmount / 10, TransactionType.REFUND, tid,
+                "refund-rollback:" + tid + ":" + attemptKey);
+        kakaoPay.ifPresent(KakaoPay::abortRefund);
+    }
+
+    // 외부 호출 결과를 모른 채 grace 이상 APPROVING/CANCELING 에 머문 결제
+    @Transactional(readOnly = true)
+    public List<KakaoPay> findStuck(LocalDateTime before) {
+        return kakaoPayRepository.findStuck(List.of(KakaoPayStatus.APPROVING, KakaoPayStatus.CANCELING), before);
+    }
+
+    private static boolean isRefunding(KakaoPay kakaoPay, String attemptKey) {
+        return kakaoPay.getStatus() == KakaoPayStatus.CANCELING && attemptKey.equals(kakaoPay.getRefundAttemptKey());
+    }
+
+    private KakaoPay getByPartnerOrderId(String partnerOrderId) {
+        return kakaoPayRepository.findByPartnerOrderId(partnerOrderId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 결제"));
+    }
+
+    private Users findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
+    }
+}
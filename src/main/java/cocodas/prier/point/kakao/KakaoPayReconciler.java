@@ -0,0 +1,34 @@
+package cocodas.prier.point.kakao;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 승인/환불 요청이 타임아웃 등으로 결과를 모른 채 끝난 결제를 주기적으로 주문 조회해서 확정 (기본: 1분마다)
+// 요청 스레드가 아직 처리 중일 수 있으므로 grace 시간이 지난 결제만 대상
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoPayReconciler {
+
+    private final KakaoPayService kakaoPayService;
+
+    @Value("${kakao.pay.reconcile-grace-seconds:120}")
+    private long graceSeconds;
+
+    @Scheduled(fixedDelayString = "${kakao.pay.reconcile-ms:60000}")
+    public void reconcile() {
+        try {
+            int reconciled = kakaoPayService.reconcileStuckPayments(LocalDateTime.now().minusSeconds(graceSeconds));
+            if (reconciled > 0) {
+                log.info("카카오페이 결제 재처리 완료: {}건", reconciled);
+            }
+        } catch (RuntimeException e) {
+            log.warn("카카오페이 결제 재처리 실패", e);
+        }
+    }
+}
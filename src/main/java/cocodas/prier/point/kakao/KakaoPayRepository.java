@@ -1,10 +1,45 @@
 package cocodas.prier.point.kakao;
 
-import cocodas.prier.user.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface KakaoPayRepository extends JpaRepository<KakaoPay, Long> {
-    List<KakaoPay> findKakaoPayByUsers(Users user);
+    Optional<KakaoPay> findByPartnerOrderId(String partnerOrderId);
+
+    @Query("SELECT k FROM KakaoPay k WHERE k.tid = :tid ORDER BY k.KakaoPayId DESC LIMIT 1")
+    Optional<KakaoPay> findLatestByTid(@Param("tid") String tid);
+
+    // 현재 상태가 from 중 하나일 때만 to 로 변경. 0 이면 다른 요청이 이미 처리 중이거나 처리함
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE KakaoPay k SET k.status = :to, k.statusChangedAt = :now " +
+            "WHERE k.KakaoPayId = :kakaoPayId AND (k.status IN :from OR (:allowLegacy = true AND k.status IS NULL))")
+    int changeStatus(@Param("kakaoPayId") Long kakaoPayId,
+                     @Param("from") Collection<KakaoPayStatus> from,
+                     @Param("to") KakaoPayStatus to,
+                     @Param("allowLegacy") boolean allowLegacy,
+                     @Param("now") LocalDateTime now);
+
+    // APPROVED(또는 상태 없는 예전 결제) → CANCELING 과 진행 중인 환불 정보를 한 번에 기록
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE KakaoPay k SET k.status = cocodas.prier.point.kakao.KakaoPayStatus.CANCELING, " +
+            "k.refundCancelAmount = :cancelAmount, k.refundAttemptKey = :attemptKey, k.statusChangedAt = :now " +
+            "WHERE k.KakaoPayId = :kakaoPayId " +
+            "AND (k.status = cocodas.prier.point.kakao.KakaoPayStatus.APPROVED OR k.status IS NULL)")
+    int startRefund(@Param("kakaoPayId") Long kakaoPayId,
+                    @Param("cancelAmount") int cancelAmount,
+                    @Param("attemptKey") String attemptKey,
+                    @Param("now") LocalDateTime now);
+
+    // 외부 호출 결과를 모른 채 before 보다 오래 머문 결제
+    @Query("SELECT k FROM KakaoPay k WHERE k.status IN :statuses " +
+            "AND (k.statusChangedAt IS NULL OR k.statusChangedAt < :before)")
+    List<KakaoPay> findStuck(@Param("statuses") Collection<KakaoPayStatus> statuses,
+                             @Param("before") LocalDateTime before);
 }
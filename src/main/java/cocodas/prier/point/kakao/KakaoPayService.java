@@ -1,171 +1,164 @@
 package cocodas.prier.point.kakao;
 
-import cocodas.prier.point.kakao.response.KakaoCancelResponse;
-import cocodas.prier.point.pointTransaction.PointTransaction;
-import cocodas.prier.point.pointTransaction.PointTransactionRepository;
-import cocodas.prier.point.pointTransaction.PointTransactionService;
-import cocodas.prier.point.pointTransaction.TransactionType;
 import cocodas.prier.point.kakao.request.MakePayRequest;
-import cocodas.prier.point.kakao.request.PayRequest;
+import cocodas.prier.point.kakao.response.KakaoCancelResponse;
+import cocodas.prier.point.kakao.response.KakaoOrderResponse;
 import cocodas.prier.point.kakao.response.PayApproveResDto;
 import cocodas.prier.point.kakao.response.PayReadyResDto;
-import cocodas.prier.user.UserRepository;
-import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
 
+// 카카오페이 API 호출은 DB 트랜잭션 밖에서 실행
+// 호출 전 KakaoPayLedger 로 상태를 예약하고, 결과에 따라 확정하거나 되돌림
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoPayService {
 
     private final MakePayRequest makePayRequest;
-    private final UserRepository userRepository;
-    private final KakaoPayRepository kakaoPayRepository;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final PointTransactionService pointTransactionService;
-    private final PointTransactionRepository pointTransactionRepository;
+    private final KakaoPayClient kakaoPayClient;
+    private final KakaoPayLedger kakaoPayLedger;
 
-    @Value("${kakao.admin-key}")
-    private String adminKey;
+    // 주문 조회 API 의 결제 상태
+    private static final Set<String> APPROVED_ORDER_STATUSES = Set.of("SUCCESS_PAYMENT", "PART_CANCEL_PAYMENT");
+    private static final Set<String> FAILED_ORDER_STATUSES = Set.of("FAIL_AUTH_PASSWORD", "QUIT_PAYMENT", "FAIL_PAYMENT");
+    private static final Set<String> PENDING_ORDER_STATUSES = Set.of("READY", "SEND_TMS", "OPEN_PAYMENT",
+            "SELECT_METHOD", "ARS_WAITING", "AUTH_PASSWORD", "ISSUED_SID");
 
     @Value("${cid}")
     private String cid;
 
-    private Users getUsersByToken(String token) {
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
-        log.info("유저 정보: " + user.getNickname());
-        return user;
-    }
-
-    @Transactional
-    public PayReadyResDto getRedirectUrl(PayInfoDto payInfoDto, String token) throws Exception {
-
-        Users user = getUsersByToken(token);
-        Long id = user.getUserId();
-
-        HttpHeaders headers = new HttpHeaders();
-
-        String auth = "KakaoAK " + adminKey;
-        headers.set("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-        headers.set("Authorization", auth);
+    public PayReadyResDto getRedirectUrl(PayInfoDto payInfoDto, Long userId) {
+        String partnerOrderId = "point-" + userId + "-" + UUID.randomUUID().toString().replace("-", "");
 
-        PayRequest payRequest = makePayRequest.getReadyRequest(id, payInfoDto);
-
-        HttpEntity<MultiValueMap<String, String>> urlRequest = new HttpEntity<>(payRequest.getMap(), headers);
-
-        RestTemplate restTemplate = new RestTemplate();
-        PayReadyResDto payReadyResDto = restTemplate.postForObject(payRequest.getUrl(), urlRequest, PayReadyResDto.class);
-
-        KakaoPay kakaoPay = KakaoPay.builder()
-                .tid(payReadyResDto.getTid())
-                .users(user)
-                .build();
-
-        kakaoPayRepository.save(kakaoPay);
-
-        return payReadyResDto;
+        kakaoPayLedger.reserveReady(userId, partnerOrderId);
+        try {
+            PayReadyResDto payReadyResDto = kakaoPayClient.post(
+                    makePayRequest.getReadyRequest(partnerOrderId, payInfoDto), PayReadyResDto.class);
+            kakaoPayLedger.confirmReady(partnerOrderId, payReadyResDto.getTid());
+            return payReadyResDto;
+        } catch (RuntimeException e) {
+            kakaoPayLedger.fail(partnerOrderId);
+            throw e;
+        }
     }
 
-    @Transactional
-    public PayApproveResDto getApprove(String pgToken, Long id) throws Exception {
-
-        Users user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
-        log.info("유저 정보: " + user.getNickname());
-
-        List<KakaoPay> kakaoPay = kakaoPayRepository.findKakaoPayByUsers(user);
-
-        String tid = kakaoPay.get(kakaoPay.size() - 1).getTid();
-
-        HttpHeaders headers = new HttpHeaders();
-        String auth = "KakaoAK " + adminKey;
-
-        headers.set("Content-type","application/x-www-form-urlencoded;charset=utf-8");
-        headers.set("Authorization",auth);
-
-        PayRequest payRequest = makePayRequest.getApproveRequest(tid, id, pgToken);
-
-        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(payRequest.getMap(), headers);
-
-        RestTemplate restTemplate = new RestTemplate();
-        PayApproveResDto payApproveResDto = restTemplate.postForObject(payRequest.getUrl(), requestEntity, PayApproveResDto.class);
+    public PayApproveResDto getApprove(String pgToken, String partnerOrderId) {
+        KakaoPay kakaoPay = kakaoPayLedger.startApproval(partnerOrderId);
+        String tid = kakaoPay.getTid();
 
+        PayApproveResDto payApproveResDto;
+        try {
+            payApproveResDto = kakaoPayClient.post(
+                    makePayRequest.getApproveRequest(tid, partnerOrderId, pgToken), PayApproveResDto.class);
+        } catch (HttpClientErrorException e) {
+            // 카카오페이가 승인을 거절한 경우만 실패로 확정
+            kakaoPayLedger.fail(partnerOrderId);
+            throw e;
+        } catch (RuntimeException e) {
+            // 타임아웃/5xx 는 이미 승인됐을 수 있으므로 APPROVING 으로 남겨 두고 주문 조회로 확정 (KakaoPayReconciler)
+            log.warn("카카오페이 승인 결과 확인 필요 - tid: {}, partnerOrderId: {}", tid, partnerOrderId, e);
+            throw e;
+        }
         log.info("결과: " + payApproveResDto.toString());
 
-        pointTransactionService.increasePoints(user, payApproveResDto.getAmount().getTotal() / 10, TransactionType.POINT_CHARGE, tid);
-
+        try {
+            kakaoPayLedger.confirmApproval(partnerOrderId, payApproveResDto.getAmount().getTotal() / 10);
+        } catch (RuntimeException e) {
+            // 카카오페이 승인은 끝났으므로 상태는 APPROVING 으로 남겨 두고 재처리 (charge:{tid} 키로 재적립 시 중복 방지)
+            log.error("카카오페이 승인 후 포인트 적립 실패 - tid: {}, partnerOrderId: {}", tid, partnerOrderId, e);
+            throw e;
+        }
         return payApproveResDto;
     }
 
-    public KakaoCancelResponse kakaoCancel(String tid, int cancelAmount, int cancelTaxFreeAmount, String token) {
-        Users user = getUsersByToken(token);  // 토큰을 사용하여 사용자 검증
-
-        // 해당 PointTransaction 찾기
-        PointTransaction transaction = pointTransactionRepository.findByTid(tid)
-                .orElseThrow(() -> new RuntimeException("Transaction not found"));
-
-        // 환불 가능 여부 확인
-        if (!pointTransactionService.canRefund(user.getUserId(), transaction.getTransactionId())) {
-            throw new RuntimeException("Cannot refund: points have been used after the transaction");
-        }
-
-        // 카카오페이 요청
-        MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
-        parameters.add("cid", cid);
-        parameters.add("tid", tid); // 환불할 결제 고유 번호
-        parameters.add("cancel_amount", String.valueOf(cancelAmount)); // 환불 금액
-        parameters.add("cancel_tax_free_amount", String.valueOf(cancelTaxFreeAmount)); // 환불 비과세 금액
-
-        // 파라미터, 헤더
-        HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(parameters, getHeaders());
-
-        // 외부에 보낼 url
-        RestTemplate restTemplate = new RestTemplate();
+    public KakaoCancelResponse kakaoCancel(String tid, int cancelAmount, int cancelTaxFreeAmount, Long userId) {
+        String attemptKey = UUID.randomUUID().toString();
 
+        // 환불 금액만큼 포인트를 먼저 차감해 두고, 카카오페이가 환불을 거절하면 돌려줌
+        kakaoPayLedger.reserveRefund(userId, tid, cancelAmount, attemptKey);
+        KakaoCancelResponse kakaoCancelResponse;
         try {
-            ResponseEntity<KakaoCancelResponse> responseEntity = restTemplate.postForEntity(
-                    "https://kapi.kakao.com/v1/payment/cancel",
-                    requestEntity,
-                    KakaoCancelResponse.class);
-
-            if (responseEntity.getStatusCode() == HttpStatus.OK) {
-                log.info("Payment cancellation successful: " + responseEntity.getBody());
-                pointTransactionService.decreasePoints(user, responseEntity.getBody().getAmount().getTotal() / 10, TransactionType.REFUND);
-                return responseEntity.getBody();
-            } else {
-                log.error("Failed to cancel payment: " + responseEntity.getStatusCode());
-                throw new RuntimeException("Failed to cancel payment: " + responseEntity.getStatusCode());
-            }
-        } catch (Exception e) {
-            log.error("Exception during payment cancellation", e);
+            kakaoCancelResponse = kakaoPayClient.post(
+                    makePayRequest.getCancelRequest(cid, tid, cancelAmount, cancelTaxFreeAmount), KakaoCancelResponse.class);
+        } catch (HttpClientErrorException e) {
+            log.error("Payment cancellation rejected", e);
+            kakaoPayLedger.compensateRefund(userId, tid, cancelAmount, attemptKey);
+            throw e;
+        } catch (RuntimeException e) {
+            // 타임아웃/5xx 는 환불이 됐는지 알 수 없으므로 CANCELING 으로 남겨 두고 주문 조회로 확정
+            // (결제 행이 없는 예전 결제는 재처리 대상이 아니므로 로그로 수동 확인)
+            log.error("Payment cancellation result unknown - tid: {}, attemptKey: {}", tid, attemptKey, e);
             throw e;
         }
+        log.info("Payment cancellation successful: " + kakaoCancelResponse);
+        kakaoPayLedger.confirmRefund(tid, cancelAmount, remainingAmount(kakaoCancelResponse), attemptKey);
+        return kakaoCancelResponse;
     }
 
-    private HttpHeaders getHeaders() {
-        HttpHeaders httpHeaders = new HttpHeaders();
+    // APPROVING/CANCELING 으로 남은 결제를 카카오페이 주문 조회 결과로 확정
+    public int reconcileStuckPayments(LocalDateTime before) {
+        int reconciled = 0;
+        for (KakaoPay kakaoPay : kakaoPayLedger.findStuck(before)) {
+            try {
+                if (reconcile(kakaoPay)) {
+                    reconciled++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("카카오페이 결제 재처리 실패 - tid: {}", kakaoPay.getTid(), e);
+            }
+        }
+        return reconciled;
+    }
 
-        String auth = "KakaoAK " + adminKey;
+    private boolean reconcile(KakaoPay kakaoPay) {
+        if (kakaoPay.getTid() == null) {
+            return false;
+        }
+        KakaoOrderResponse order = kakaoPayClient.post(
+                makePayRequest.getOrderRequest(cid, kakaoPay.getTid()), KakaoOrderResponse.class);
+        String status = order.getStatus();
+
+        if (kakaoPay.getStatus() == KakaoPayStatus.APPROVING) {
+            if (APPROVED_ORDER_STATUSES.contains(status)) {
+                kakaoPayLedger.confirmApproval(kakaoPay.getPartnerOrderId(), order.getAmount().getTotal() / 10);
+            } else if (FAILED_ORDER_STATUSES.contains(status)) {
+                kakaoPayLedger.fail(kakaoPay.getPartnerOrderId());
+            } else if (PENDING_ORDER_STATUSES.contains(status)) {
+                kakaoPayLedger.reopenApproval(kakaoPay.getPartnerOrderId());
+            } else {
+                return false;
+            }
+            return true;
+        }
 
-        httpHeaders.set("Authorization", auth);
-        httpHeaders.set("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
+        Integer cancelAmount = kakaoPay.getRefundCancelAmount();
+        String attemptKey = kakaoPay.getRefundAttemptKey();
+        if (cancelAmount == null || attemptKey == null) {
+            return false;
+        }
+        int canceledBefore = kakaoPay.getCanceledAmount() == null ? 0 : kakaoPay.getCanceledAmount();
+        int canceledNow = order.getCanceled_amount() == null ? 0 : order.getCanceled_amount().getTotal();
+        Long userId = kakaoPay.getUsers().getUserId();
+        if (canceledNow >= canceledBefore + cancelAmount) {
+            int remaining = order.getCancel_available_amount() == null ? 0 : order.getCancel_available_amount().getTotal();
+            kakaoPayLedger.confirmRefund(kakaoPay.getTid(), cancelAmount, remaining, attemptKey);
+        } else if (canceledNow == canceledBefore && APPROVED_ORDER_STATUSES.contains(status)) {
+            kakaoPayLedger.compensateRefund(userId, kakaoPay.getTid(), cancelAmount, attemptKey);
+        } else {
+            return false;
+        }
+        return true;
+    }
 
-        return httpHeaders;
+    private static int remainingAmount(KakaoCancelResponse response) {
+        return response.getCancel_available_amount() == null ? 0 : response.getCancel_available_amount().getTotal();
     }
 }
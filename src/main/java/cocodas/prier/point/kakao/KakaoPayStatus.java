@@ -0,0 +1,6 @@
+package cocodas.prier.point.kakao;
+
+// 결제 진행 상태. 외부 호출 전후로 상태를 바꿔 중복 승인/환불을 막음
+public enum KakaoPayStatus {
+    REQUESTED, READY, APPROVING, APPROVED, CANCELING, CANCELED, FAILED
+}
@@ -9,13 +9,11 @@ import org.springframework.util.LinkedMultiValueMap;
 @RequiredArgsConstructor
 public class MakePayRequest {
 
-    public PayRequest getReadyRequest(Long id, PayInfoDto payInfoDto) {
+    public PayRequest getReadyRequest(String partnerOrderId, PayInfoDto payInfoDto) {
         LinkedMultiValueMap<String, String> map = new LinkedMultiValueMap<>();
 
-        String orderId = "point" + id;
-
         map.add("cid", "TC0ONETIME");
-        map.add("partner_order_id", orderId);
+        map.add("partner_order_id", partnerOrderId);
         map.add("partner_user_id", "prier");
 
         map.add("item_name",payInfoDto.getItemName());
@@ -23,26 +21,45 @@ public class MakePayRequest {
         map.add("total_amount", payInfoDto.getPrice()+"");
         map.add("tax_free_amount", "0");
 
-        map.add("approval_url", "http://3.38.181.14:8080/api/payment/success?id=" + id); // 성공 시 redirect url
+        map.add("approval_url", "http://3.38.181.14:8080/api/payment/success?orderId=" + partnerOrderId); // 성공 시 redirect url
         map.add("cancel_url", "http://3.38.181.14:8080/api/payment/cancel"); // 취소 시 redirect url
         map.add("fail_url", "http://3.38.181.14:8080/api/payment/fail"); // 실패 시 redirect url
 
         return new PayRequest("https://kapi.kakao.com/v1/payment/ready", map);
     }
 
-    public PayRequest getApproveRequest(String tid, Long id, String pgToken) {
+    public PayRequest getApproveRequest(String tid, String partnerOrderId, String pgToken) {
         LinkedMultiValueMap<String,String> map=new LinkedMultiValueMap<>();
 
-        String orderId = "point" + id;
-
         map.add("cid", "TC0ONETIME");
 
         map.add("tid", tid);
-        map.add("partner_order_id", orderId);
+        map.add("partner_order_id", partnerOrderId);
         map.add("partner_user_id", "prier");
 
         map.add("pg_token", pgToken);
 
         return new PayRequest("https://kapi.kakao.com/v1/payment/approve", map);
     }
+
+    public PayRequest getCancelRequest(String cid, String tid, int cancelAmount, int cancelTaxFreeAmount) {
+        LinkedMultiValueMap<String, String> map = new LinkedMultiValueMap<>();
+
+        map.add("cid", cid);
+        map.add("tid", tid); // 환불할 결제 고유 번호
+        map.add("cancel_amount", String.valueOf(cancelAmount)); // 환불 금액
+        map.add("cancel_tax_free_amount", String.valueOf(cancelTaxFreeAmount)); // 환불 비과세 금액
+
+        return new PayRequest("https://kapi.kakao.com/v1/payment/cancel", map);
+    }
+
+    // 결제 상태 조회 (승인/환불 결과를 모를 때 확인용)
+    public PayRequest getOrderRequest(String cid, String tid) {
+        LinkedMultiValueMap<String, String> map = new LinkedMultiValueMap<>();
+
+        map.add("cid", cid);
+        map.add("tid", tid);
+
+        return new PayRequest("https://kapi.kakao.com/v1/payment/order", map);
+    }
 }
\ No newline at end of file
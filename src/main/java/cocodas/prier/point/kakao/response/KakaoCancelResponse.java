@@ -15,5 +15,6 @@ public class KakaoCancelResponse {
     private String payment_method_type; // 결제 수단
     private Amount amount; // 결제 금액 정보
     private ApprovedCancelAmount approved_cancel_amount; // 이번 요청으로 취소된 금액
+    private CancelAvailableAmount cancel_available_amount; // 남은 취소 가능 금액
     private String canceled_at; // 결제 취소 시각
 }
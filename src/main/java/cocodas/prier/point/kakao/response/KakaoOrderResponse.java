@@ -0,0 +1,18 @@
+package cocodas.prier.point.kakao.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class KakaoOrderResponse {
+
+    private String tid; // 결제 고유 번호
+    private String status; // 결제 상태 (SUCCESS_PAYMENT, PART_CANCEL_PAYMENT, CANCEL_PAYMENT 등)
+    private String partner_order_id; // 가맹점 주문 번호
+    private Amount amount; // 결제 금액
+    private CanceledAmount canceled_amount; // 지금까지 취소된 금액
+    private CancelAvailableAmount cancel_available_amount; // 남은 취소 가능 금액
+}
@@ -0,0 +1,41 @@
+package cocodas.prier.point.pointTransaction;
+
+import cocodas.prier.user.Users;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 유저별 월간 포인트 요약 (적립 합계, 사용 합계, 거래 수, 월말 잔액)
+// 거래 기록 시 PointMonthlySummaryRepository 의 UPSERT 로만 갱신
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_point_monthly_summary", columnNames = {"user_id", "month"}))
+public class PointMonthlySummary {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long pointMonthlySummaryId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Users users;
+
+    // 해당 월 1일
+    @Column(nullable = false)
+    private LocalDate month;
+
+    @Column(nullable = false)
+    private int earned;
+
+    @Column(nullable = false)
+    private int spent;
+
+    @Column(nullable = false)
+    private int transactionCount;
+
+    // 그 달 마지막 거래 직후 잔액
+    @Column(nullable = false)
+    private int closingBalance;
+}
@@ -0,0 +1,28 @@
+package cocodas.prier.point.pointTransaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 기존 포인트 거래로 월간 요약을 한 번 채움
+// point.monthly-summary.backfill=true 로 기동했을 때만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.monthly-summary.backfill", havingValue = "true")
+public class PointMonthlySummaryBackfillRunner implements ApplicationRunner {
+
+    private final PointMonthlySummaryRepository pointMonthlySummaryRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        pointMonthlySummaryRepository.deleteAllSummaries();
+        int rebuilt = pointMonthlySummaryRepository.rebuildAll();
+        log.info("포인트 월간 요약 백필 완료: {}개", rebuilt);
+    }
+}
@@ -0,0 +1,42 @@
+package cocodas.prier.point.pointTransaction;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PointMonthlySummaryRepository extends JpaRepository<PointMonthlySummary, Long> {
+
+    @Query("SELECT s FROM PointMonthlySummary s WHERE s.users.userId = :userId ORDER BY s.month DESC")
+    List<PointMonthlySummary> findAllByUserId(@Param("userId") Long userId);
+
+    // 거래 한 건을 해당 월 요약에 더함. 같은 유저의 거래는 잔액 UPDATE 의 행 잠금으로 순서대로 들어오므로
+    // 마지막에 기록된 잔액이 월말 잔액
+    @Modifying
+    @Query(value = "INSERT INTO point_monthly_summary (user_id, month, earned, spent, transaction_count, closing_balance) " +
+            "VALUES (:userId, :month, GREATEST(:amount, 0), GREATEST(-:amount, 0), 1, :balance) " +
+            "ON DUPLICATE KEY UPDATE earned = earned + GREATEST(:amount, 0), spent = spent + GREATEST(-:amount, 0), " +
+            "transaction_count = transaction_count + 1, closing_balance = :balance", nativeQuery = true)
+    void addTransaction(@Param("userId") Long userId, @Param("month") LocalDate month,
+                        @Param("amount") int amount, @Param("balance") int balance);
+
+    // 백필용: 기존 거래 전체로 월간 요약을 다시 만듦
+    @Modifying
+    @Query(value = "DELETE FROM point_monthly_summary", nativeQuery = true)
+    void deleteAllSummaries();
+
+    @Modifying
+    @Query(value = "INSERT INTO point_monthly_summary (user_id, month, earned, spent, transaction_count, closing_balance) " +
+            "SELECT g.user_id, g.month, g.earned, g.spent, g.transaction_count, last.balance " +
+            "FROM (SELECT t.user_id, DATE_FORMAT(t.created_at, '%Y-%m-01') AS month, " +
+            "SUM(GREATEST(t.amount, 0)) AS earned, SUM(GREATEST(-t.amount, 0)) AS spent, " +
+            "COUNT(*) AS transaction_count, MAX(t.transaction_id) AS last_transaction_id " +
+            "FROM point_transaction t GROUP BY t.user_id, DATE_FORMAT(t.created_at, '%Y-%m-01')) g " +
+            "JOIN point_transaction last ON last.transaction_id = g.last_transaction_id", nativeQuery = true)
+    int rebuildAll();
+}
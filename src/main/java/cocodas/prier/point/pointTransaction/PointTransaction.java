@@ -10,6 +10,13 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_point_transaction_idempotency_key", columnNames = "idempotency_key"),
+        indexes = {
+                // 내역 커서 페이지네이션 (transactionId DESC)
+                @Index(name = "idx_point_transaction_user", columnList = "user_id, transaction_id"),
+                // 유형 필터, 환불 가능 여부 확인
+                @Index(name = "idx_point_transaction_user_type", columnList = "user_id, transaction_type, transaction_id")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,6 +42,10 @@ public class PointTransaction {
     @Column(nullable = true)
     private String tid;
 
+    // 같은 요청이 두 번 반영되지 않도록 거래마다 붙이는 키 (예: charge:{tid}, quest:{questId}:{sequence})
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @ManyToOne(optional = false)
     @JoinColumn(name = "user_id")
     private Users users;
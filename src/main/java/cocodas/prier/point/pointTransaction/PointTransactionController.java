@@ -1,11 +1,14 @@
 package cocodas.prier.point.pointTransaction;
 
-import cocodas.prier.point.pointTransaction.dto.PointTransactionDTO;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.point.pointTransaction.dto.PointHistoryResponseDto;
+import cocodas.prier.point.pointTransaction.dto.PointMonthlySummaryDto;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -15,27 +18,27 @@ import java.util.List;
 public class PointTransactionController {
 
     private final PointTransactionService pointTransactionService;
-    private final JwtTokenProvider jwtTokenProvider;
-
-    private static String getToken(String auth) {
-        if (auth == null || !auth.startsWith("Bearer ")) {
-            throw new RuntimeException("JWT Token is missing");
-        }
-        return auth.substring(7);
-    }
 
     @GetMapping
-    public Integer getCurrentPoints(@RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
+    public Integer getCurrentPoints(@LoginUser Long userId) {
         return pointTransactionService.getCurrentPoints(userId);
     }
 
     @GetMapping("/history")
-    public List<PointTransactionDTO> getPointHistory(@RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
-        return pointTransactionService.getPointHistory(userId);
+    public PointHistoryResponseDto getPointHistory(@LoginUser Long userId,
+                                                   @RequestParam(name = "cursor", required = false) Long cursor,
+                                                   @RequestParam(name = "size", defaultValue = "20") int size,
+                                                   @RequestParam(name = "type", required = false) TransactionType type,
+                                                   @RequestParam(name = "from", required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                   @RequestParam(name = "to", required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return pointTransactionService.getPointHistory(userId, cursor, size, type, from, to);
+    }
+
+    @GetMapping("/summary")
+    public List<PointMonthlySummaryDto> getMonthlySummaries(@LoginUser Long userId) {
+        return pointTransactionService.getMonthlySummaries(userId);
     }
 
 }
\ No newline at end of file
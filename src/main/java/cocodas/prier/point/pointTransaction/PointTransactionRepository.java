@@ -1,7 +1,10 @@
 package cocodas.prier.point.pointTransaction;
 
 import cocodas.prier.point.pointTransaction.PointTransaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -10,7 +13,22 @@ import java.util.Optional;
 
 @Repository
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
-    List<PointTransaction> findByUsers_UserId(Long userId);
-    Optional<PointTransaction> findByTid(String tid);
+    // 커서(transactionId)보다 이전 거래를 최신순으로. type, 기간은 없으면 조건에서 빠짐
+    @Query("SELECT t FROM PointTransaction t " +
+            "WHERE t.users.userId = :userId " +
+            "AND (:cursor IS NULL OR t.transactionId < :cursor) " +
+            "AND (:type IS NULL OR t.transactionType = :type) " +
+            "AND (:from IS NULL OR t.createdAt >= :from) " +
+            "AND (:to IS NULL OR t.createdAt < :to) " +
+            "ORDER BY t.transactionId DESC")
+    List<PointTransaction> findHistory(@Param("userId") Long userId,
+                                       @Param("cursor") Long cursor,
+                                       @Param("type") TransactionType type,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       Pageable pageable);
+    // 환불 후에는 같은 tid 의 거래가 여러 건이므로 유형까지 지정해서 조회
+    Optional<PointTransaction> findByTidAndTransactionType(String tid, TransactionType transactionType);
+    Optional<PointTransaction> findByIdempotencyKey(String idempotencyKey);
     boolean existsByUsers_UserIdAndTransactionIdGreaterThanAndTransactionTypeIn(Long userId, Long transactionId, List<TransactionType> transactionTypes);
 }
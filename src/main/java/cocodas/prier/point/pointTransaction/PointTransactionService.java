@@ -1,66 +1,127 @@
 package cocodas.prier.point.pointTransaction;
 
+import cocodas.prier.point.pointTransaction.dto.PointHistoryResponseDto;
+import cocodas.prier.point.pointTransaction.dto.PointMonthlySummaryDto;
 import cocodas.prier.point.pointTransaction.dto.PointTransactionDTO;
 import cocodas.prier.point.pointTransaction.dto.PointTransactionMapper;
+import cocodas.prier.user.CurrentUserContext;
+import cocodas.prier.user.UserProfileService;
 import cocodas.prier.user.UserRepository;
 import cocodas.prier.user.Users;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+// 잔액은 조건부 UPDATE 한 번으로만 바꿔 동시 요청에서도 초과 차감이나 갱신 유실이 없음
+// idempotencyKey 가 같은 요청은 한 번만 반영되고, 이후에는 처음 기록된 거래를 돌려줌
 @Service
 public class PointTransactionService {
 
     private static final Logger logger = LoggerFactory.getLogger(PointTransactionService.class);
 
     private final PointTransactionRepository pointTransactionRepository;
+    private final PointMonthlySummaryRepository pointMonthlySummaryRepository;
     private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
+    private final UserProfileService userProfileService;
+
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     @Autowired
-    public PointTransactionService(PointTransactionRepository pointTransactionRepository, UserRepository userRepository) {
+    public PointTransactionService(PointTransactionRepository pointTransactionRepository,
+                                   PointMonthlySummaryRepository pointMonthlySummaryRepository,
+                                   UserRepository userRepository,
+                                   CurrentUserContext currentUserContext,
+                                   UserProfileService userProfileService) {
         this.pointTransactionRepository = pointTransactionRepository;
+        this.pointMonthlySummaryRepository = pointMonthlySummaryRepository;
         this.userRepository = userRepository;
+        this.currentUserContext = currentUserContext;
+        this.userProfileService = userProfileService;
     }
 
-    // 현재 포인트 조회
+    // 현재 포인트 조회 (잔액은 원자적 UPDATE 로만 바뀌므로 영속성 컨텍스트의 엔티티가 아니라 DB 값을 읽음)
     public Integer getCurrentPoints(Long userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-        return user.getBalance();
+        Integer balance = userRepository.findBalanceById(userId);
+        if (balance == null) {
+            throw new IllegalArgumentException("User not found: " + userId);
+        }
+        return balance;
     }
 
-    // 포인트 트랜잭션 내역 조회
-    public List<PointTransactionDTO> getPointHistory(Long userId) {
-        return pointTransactionRepository.findByUsers_UserId(userId).stream()
+    // 포인트 트랜잭션 내역 조회 (최신순, transactionId 커서). from ~ to 는 날짜 기준, to 포함
+    public PointHistoryResponseDto getPointHistory(Long userId, Long cursor, int size, TransactionType type,
+                                                   LocalDate from, LocalDate to) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+
+        List<PointTransaction> transactions = pointTransactionRepository.findHistory(userId, cursor, type,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<PointTransaction> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getTransactionId() : null;
+
+        return new PointHistoryResponseDto(page.stream()
                 .map(PointTransactionMapper::toDto)
+                .collect(Collectors.toList()), nextCursor);
+    }
+
+    // 월간 포인트 요약 (최신 월부터)
+    public List<PointMonthlySummaryDto> getMonthlySummaries(Long userId) {
+        return pointMonthlySummaryRepository.findAllByUserId(userId).stream()
+                .map(summary -> PointMonthlySummaryDto.builder()
+                        .month(summary.getMonth())
+                        .earned(summary.getEarned())
+                        .spent(summary.getSpent())
+                        .transactionCount(summary.getTransactionCount())
+                        .closingBalance(summary.getClosingBalance())
+                        .build())
                 .collect(Collectors.toList());
     }
 
     // 포인트 증가
     @Transactional
-    public PointTransactionDTO increasePoints(Users user, Integer amount, TransactionType transactionType, String tid) {
+    public PointTransactionDTO increasePoints(Users user, Integer amount, TransactionType transactionType, String tid,
+                                              String idempotencyKey) {
+        Optional<PointTransactionDTO> processed = findProcessed(user, idempotencyKey);
+        if (processed.isPresent()) {
+            return processed.get();
+        }
+
         logger.info("Increasing points for user {} by {} points", user.getUserId(), amount);
-        PointTransactionDTO result = processTransaction(user, amount, transactionType, tid);
-        logger.info("Points increased for user {}: new balance is {}", user.getUserId(), user.getBalance());
+        userRepository.addBalance(user.getUserId(), amount);
+        PointTransactionDTO result = recordTransaction(user, amount, transactionType, tid, idempotencyKey);
+        logger.info("Points increased for user {}: new balance is {}", user.getUserId(), result.getBalance());
         return result;
     }
 
-    // 포인트 감소
+    // 포인트 감소: 잔액이 충분할 때만 차감되는 UPDATE 로 확인과 차감을 한 번에 처리
     @Transactional
-    public PointTransactionDTO decreasePoints(Users user, Integer amount, TransactionType transactionType) {
-        if (user.getBalance() < amount) {
+    public PointTransactionDTO decreasePoints(Users user, Integer amount, TransactionType transactionType, String tid,
+                                              String idempotencyKey) {
+        Optional<PointTransactionDTO> processed = findProcessed(user, idempotencyKey);
+        if (processed.isPresent()) {
+            return processed.get();
+        }
+
+        if (userRepository.deductBalance(user.getUserId(), amount) == 0) {
             logger.warn("Attempt to deduct {} points from user {} failed due to insufficient balance", amount, user.getUserId());
             throw new IllegalArgumentException("Insufficient points.");
         }
         logger.info("Decreasing points for user {} by {} points", user.getUserId(), amount);
-        PointTransactionDTO result = processTransaction(user, -amount, transactionType, null);
-        logger.info("Points decreased for user {}: new balance is {}", user.getUserId(), user.getBalance());
+        PointTransactionDTO result = recordTransaction(user, -amount, transactionType, tid, idempotencyKey);
+        logger.info("Points decreased for user {}: new balance is {}", user.getUserId(), result.getBalance());
         return result;
     }
 
@@ -70,23 +131,50 @@ public class PointTransactionService {
                 userId, transactionId, List.of(TransactionType.PRODUCT_PURCHASE, TransactionType.FEEDBACK_EXTENSION));
     }
 
-    private PointTransactionDTO processTransaction(Users user, Integer amount, TransactionType transactionType, String tid) {
-        user.updateBalance(amount);
+    public boolean isProcessed(String idempotencyKey) {
+        return pointTransactionRepository.findByIdempotencyKey(idempotencyKey).isPresent();
+    }
+
+    // 같은 키로 이미 반영된 거래가 있으면 그 거래
+    private Optional<PointTransactionDTO> findProcessed(Users user, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+
+        return pointTransactionRepository.findByIdempotencyKey(idempotencyKey)
+                .map(transaction -> {
+                    if (!transaction.getUsers().getUserId().equals(user.getUserId())) {
+                        throw new IllegalArgumentException("Idempotency key already used: " + idempotencyKey);
+                    }
+                    logger.info("Skipping duplicate point transaction: {}", idempotencyKey);
+                    return PointTransactionMapper.toDto(transaction);
+                });
+    }
+
+    // 잔액 UPDATE 직후의 잔액으로 거래 기록
+    // 같은 키의 동시 요청은 유니크 제약 위반으로 잔액 변경까지 함께 롤백됨
+    private PointTransactionDTO recordTransaction(Users user, Integer amount, TransactionType transactionType, String tid,
+                                                  String idempotencyKey) {
+        Integer balance = userRepository.findBalanceById(user.getUserId());
+        currentUserContext.evictSummary(user.getUserId());
+        userProfileService.evict(user.getUserId());
 
         PointTransaction transaction = PointTransaction.builder()
                 .amount(amount)
                 .transactionType(transactionType)
                 .createdAt(LocalDateTime.now())
-                .balance(user.getBalance())
+                .balance(balance)
                 .users(user)
                 .tid(tid)
+                .idempotencyKey(idempotencyKey)
                 .build();
 
-        userRepository.save(user);
-        pointTransactionRepository.save(transaction);
+        pointTransactionRepository.saveAndFlush(transaction);
+        pointMonthlySummaryRepository.addTransaction(user.getUserId(),
+                transaction.getCreatedAt().toLocalDate().withDayOfMonth(1), amount, balance);
 
         logger.info("Processed transaction for user {}: amount={}, transactionType={}, new balance={}",
-                user.getUserId(), amount, transactionType, user.getBalance());
+                user.getUserId(), amount, transactionType, balance);
 
         return PointTransactionMapper.toDto(transaction);
     }
@@ -0,0 +1,16 @@
+package cocodas.prier.point.pointTransaction.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class PointMonthlySummaryDto {
+    private LocalDate month;
+    private Integer earned;
+    private Integer spent;
+    private Integer transactionCount;
+    private Integer closingBalance;
+}
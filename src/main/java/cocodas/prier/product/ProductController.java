@@ -2,13 +2,16 @@ package cocodas.prier.product;
 
 import cocodas.prier.orders.orders.OrderService;
 import cocodas.prier.orders.orders.Orders;
+import cocodas.prier.product.dto.CheckoutRequestDto;
+import cocodas.prier.product.dto.CheckoutResponseDto;
 import cocodas.prier.product.dto.ProductResponseDto;
 import cocodas.prier.product.dto.ProductForm;
 import cocodas.prier.user.UserRepository;
 import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,16 +30,8 @@ public class ProductController {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final OrderService orderService;
-    private final JwtTokenProvider jwtTokenProvider;
 
 
-    private static String getToken(String auth) {
-        if (auth == null || !auth.startsWith("Bearer ")) {
-            throw new RuntimeException("JWT Token is missing");
-        }
-
-        return auth.substring(7);
-    }
 
     @PostMapping("/products")
     public ResponseEntity<String> createProduct(@RequestPart("product") ProductForm form,
@@ -80,9 +75,7 @@ public class ProductController {
 
     @PostMapping("/purchase/{productId}")
     public ResponseEntity<String> purchaseProduct(@PathVariable Long productId,
-                                                  @RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
+                                                  @LoginUser Long userId) {
 
         // 사용자 및 상품 조회
         Users users = userRepository.findById(userId)
@@ -97,4 +90,24 @@ public class ProductController {
         productService.createOrderProduct(userId, product, order);
         return ResponseEntity.ok("상품 구매가 완료되었습니다.");
     }
+
+    // 장바구니 결제 (여러 상품, 상품별 수량)
+    @PostMapping("/checkout")
+    public ResponseEntity<CheckoutResponseDto> checkout(@RequestBody CheckoutRequestDto request,
+                                                        @LoginUser Long userId,
+                                                        @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+
+        try {
+            return ResponseEntity.ok(productService.checkout(userId, request, idempotencyKey));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 Idempotency-Key 로 동시에 들어온 요청 중 늦은 쪽은 거래 기록의 유니크 제약에 걸려 전체 롤백됨
+            log.warn("중복 결제 요청: userId={}, idempotencyKey={}", userId, idempotencyKey);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("장바구니 결제 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
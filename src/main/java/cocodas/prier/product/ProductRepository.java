@@ -1,7 +1,9 @@
 package cocodas.prier.product;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     //Product와 연관된 productMedia를 한 번의 쿼리로 함께 가져와서 N+1 문제 해결 (JOIN FETCH 사용해서 성능 개선)
     @Query("SELECT p FROM Product p JOIN FETCH p.productMedia")
     List<Product> findAllWithMedia();
+
+    @Query("SELECT p.stock FROM Product p WHERE p.productId = :productId")
+    Integer findStockById(@Param("productId") Long productId);
+
+    // 재고가 충분할 때만 차감. 부족하면 0 을 반환하고 아무것도 바꾸지 않음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity " +
+            "WHERE p.productId = :productId AND p.stock >= :quantity")
+    int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
 }
@@ -1,13 +1,22 @@
 package cocodas.prier.product;
 
 import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.aws.S3UploadPipeline;
 import cocodas.prier.orders.orderproduct.OrderProduct;
+import cocodas.prier.orders.orderproduct.OrderProductJdbcRepository;
 import cocodas.prier.orders.orderproduct.OrderProductRepository;
+import cocodas.prier.orders.orderproduct.dto.OrderProductDto;
+import cocodas.prier.orders.orders.OrderService;
 import cocodas.prier.orders.orders.Orders;
+import cocodas.prier.point.pointTransaction.dto.PointTransactionDTO;
 import cocodas.prier.point.pointTransaction.PointTransactionService;
 import cocodas.prier.point.pointTransaction.TransactionType;
 import cocodas.prier.product.dto.ProductResponseDto;
+import cocodas.prier.product.dto.CheckoutItemDto;
+import cocodas.prier.product.dto.CheckoutRequestDto;
+import cocodas.prier.product.dto.CheckoutResponseDto;
 import cocodas.prier.product.dto.ProductForm;
+import cocodas.prier.product.inventory.InventoryReservation;
 import cocodas.prier.product.media.ProductMedia;
 import cocodas.prier.product.media.ProductMediaRepository;
 import cocodas.prier.user.UserRepository;
@@ -16,12 +25,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,52 +52,39 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ProductMediaRepository productMediaRepository;
     private final AwsS3Service awsS3Service;
+    private final S3UploadPipeline s3UploadPipeline;
     private final OrderProductRepository orderProductRepository;
+    private final OrderProductJdbcRepository orderProductJdbcRepository;
+    private final OrderService orderService;
     private final PointTransactionService pointTransactionService;
     private final UserRepository userRepository;
+    private final InventoryReservation inventoryReservation;
+    private final TransactionTemplate transactionTemplate;
 
 
-    @Transactional
+    // 이미지는 트랜잭션 전에 업로드하고, 상품 저장은 그 다음 짧은 트랜잭션에서 (실패하면 업로드한 파일 삭제)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String createProduct(ProductForm form, MultipartFile file) throws IOException {
-        Product product = Product.builder()
-                .productName(form.getProductName())
-                .price(form.getPrice())
-                .description(form.getDescription())
-                .stock(form.getStock())
-                .build();
-
-        productRepository.save(product);
-
-        String key = handleFileUpload(file);
-
-        ProductMedia productMedia = ProductMedia.builder()
-                .metadata(file.getOriginalFilename())
-                .s3Key(key)
-                .product(product)
-                .build();
-        productMediaRepository.save(productMedia);
-
-        log.info("상품 등록 성공");
-        return "상품 등록 성공";
-    }
-
-    private String handleFileUpload(MultipartFile file) throws IOException {
-
-        /*
-            임시 파일을 생성.
-            첫 번째 인자는 파일의 접두어, 두 번째 인자는 접미어(파일 확장자를 포함한 파일 이름)로
-            시스템의 기본 임시 파일 디렉터리에 저장.
-        */
-        File tempFile = File.createTempFile("product-", file.getOriginalFilename());
-        /*
-            사용자가 업로드한 파일(MultipartFile 객체)을 위에서 생성한 임시 파일로 복사.
-            이 과정을 통해 서버에 파일이 저장.
-         */
-        file.transferTo(tempFile);
-
-        String key = awsS3Service.uploadFile(tempFile);
-        tempFile.delete();
-        return key;
+        return s3UploadPipeline.uploadThen(List.of(file), keys -> transactionTemplate.execute(status -> {
+            Product product = Product.builder()
+                    .productName(form.getProductName())
+                    .price(form.getPrice())
+                    .description(form.getDescription())
+                    .stock(form.getStock())
+                    .build();
+
+            productRepository.save(product);
+
+            ProductMedia productMedia = ProductMedia.builder()
+                    .metadata(file.getOriginalFilename())
+                    .s3Key(keys.get(0))
+                    .product(product)
+                    .build();
+            productMediaRepository.save(productMedia);
+
+            log.info("상품 등록 성공");
+            return "상품 등록 성공";
+        }));
     }
 
     @Transactional
@@ -103,29 +103,33 @@ public class ProductService {
         return "상품 삭제 완료";
     }
 
-    @Transactional
+    // 새 이미지는 트랜잭션 전에 업로드하고, 상품 수정은 그 다음 짧은 트랜잭션에서 (실패하면 업로드한 파일 삭제)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String updateProduct(Long productId, ProductForm form, MultipartFile newFile) throws IOException {
-
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 상품"));
-
-        product.changeProductName(form.getProductName());
-        product.changePrice(form.getPrice());
-        product.changeDescription(form.getDescription());
-        product.changeStock(form.getStock());
-
-        if (newFile != null && !newFile.isEmpty()) {
-            ProductMedia media = productMediaRepository.findByProduct(product)
-                    .orElseThrow(() -> new RuntimeException("존재하지 않는 상품 이미지"));
-
-            awsS3Service.deleteFile(media.getS3Key());
-            String newKey = handleFileUpload(newFile);
-            media.changeMetadata(newFile.getOriginalFilename());
-            media.changeS3Key(newKey);
-        }
-
-        log.info("상품 정보 업데이트 완료");
-        return "상품 정보 업데이트 완료";
+        List<MultipartFile> files = newFile != null && !newFile.isEmpty() ? List.of(newFile) : List.of();
+
+        return s3UploadPipeline.uploadThen(files, keys -> transactionTemplate.execute(status -> {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new RuntimeException("존재하지 않는 상품"));
+
+            product.changeProductName(form.getProductName());
+            product.changePrice(form.getPrice());
+            product.changeDescription(form.getDescription());
+            inventoryReservation.evict(productId);
+            product.changeStock(form.getStock());
+
+            if (!keys.isEmpty()) {
+                ProductMedia media = productMediaRepository.findByProduct(product)
+                        .orElseThrow(() -> new RuntimeException("존재하지 않는 상품 이미지"));
+
+                awsS3Service.deleteFile(media.getS3Key());
+                media.changeMetadata(newFile.getOriginalFilename());
+                media.changeS3Key(keys.get(0));
+            }
+
+            log.info("상품 정보 업데이트 완료");
+            return "상품 정보 업데이트 완료";
+        }));
     }
 
     @Transactional
@@ -134,28 +138,120 @@ public class ProductService {
 
         Integer price = product.getPrice();
 
-        // 구매 전 재고 확인
-        if (product.getStock() <= 0) {
-            throw new IllegalArgumentException("재고가 부족합니다.");
-        }
+        // 재고 예약 (부족하면 예외). 이후 단계가 실패하면 트랜잭션과 함께 되돌려짐
+        inventoryReservation.reserve(product.getProductId(), 1);
 
         // 포인트 차감
-        pointTransactionService.decreasePoints(user, price, TransactionType.PRODUCT_PURCHASE);
-
-        // 재고 감소
-        product.changeStock(product.getStock() - 1);
+        pointTransactionService.decreasePoints(user, price, TransactionType.PRODUCT_PURCHASE, null,
+                "purchase:" + order.getOrderId() + ":" + product.getProductId());
 
         // 주문 저장
         OrderProduct orderProduct = OrderProduct.builder()
                 .product(product)
                 .orders(order)
                 .price(price)
+                .quantity(1)
                 .build();
 
-        productRepository.save(product);
         orderProductRepository.save(orderProduct);
     }
 
+    // 장바구니 결제: 여러 상품을 한 주문, 한 번의 포인트 차감, 한 번의 배치 INSERT 로 처리
+    // 재고/포인트 중 하나라도 부족하면 예외와 함께 전체가 롤백됨
+    @Transactional
+    public CheckoutResponseDto checkout(Long userId, CheckoutRequestDto request, String idempotencyKey) {
+        Map<Long, Integer> quantities = mergeQuantities(request);
+
+        String checkoutKey = idempotencyKey == null ? null : "checkout:" + userId + ":" + idempotencyKey;
+        if (checkoutKey != null && pointTransactionService.isProcessed(checkoutKey)) {
+            throw new IllegalStateException("이미 처리된 주문입니다.");
+        }
+
+        Users user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        if (products.size() != quantities.size()) {
+            throw new IllegalArgumentException("존재하지 않는 상품이 포함되어 있습니다.");
+        }
+
+        // 상품 ID 순으로 재고 예약해서 동시 결제끼리 교착되지 않게 함
+        int totalPrice = 0;
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            int lineTotal = lineTotal(products.get(line.getKey()).getPrice(), line.getValue());
+            totalPrice = addPrice(totalPrice, lineTotal);
+            inventoryReservation.reserve(line.getKey(), line.getValue());
+        }
+
+        Orders order = orderService.createOrder(user);
+        PointTransactionDTO transaction = pointTransactionService.decreasePoints(user, totalPrice,
+                TransactionType.PRODUCT_PURCHASE, null,
+                checkoutKey == null ? "checkout:" + order.getOrderId() : checkoutKey);
+
+        List<OrderProductDto> items = quantities.entrySet().stream()
+                .map(line -> {
+                    int unitPrice = products.get(line.getKey()).getPrice();
+                    return OrderProductDto.builder()
+                            .orderId(order.getOrderId())
+                            .productId(line.getKey())
+                            .count(line.getValue())
+                            .unitPrice(unitPrice)
+                            .totalPrice(lineTotal(unitPrice, line.getValue()))
+                            .build();
+                })
+                .toList();
+        orderProductJdbcRepository.insertAll(items);
+
+        log.info("장바구니 결제 완료: userId={}, orderId={}, 상품 {}종, {}포인트",
+                userId, order.getOrderId(), items.size(), totalPrice);
+        return CheckoutResponseDto.builder()
+                .orderId(order.getOrderId())
+                .totalPrice(totalPrice)
+                .balance(transaction.getBalance())
+                .items(items)
+                .build();
+    }
+
+    // 같은 상품이 여러 줄이면 수량을 합치고 상품 ID 순으로 정렬
+    private static Map<Long, Integer> mergeQuantities(CheckoutRequestDto request) {
+        if (request == null || request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("주문할 상품이 없습니다.");
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (CheckoutItemDto item : request.getItems()) {
+            if (item.getProductId() == null || item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("상품 ID 와 1개 이상의 수량이 필요합니다.");
+            }
+            quantities.merge(item.getProductId(), item.getQuantity(), ProductService::addQuantity);
+        }
+        return quantities;
+    }
+
+    // 수량/금액이 int 범위를 넘으면 음수로 돌아 차감액이 줄어들 수 있으므로 요청을 거절
+    private static int addQuantity(int quantity, int more) {
+        try {
+            return Math.addExact(quantity, more);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("주문 수량이 너무 많습니다.");
+        }
+    }
+
+    private static int lineTotal(int unitPrice, int quantity) {
+        try {
+            return Math.multiplyExact(unitPrice, quantity);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("주문 금액이 너무 큽니다.");
+        }
+    }
+
+    private static int addPrice(int totalPrice, int lineTotal) {
+        try {
+            return Math.addExact(totalPrice, lineTotal);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("주문 금액이 너무 큽니다.");
+        }
+    }
+
     public List<ProductResponseDto> getAllProducts() {
         List<Product> products = productRepository.findAllWithMedia();
         return products.stream()
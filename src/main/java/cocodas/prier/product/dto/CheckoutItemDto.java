@@ -0,0 +1,13 @@
+package cocodas.prier.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutItemDto {
+    private Long productId;
+    private Integer quantity;
+}
@@ -0,0 +1,14 @@
+package cocodas.prier.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutRequestDto {
+    private List<CheckoutItemDto> items;
+}
@@ -0,0 +1,20 @@
+package cocodas.prier.product.dto;
+
+import cocodas.prier.orders.orderproduct.dto.OrderProductDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutResponseDto {
+    private Long orderId;
+    private Integer totalPrice;
+    private Integer balance;
+    private List<OrderProductDto> items;
+}
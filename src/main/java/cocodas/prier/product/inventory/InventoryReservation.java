@@ -0,0 +1,206 @@
+package cocodas.prier.product.inventory;
+
+import cocodas.prier.product.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 상품 재고 예약
+// 기본은 DB 조건부 UPDATE(stock >= 수량일 때만 차감)로 초과 판매를 막고, 주문 트랜잭션이 롤백되면 차감도 함께 롤백됨
+// product.inventory.in-memory=true 면 DB 재고로 미리 채운 메모리 카운터에서 차감하고,
+// 커밋된 판매량만 모아 주기적으로 DB 에 반영함 (서버 한 대로 운영할 때만 사용)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryReservation {
+
+    private static final String FLUSH_SQL = "UPDATE product SET stock = stock - ? WHERE product_id = ?";
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 반영은 호출한 쪽 트랜잭션(관리자 재고 수정 등)과 분리해서 커밋
+    private TransactionTemplate flushTransaction;
+
+    @Value("${product.inventory.in-memory:false}")
+    private boolean inMemory;
+
+    @Value("${product.inventory.shards:8}")
+    private int shardCount;
+
+    private final Map<Long, ShardedStockCounter> counters = new ConcurrentHashMap<>();
+
+    // 메모리 카운터에서 차감했지만 아직 커밋되지 않은 수량
+    private final Map<Long, LongAdder> reservedSales = new ConcurrentHashMap<>();
+
+    // 메모리에서 팔렸지만 아직 DB 재고에 반영되지 않은 수량
+    private final Map<Long, LongAdder> unflushedSales = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void initializeFlushTransaction() {
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 재고가 부족하면 IllegalArgumentException
+    public void reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("구매 수량은 1개 이상이어야 합니다.");
+        }
+
+        if (!inMemory) {
+            if (productRepository.decreaseStock(productId, quantity) == 0) {
+                throw new IllegalArgumentException("재고가 부족합니다.");
+            }
+            return;
+        }
+
+        // 카운터에서 빼기 전에 먼저 기록해서, 그 사이 카운터를 다시 채우더라도 이 수량은 빼고 채우게 함
+        LongAdder reserved = reservedSales.computeIfAbsent(productId, id -> new LongAdder());
+        reserved.add(quantity);
+        ShardedStockCounter counter;
+        try {
+            counter = counterFor(productId);
+        } catch (RuntimeException e) {
+            reserved.add(-quantity);
+            throw e;
+        }
+        if (!counter.tryAcquire(quantity)) {
+            reserved.add(-quantity);
+            throw new IllegalArgumentException("재고가 부족합니다.");
+        }
+        confirmOnCommit(productId, counter, quantity);
+    }
+
+    // 관리자가 재고를 직접 바꾸기 전에 호출: 기존 카운터를 닫고 밀린 판매량을 반영해서 다음 예약 때 DB 값으로 다시 채움
+    // 반영은 관리자 트랜잭션과 별도로 커밋되므로 관리자 트랜잭션이 롤백돼도 판매량이 사라지지 않음
+    // 관리자 트랜잭션이 끝나면 그 사이 예전 재고로 채워진 카운터도 다시 닫아, 바뀐 재고로 다시 채우게 함
+    public synchronized void evict(Long productId) {
+        if (!inMemory) {
+            return;
+        }
+        retire(productId);
+        flush();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    retire(productId);
+                }
+            });
+        }
+    }
+
+    private synchronized void retire(Long productId) {
+        ShardedStockCounter counter = counters.remove(productId);
+        if (counter != null) {
+            counter.retire();
+        }
+    }
+
+    // warmUp 과 같은 락으로 실행되므로, 카운터를 채우는 도중에 DB 재고와 미반영 판매량이 함께 바뀌지 않음
+    @Scheduled(fixedDelayString = "${product.inventory.flush-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<LongAdder> flushed = new ArrayList<>();
+        unflushedSales.forEach((productId, sales) -> {
+            long sold = sales.sumThenReset();
+            if (sold > 0) {
+                batch.add(new Object[]{sold, productId});
+                flushed.add(sales);
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (RuntimeException e) {
+            // 반영(커밋 포함)에 실패한 판매량은 되돌려 두고 다음 주기에 다시 시도
+            for (int i = 0; i < batch.size(); i++) {
+                flushed.get(i).add((Long) batch.get(i)[0]);
+            }
+            log.warn("상품 재고 반영 실패: {}건", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private ShardedStockCounter counterFor(Long productId) {
+        ShardedStockCounter counter = counters.get(productId);
+        return counter != null ? counter : warmUp(productId);
+    }
+
+    // DB 재고에서 커밋 전 예약량과 아직 반영 안 된 판매량을 뺀 값으로 카운터 생성
+    // 예약이 커밋되면 미반영 판매량에 먼저 더한 뒤 예약량에서 빼므로, 예약량을 먼저 읽어야 빠뜨리지 않음 (겹치면 적게 채워질 뿐)
+    private synchronized ShardedStockCounter warmUp(Long productId) {
+        ShardedStockCounter existing = counters.get(productId);
+        if (existing != null) {
+            return existing;
+        }
+
+        Integer stock = productRepository.findStockById(productId);
+        if (stock == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품");
+        }
+        long available = stock - sum(reservedSales, productId) - sum(unflushedSales, productId);
+        log.info("상품 재고 카운터 생성: productId={}, stock={}", productId, available);
+
+        ShardedStockCounter counter = new ShardedStockCounter((int) Math.max(available, 0), shardCount);
+        counters.put(productId, counter);
+        return counter;
+    }
+
+    private static long sum(Map<Long, LongAdder> sales, Long productId) {
+        LongAdder adder = sales.get(productId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 커밋되면 판매량으로 쌓고, 롤백되면 메모리 재고를 되돌림
+    private void confirmOnCommit(Long productId, ShardedStockCounter counter, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(productId, quantity);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commit(productId, quantity);
+                } else {
+                    counter.release(quantity);
+                    reservedSales.get(productId).add(-quantity);
+                }
+            }
+        });
+    }
+
+    private void commit(Long productId, int quantity) {
+        unflushedSales.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+        reservedSales.get(productId).add(-quantity);
+    }
+}
@@ -0,0 +1,70 @@
+package cocodas.prier.product.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 상품 하나의 남은 재고를 여러 칸에 나눠 담은 카운터
+// 요청마다 임의의 칸부터 CAS 로 차감해서 인기 상품에서도 한 칸에 경합이 몰리지 않음
+// 어느 칸도 음수가 되지 않으므로 전체 재고 이상으로 팔리지 않음
+class ShardedStockCounter {
+
+    private static final int RETIRED = Integer.MIN_VALUE / 2;
+
+    private final AtomicIntegerArray shards;
+
+    ShardedStockCounter(int stock, int shardCount) {
+        this.shards = new AtomicIntegerArray(shardCount);
+        int remaining = Math.max(stock, 0);
+        for (int i = 0; i < shardCount; i++) {
+            int share = remaining / (shardCount - i);
+            shards.set(i, share);
+            remaining -= share;
+        }
+    }
+
+    // quantity 만큼 여러 칸에서 나눠 차감. 모자라면 가져간 만큼 되돌리고 false
+    boolean tryAcquire(int quantity) {
+        int shardCount = shards.length();
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        int[] taken = new int[shardCount];
+        int needed = quantity;
+
+        for (int i = 0; i < shardCount && needed > 0; i++) {
+            int index = (start + i) % shardCount;
+            while (true) {
+                int current = shards.get(index);
+                if (current <= 0) {
+                    break;
+                }
+                int take = Math.min(current, needed);
+                if (shards.compareAndSet(index, current, current - take)) {
+                    taken[index] += take;
+                    needed -= take;
+                    break;
+                }
+            }
+        }
+
+        if (needed == 0) {
+            return true;
+        }
+
+        for (int index = 0; index < shardCount; index++) {
+            if (taken[index] > 0) {
+                shards.addAndGet(index, taken[index]);
+            }
+        }
+        return false;
+    }
+
+    void release(int quantity) {
+        shards.addAndGet(ThreadLocalRandom.current().nextInt(shards.length()), quantity);
+    }
+
+    // 더 이상 쓰지 않는 카운터: 이후 차감은 모두 실패하고, 롤백으로 되돌려 받은 수량도 다시 팔리지 않음
+    void retire() {
+        for (int i = 0; i < shards.length(); i++) {
+            shards.set(i, RETIRED);
+        }
+    }
+}
@@ -3,7 +3,7 @@ package cocodas.prier.project.comment;
 import cocodas.prier.project.comment.dto.*;
 import cocodas.prier.user.UserRepository;
 import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -18,23 +18,13 @@ import java.util.List;
 public class ProjectCommentController {
 
     private final ProjectCommentService projectCommentService;
-    private final JwtTokenProvider jwtTokenProvider;
-
-    private static String getToken(String auth) {
-        if (auth == null || !auth.startsWith("Bearer ")) {
-            throw new RuntimeException("JWT Token is missing");
-        }
-
-        return auth.substring(7);
-    }
 
     @PostMapping("/{projectId}/comment")
     public ResponseEntity<CommentDto> createComment(@PathVariable(name = "projectId") Long projectId,
                                         @RequestBody CommentForm form,
-                                        @RequestHeader("Authorization") String auth) {
+                                        @LoginUser Long userId) {
 
-        String token = getToken(auth);
-        CommentDto result = projectCommentService.createProjectComment(projectId, form, token);
+        CommentDto result = projectCommentService.createProjectComment(projectId, form, userId);
 
         return ResponseEntity.ok(result);
     }
@@ -42,9 +32,8 @@ public class ProjectCommentController {
     @DeleteMapping("/{projectId}/comment/{commentId}")
     public ResponseEntity<String> deleteComment(@PathVariable(name = "projectId") Long projectId,
                                                     @PathVariable Long commentId,
-                                                    @RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        String result = projectCommentService.deleteProjectComment(projectId, commentId, token);
+                                                    @LoginUser Long userId) {
+        String result = projectCommentService.deleteProjectComment(projectId, commentId, userId);
 
         return ResponseEntity.ok(result);
     }
@@ -53,25 +42,21 @@ public class ProjectCommentController {
     public ResponseEntity<CommentDto> updateComment(@PathVariable(name = "projectId") Long projectId,
                                                     @PathVariable Long commentId,
                                                     @RequestBody CommentForm form,
-                                                    @RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        CommentDto result = projectCommentService.updateProjectComment(projectId, commentId, form, token);
+                                                    @LoginUser Long userId) {
+        CommentDto result = projectCommentService.updateProjectComment(projectId, commentId, form, userId);
 
         return ResponseEntity.ok(result);
     }
 
     @GetMapping("/{projectId}/comment")
     public List<CommentWithProfileDto> getProjectComments(@PathVariable(name = "projectId") Long projectId,
-                                                          @RequestHeader("Authorization") String auth) {
+                                                          @LoginUser Long userId) {
 
-        String token = getToken(auth);
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
         return projectCommentService.getProjectComments(projectId, userId);
     }
 
     @GetMapping("/comments")
-    public List<MyPageCommentDto> getMyProjectComments(@RequestHeader("Authorization") String auth,
-                                                       @RequestParam("userId") Long userId) {
+    public List<MyPageCommentDto> getMyProjectComments(@RequestParam("userId") Long userId) {
         return projectCommentService.getProjectComments(userId);
     }
 }
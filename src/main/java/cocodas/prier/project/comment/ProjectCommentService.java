@@ -1,21 +1,26 @@
 package cocodas.prier.project.comment;
 
-import cocodas.prier.aws.AwsS3Service;
 import cocodas.prier.project.comment.dto.*;
 import cocodas.prier.project.project.Project;
 import cocodas.prier.project.project.ProjectRepository;
 import cocodas.prier.project.project.ProjectService;
+import cocodas.prier.user.CurrentUserContext;
 import cocodas.prier.user.UserProfileService;
-import cocodas.prier.user.UserRepository;
 import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.user.mypage.MyPageChangedEvent;
+import cocodas.prier.user.notification.LiveNotificationEvent;
+import cocodas.prier.user.notification.NotificationCounterService;
+import cocodas.prier.user.notification.NotificationType;
+import cocodas.prier.user.response.UserProfileDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,24 +32,23 @@ public class ProjectCommentService {
     private final ProjectCommentRepository projectCommentRepository;
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final UserProfileService userProfileService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final AwsS3Service awsS3Service;
+    private final NotificationCounterService notificationCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
-    private Users getUsersByToken(String token) {
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
-        return userRepository.findById(userId)
+    private Users findUser(Long userId) {
+        return currentUserContext.findUser(userId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
     }
 
     @Transactional
-    public CommentDto createProjectComment(Long projectId, CommentForm form, String token) {
+    public CommentDto createProjectComment(Long projectId, CommentForm form, Long userId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
 
-        Users user = getUsersByToken(token);
+        Users user = findUser(userId);
 
         ProjectComment comment = ProjectComment.builder()
                 .users(user)
@@ -54,11 +58,12 @@ public class ProjectCommentService {
                 .build();
 
         projectCommentRepository.save(comment);
-
-        user.getProjectComments().add(comment);
-        project.getProjectComments().add(comment);
-        project.updateScore(form.getScore());
-        projectService.calculateScore(project);
+        projectService.applyCommentScore(project.getProjectId(), form.getScore(), 1);
+        notificationCounterService.onComment(project.getUsers().getUserId());
+        if (!project.getUsers().getUserId().equals(userId)) {
+            eventPublisher.publishEvent(LiveNotificationEvent.of(project.getUsers().getUserId(), NotificationType.COMMENT, projectId));
+        }
+        eventPublisher.publishEvent(MyPageChangedEvent.of(project.getUsers().getUserId(), userId));
 
         log.info("댓글 등록 성공");
         return new CommentDto(comment.getCommentId(),
@@ -71,47 +76,52 @@ public class ProjectCommentService {
     }
 
     @Transactional
-    public String deleteProjectComment(Long projectId, Long commentId, String token) {
+    public String deleteProjectComment(Long projectId, Long commentId, Long userId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
 
         ProjectComment comment = projectCommentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 댓글"));
 
-        Users user = getUsersByToken(token);
+        Users user = findUser(userId);
         if (!user.equals(comment.getUsers())) {
             return "잘못된 사용자, 댓글 삭제 실패";
         }
 
-        project.updateScore(-comment.getScore());
+        projectService.applyCommentScore(comment.getProject().getProjectId(), -comment.getScore(), -1);
         projectCommentRepository.deleteById(commentId);
+        notificationCounterService.onCommentDeleted(comment.getProject().getUsers().getUserId(), comment.getCreatedAt());
+        eventPublisher.publishEvent(MyPageChangedEvent.of(comment.getProject().getUsers().getUserId(), userId));
         return "댓글 삭제 성공";
     }
 
     // $$$ 피드백 상세보기 페이지 댓글
     public List<CommentWithProfileDto> getProjectComments(Long projectId, Long userId) {
 
-        Users users = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
+        Users users = currentUserContext.findUser(userId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
 
         List<ProjectComment> allComments = projectCommentRepository.findAllByProject(project);
+        Map<Long, UserProfileDto> authors = userProfileService.getProfiles(allComments.stream()
+                .map(projectComment -> projectComment.getUsers().getUserId())
+                .toList());
 
         return allComments.stream().map(projectComment -> new CommentWithProfileDto(
                 projectComment.getCommentId(),
                 projectComment.getUsers().getUserId(),
-                projectComment.getUsers().getNickname(),
+                authors.get(projectComment.getUsers().getUserId()).getNickname(),
                 projectComment.getContent(),
                 projectComment.getScore(),
                 projectComment.getUsers().equals(users),
-                awsS3Service.getPublicUrl(projectComment.getUsers().getS3Key())
+                authors.get(projectComment.getUsers().getUserId()).getProfileUrl()
         )).toList();
     }
 
     // %%% 마이페이지 댓글 조회
     public List<MyPageCommentDto> getProjectComments(Long userId) {
-        Users user = userRepository.findById(userId)
+        Users user = currentUserContext.findUser(userId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
 
         List<ProjectComment> allComments = projectCommentRepository.findAllByUsers(user);
@@ -127,7 +137,7 @@ public class ProjectCommentService {
     }
 
     @Transactional
-    public CommentDto updateProjectComment(Long projectId, Long commentId, CommentForm form, String token) {
+    public CommentDto updateProjectComment(Long projectId, Long commentId, CommentForm form, Long userId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
 
@@ -139,19 +149,18 @@ public class ProjectCommentService {
             return null;
         }
 
-        Users user = getUsersByToken(token);
+        Users user = findUser(userId);
         if (!user.equals(comment.getUsers())) {
             log.info("잘못된 사용자, 댓글 수정 실패");
             return null;
         }
 
+        projectService.applyCommentScore(project.getProjectId(), form.getScore() - comment.getScore(), 0);
+
         comment.setContent(form.getComment());
-        project.updateScore(-comment.getScore());
         comment.setScore(form.getScore());
-        project.updateScore(form.getScore());
         comment.setUpdatedAt(LocalDateTime.now());
-
-        projectService.calculateScore(project);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(project.getUsers().getUserId(), userId));
 
         log.info("댓글 수정 완료");
         return new CommentDto(comment.getCommentId(),
@@ -162,13 +171,4 @@ public class ProjectCommentService {
                 true,
                 userProfileService.getProfile(comment.getUsers().getUserId()));
     }
-
-    //마지막 로그인 이후 내 프로젝트에 달린 댓글 개수 반환
-    public Long commentCountsForLogin(Long userId) {
-
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
-
-        return projectCommentRepository.countProjectCommentsForUserAfterLastLogout(userId, user.getLastLogoutAt());
-    }
 }
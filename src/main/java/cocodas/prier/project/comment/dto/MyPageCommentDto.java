@@ -2,8 +2,10 @@ package cocodas.prier.project.comment.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class MyPageCommentDto {
     private Long projectId;
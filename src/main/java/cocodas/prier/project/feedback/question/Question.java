@@ -27,6 +27,15 @@ public class Question {
 
     private int orderIndex;
 
+    // 응답이 추가/삭제될 때마다 QuestionRepository 의 원자적 UPDATE 로 1씩 증가 (요약 캐시 무효화 기준)
+    // 질문 수정 후 flush 가 읽어 둔 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long responseVersion = 0L;
+
+    // 응답 저장/삭제 시 QuestionRepository 의 원자적 UPDATE 로만 갱신 (프로젝트 피드백 수 계산용)
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer responseCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
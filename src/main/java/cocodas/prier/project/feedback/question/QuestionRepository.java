@@ -2,13 +2,48 @@ package cocodas.prier.project.feedback.question;
 
 import cocodas.prier.project.project.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     void deleteAllByProject(Project project);
     List<Question> findAllById(Iterable<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Question q SET q.responseVersion = q.responseVersion + 1 WHERE q.questionId IN :questionIds")
+    void incrementResponseVersion(@Param("questionIds") Collection<Long> questionIds);
+
+    @Modifying
+    @Query("UPDATE Question q SET q.responseCount = q.responseCount + :delta WHERE q.questionId = :questionId")
+    void addResponseCount(@Param("questionId") Long questionId, @Param("delta") int delta);
+
+    // 백필용: 모든 질문의 응답 수를 응답 테이블에서 다시 집계
+    @Modifying
+    @Query(value = "UPDATE question q " +
+            "SET response_count = (SELECT COUNT(*) FROM response r WHERE r.question_id = q.question_id)",
+            nativeQuery = true)
+    int recountAllResponseCounts();
+
+    // 요약 화면용: 응답을 로딩하지 않고 질문별 응답 수와 버전만 조회
+    @Query("SELECT q.questionId AS questionId, q.content AS content, q.responseVersion AS responseVersion, " +
+            "COUNT(r) AS responseCount " +
+            "FROM Question q LEFT JOIN q.responses r " +
+            "WHERE q.project.projectId = :projectId AND q.category = :category " +
+            "GROUP BY q.questionId, q.content, q.responseVersion, q.orderIndex " +
+            "ORDER BY q.orderIndex")
+    List<QuestionResponseStatus> findResponseStatusByProjectId(@Param("projectId") Long projectId,
+                                                               @Param("category") Category category);
+
+    interface QuestionResponseStatus {
+        Long getQuestionId();
+        String getContent();
+        Long getResponseVersion();
+        Long getResponseCount();
+    }
 }
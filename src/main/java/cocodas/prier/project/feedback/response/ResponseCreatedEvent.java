@@ -0,0 +1,13 @@
+package cocodas.prier.project.feedback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 주관식 응답이 저장된 질문 ID 목록. 커밋 후 요약 재생성에 사용
+@Getter
+@AllArgsConstructor
+public class ResponseCreatedEvent {
+    private List<Long> questionIds;
+}
@@ -0,0 +1,152 @@
+package cocodas.prier.project.feedback.response;
+
+import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.project.comment.ProjectCommentService;
+import cocodas.prier.project.feedback.response.dto.ResponseDetailDto;
+import cocodas.prier.project.feedback.stats.ProjectFeedbackStats;
+import cocodas.prier.project.feedback.stats.ProjectFeedbackStatsService;
+import cocodas.prier.project.media.ProjectMedia;
+import cocodas.prier.project.media.ProjectMediaRepository;
+import cocodas.prier.project.project.Project;
+import cocodas.prier.project.project.ProjectRepository;
+import cocodas.prier.statics.chatgpt.ChatGPTService;
+import cocodas.prier.statics.keywordAi.KeywordsService;
+import cocodas.prier.statics.objective.ObjectiveResponseService;
+import cocodas.prier.user.UserProfileService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 피드백 상세(대시보드) 화면 조립
+// 프로젝트는 한 번만 읽고, 서로 독립적인 조회는 fanOutExecutor 에서 동시에 실행
+// 각 조회는 제한 시간 안에 끝나지 않거나 실패하면 빈 값으로 대체해서 화면 전체가 늦어지지 않게 함
+@Slf4j
+@Component
+public class ResponseDetailOrchestrator {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMediaRepository projectMediaRepository;
+    private final AwsS3Service awsS3Service;
+    private final KeywordsService keywordsService;
+    private final ProjectFeedbackStatsService projectFeedbackStatsService;
+    private final ChatGPTService chatGPTService;
+    private final ObjectiveResponseService objectiveResponseService;
+    private final ProjectCommentService projectCommentService;
+    private final UserProfileService userProfileService;
+    private final Executor fanOutExecutor;
+
+    @Value("${response-detail.part-timeout-ms:1500}")
+    private long partTimeoutMs;
+
+    // GPT 요약은 저장된 값을 읽기만 하지만 느릴 때는 요약 없이 화면을 먼저 내려줌
+    @Value("${response-detail.summary-timeout-ms:800}")
+    private long summaryTimeoutMs;
+
+    public ResponseDetailOrchestrator(ProjectRepository projectRepository,
+                                      ProjectMediaRepository projectMediaRepository,
+                                      AwsS3Service awsS3Service,
+                                      KeywordsService keywordsService,
+                                      ProjectFeedbackStatsService projectFeedbackStatsService,
+                                      ChatGPTService chatGPTService,
+                                      ObjectiveResponseService objectiveResponseService,
+                                      ProjectCommentService projectCommentService,
+                                      UserProfileService userProfileService,
+                                      @Qualifier("fanOutExecutor") Executor fanOutExecutor) {
+        this.projectRepository = projectRepository;
+        this.projectMediaRepository = projectMediaRepository;
+        this.awsS3Service = awsS3Service;
+        this.keywordsService = keywordsService;
+        this.projectFeedbackStatsService = projectFeedbackStatsService;
+        this.chatGPTService = chatGPTService;
+        this.objectiveResponseService = objectiveResponseService;
+        this.projectCommentService = projectCommentService;
+        this.userProfileService = userProfileService;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    public ResponseDetailDto viewResponseDetail(Long projectId, Long userId) {
+        Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("프로젝트가 없습니다"));
+
+        ProjectMedia projectMedia = projectMediaRepository.findMainMediaByProjectIds(List.of(projectId))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("프로젝트 메인이 없습니다."));
+
+        var keywords = part("keywords", () -> keywordsService.getKeywordByProjectId(projectId),
+                Collections.emptyList(), partTimeoutMs);
+        var feedbackStats = part("feedbackStats", () -> projectFeedbackStatsService.getStats(projectId),
+                ProjectFeedbackStats.empty(projectId), partTimeoutMs);
+        var summaries = part("summaries", () -> chatGPTService.getChatGptResponse(projectId),
+                Collections.emptyList(), summaryTimeoutMs);
+        var objectives = part("objectives", () -> objectiveResponseService.getStatistics(projectId).getQuestions(),
+                Collections.emptyList(), partTimeoutMs);
+        var comments = part("comments", () -> projectCommentService.getProjectComments(projectId, userId),
+                Collections.emptyList(), partTimeoutMs);
+        var profile = part("profile", () -> userProfileService.getProfile(userId),
+                null, partTimeoutMs);
+
+        String publicUrl = awsS3Service.getPublicUrl(projectMedia.getS3Key());
+
+        return new ResponseDetailDto(
+                projectId,
+                project.getTitle(),
+                project.getIntroduce(),
+                project.getTeamName(),
+                project.getLink(),
+                publicUrl,
+                project.getCalculatedScore(),
+                keywords.join(),
+                feedbackStats.join().getFeedbackAmount(project.getCommentCount())[2],
+                String.format("%.2f", feedbackStats.join().getPercentage()),
+                summaries.join(),
+                objectives.join(),
+                comments.join(),
+                profile.join()
+        );
+    }
+
+    // 제한 시간이 지나면 빈 값으로 먼저 완료하고, 아직 시작하지 않은 조회는 취소
+    // 이미 실행 중인 조회는 인터럽트하지 않음. JDBC 호출 중 인터럽트되면 커넥션이 끊긴 채로 풀에 돌아갈 수 있음.
+    // 늦은 조회는 끝날 때까지 실행기 자리를 차지하고, 그동안 자리가 없으면 새 조회는 바로 빈 값으로 대체
+    private <T> CompletableFuture<T> part(String name, Supplier<T> supplier, T fallback, long timeoutMs) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<T> task = new FutureTask<>(supplier::get) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    result.complete(get());
+                } catch (ExecutionException e) {
+                    log.warn("피드백 상세 조회 실패, 빈 값으로 대체: {}", name, e.getCause());
+                    result.complete(fallback);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.complete(fallback);
+                }
+            }
+        };
+
+        try {
+            fanOutExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("피드백 상세 조회 실행기 포화, 빈 값으로 대체: {}", name);
+            return CompletableFuture.completedFuture(fallback);
+        }
+
+        return result.completeOnTimeout(fallback, timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((value, e) -> task.cancel(false));
+    }
+}
@@ -1,11 +1,11 @@
 package cocodas.prier.project.feedback.response;
 
+import cocodas.prier.project.feedback.question.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,17 +17,28 @@ public interface ResponseRepository extends JpaRepository<Response, Long> {
     @Query("SELECT r FROM Response r JOIN FETCH r.question q WHERE q.questionId IN :questionIds")
     List<Response> findAllByQuestionIds(@Param("questionIds") List<Long> questionIds);
 
+    // 질문별 응답값 분포 (응답이 없는 질문은 answer = null, answerCount = 0 한 행)
+    @Query("SELECT q.questionId AS questionId, q.content AS questionContent, r.content AS answer, COUNT(r) AS answerCount " +
+            "FROM Question q LEFT JOIN q.responses r " +
+            "WHERE q.project.projectId = :projectId AND q.category = :category " +
+            "GROUP BY q.questionId, q.content, q.orderIndex, r.content " +
+            "ORDER BY q.orderIndex, q.questionId")
+    List<ObjectiveAnswerCount> countAnswersByProjectId(@Param("projectId") Long projectId,
+                                                       @Param("category") Category category);
+
+    interface ObjectiveAnswerCount {
+        Long getQuestionId();
+        String getQuestionContent();
+        String getAnswer();
+        Long getAnswerCount();
+    }
+
+    @Query("SELECT r.content FROM Response r WHERE r.question.questionId = :questionId ORDER BY r.responseId")
+    List<String> findContentsByQuestionId(@Param("questionId") Long questionId);
+
     @Query("SELECT DISTINCT r.question.project.projectId FROM Response r WHERE r.users.userId = :userId")
     List<Long> findDistinctProjectIdsByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT COUNT(DISTINCT p.projectId) " +
-            "FROM Response r " +
-            "JOIN r.question q " +
-            "JOIN q.project p " +
-            "WHERE p.users.userId = :userId " +
-            "AND r.createdAt > :lastLogoutAt")
-    long countFeedbackForUserProjectsAfterLastLogout(@Param("userId") Long userId, @Param("lastLogoutAt") LocalDateTime lastLogoutAt);
-
 
 }
 
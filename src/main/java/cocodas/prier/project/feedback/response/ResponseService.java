@@ -1,7 +1,5 @@
 package cocodas.prier.project.feedback.response;
 
-import cocodas.prier.aws.AwsS3Service;
-import cocodas.prier.project.comment.ProjectCommentService;
 import cocodas.prier.project.feedback.question.Category;
 import cocodas.prier.project.feedback.question.Question;
 import cocodas.prier.project.feedback.question.QuestionRepository;
@@ -9,24 +7,19 @@ import cocodas.prier.project.feedback.response.dto.ResponseDetailDto;
 import cocodas.prier.project.feedback.response.dto.ResponseDto;
 import cocodas.prier.project.feedback.response.dto.ResponseObjectiveDto;
 import cocodas.prier.project.feedback.response.dto.ResponseRequestDto;
-import cocodas.prier.project.media.ProjectMedia;
-import cocodas.prier.project.project.Project;
-import cocodas.prier.project.project.ProjectRepository;
-import cocodas.prier.project.project.ProjectService;
-import cocodas.prier.statics.chatgpt.ChatGPTService;
-import cocodas.prier.statics.chatgpt.response.SummaryResponse;
-import cocodas.prier.statics.keywordAi.KeywordsService;
-import cocodas.prier.statics.keywordAi.dto.response.KeyWordResponseDto;
+import cocodas.prier.project.feedback.stats.ProjectFeedbackStatsService;
 import cocodas.prier.statics.objective.ObjectiveResponseService;
-import cocodas.prier.user.UserProfileService;
 import cocodas.prier.user.Users;
 import cocodas.prier.user.UserRepository;
-import cocodas.prier.user.dto.NotificationDto;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
-import cocodas.prier.user.response.ProfileImgDto;
+import cocodas.prier.user.mypage.MyPageChangedEvent;
+import cocodas.prier.user.notification.LiveNotificationEvent;
+import cocodas.prier.user.notification.NotificationCounterService;
+import cocodas.prier.user.notification.NotificationType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -43,25 +36,17 @@ public class ResponseService {
     private final ResponseRepository responseRepository;
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
-    private final ProjectRepository projectRepository;
 
-    private final ProjectService projectService;
-    private final KeywordsService keywordsService;
+    private final ProjectFeedbackStatsService projectFeedbackStatsService;
     private final ObjectiveResponseService objectiveResponseService;
-    private final ChatGPTService chatGPTService;
-    private final ProjectCommentService projectCommentService;
-    private final AwsS3Service awsS3Service;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserProfileService userProfileService;
+    private final NotificationCounterService notificationCounterService;
+    private final ResponseDetailOrchestrator responseDetailOrchestrator;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     private static final String INVALID_USER_ID_MESSAGE = "Invalid user ID: ";
     private static final String INVALID_QUESTION_ID_MESSAGE = "Invalid question ID: ";
 
-    private Long findUserIdByJwt(String token) {
-        return jwtTokenProvider.getUserIdFromJwt(token);
-    }
-
     @Transactional
     public List<ResponseDto> createResponses(Long userId, List<ResponseRequestDto> responsesDto) {
         Users user = userRepository.findById(userId)
@@ -92,6 +77,26 @@ public class ResponseService {
         responseRepository.saveAll(responses);
         log.info("Responses saved for user Id: {}", userId);
 
+        Map<Long, List<Response>> responsesByProject = responses.stream()
+                .collect(Collectors.groupingBy(response -> response.getQuestion().getProject().getProjectId()));
+        responsesByProject.forEach((projectId, projectResponses) -> {
+            projectFeedbackStatsService.applyResponses(projectId, userId, projectResponses, 1);
+            Long ownerId = projectOwnerIds(projectResponses).get(0);
+            notificationCounterService.onResponse(projectId, ownerId);
+            if (!ownerId.equals(userId)) {
+                eventPublisher.publishEvent(LiveNotificationEvent.of(ownerId, NotificationType.RESPONSE, projectId));
+            }
+        });
+
+        // 응답이 추가된 주관식 질문의 요약은 커밋 후 백그라운드에서 다시 생성하고, 키워드 횟수도 커밋 후 반영
+        List<Long> subjectiveQuestionIds = subjectiveQuestionIds(responses);
+        if (!subjectiveQuestionIds.isEmpty()) {
+            questionRepository.incrementResponseVersion(subjectiveQuestionIds);
+            eventPublisher.publishEvent(new ResponseCreatedEvent(subjectiveQuestionIds));
+            eventPublisher.publishEvent(SubjectiveResponsesChangedEvent.created(subjectiveContentsByProject(responses)));
+        }
+        eventPublisher.publishEvent(MyPageChangedEvent.of(projectOwnerIds(responses)));
+
         return responses.stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
@@ -113,96 +118,34 @@ public class ResponseService {
                 .collect(Collectors.toList());
     }
 
+    // 독립적인 조회는 ResponseDetailOrchestrator 에서 동시에 실행
+    // 각 조회가 자기 트랜잭션을 쓰므로, 기다리는 동안 요청 스레드가 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseDetailDto viewResponseDetail(Long projectId, Long userId) {
-
-        Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("프로젝트가 없습니다"));
-
-        ProjectMedia projectMedia = project.getProjectMedia()
-                .stream()
-                .filter(ProjectMedia::isMain)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트 메인이 없습니다."));
-
-        String publicUrl = awsS3Service.getPublicUrl(projectMedia.getS3Key());
-
-        List<KeyWordResponseDto> keywordByProjectId = keywordsService.getKeywordByProjectId(projectId);
-
-        int[] feedbackAmount = projectService.getFeedbackAmount(project);
-
-        Double percentage = objectiveResponseService.calculateFeedbackPercentage(projectId);
-
-        List<SummaryResponse> chatGptResponse = chatGPTService.getChatGptResponse(projectId);
-
-        List<ResponseObjectiveDto> objectiveByProject = getObjectiveByProject(projectId);
-
-        ProfileImgDto profile = userProfileService.getProfile(userId);
-
-        return new ResponseDetailDto(
-                projectId,
-                project.getTitle(),
-                project.getIntroduce(),
-                project.getTeamName(),
-                project.getLink(),
-                publicUrl,
-                project.getCalculatedScore(),
-                keywordByProjectId,
-                feedbackAmount[2],
-                String.format("%.2f", percentage),
-                chatGptResponse,
-                objectiveByProject,
-                projectCommentService.getProjectComments(projectId, userId),
-                profile
-        );
+        return responseDetailOrchestrator.viewResponseDetail(projectId, userId);
     }
 
     public List<ResponseObjectiveDto> getObjectiveByProject(Long projectId) {
-        List<Question> questions = projectRepository.findById(projectId)
-                .map(project -> project.getFeedbackQuestions()
-                        .stream()
-                        .filter(question -> question.getCategory().equals(Category.OBJECTIVE))
-                        .toList())
-                .orElse(Collections.emptyList());
-
-        List<ResponseObjectiveDto> objectiveCountList = new ArrayList<>();
-
-        for (Question question : questions) {
-            long veryGoodCount = question.getResponses().stream()
-                    .filter(response -> response.getContent().equals("10"))
-                    .count();
-            long goodCount = question.getResponses().stream()
-                    .filter(response -> response.getContent().equals("20"))
-                    .count();
-            long sosoCount = question.getResponses().stream()
-                    .filter(response -> response.getContent().equals("30"))
-                    .count();
-            long badCount = question.getResponses().stream()
-                    .filter(response -> response.getContent().equals("40"))
-                    .count();
-            long veryBadCount = question.getResponses().stream()
-                    .filter(response -> response.getContent().equals("50"))
-                    .count();
-            long feedbackCount = question.getResponses().size();
-
-            ResponseObjectiveDto dto = new ResponseObjectiveDto(
-                    question.getQuestionId(),
-                    question.getContent(),
-                    (int) feedbackCount,
-                    (int) veryGoodCount,
-                    (int) goodCount,
-                    (int) sosoCount,
-                    (int) badCount,
-                    (int) veryBadCount
-            );
-
-            objectiveCountList.add(dto);
-        }
-        return objectiveCountList;
+        return objectiveResponseService.getStatistics(projectId).getQuestions();
     }
 
     @Transactional
     public void deleteResponses(Long projectId, Long userId) {
         List<Response> responses = responseRepository.findAllByQuestionProjectProjectIdAndUsersUserId(projectId, userId);
+        // 이 유저의 프로젝트 응답을 전부 지우므로 응답자 행도 삭제
+        projectFeedbackStatsService.applyResponses(projectId, userId, responses, -1);
+
+        // 삭제된 응답이 빠진 요약은 다음 조회 때 다시 생성하고, 키워드 횟수는 커밋 후 반영
+        List<Long> subjectiveQuestionIds = subjectiveQuestionIds(responses);
+        if (!subjectiveQuestionIds.isEmpty()) {
+            questionRepository.incrementResponseVersion(subjectiveQuestionIds);
+            eventPublisher.publishEvent(SubjectiveResponsesChangedEvent.deleted(subjectiveContentsByProject(responses)));
+        }
+        eventPublisher.publishEvent(MyPageChangedEvent.of(projectOwnerIds(responses)));
         responseRepository.deleteAll(responses);
+        if (!responses.isEmpty()) {
+            notificationCounterService.onResponsesDeleted(projectId, projectOwnerIds(responses).get(0));
+        }
         log.info("Responses deleted for project ID: {} and user ID: {}", projectId, userId);
     }
 
@@ -212,13 +155,29 @@ public class ResponseService {
         return projectIds;
     }
 
-    public long countFeedbackForUserProjectsAfterLastLogout(Long userId) {
-        LocalDateTime lastLogoutAt = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException(INVALID_USER_ID_MESSAGE + userId))
-                .getLastLogoutAt();
-        long feedbackCount = responseRepository.countFeedbackForUserProjectsAfterLastLogout(userId, lastLogoutAt);
-        log.info("Feedback count after last login for user ID: {} is {}", userId, feedbackCount);
-        return feedbackCount;
+    // 키워드 집계 대상인 주관식 응답 내용을 프로젝트별로 묶기
+    private Map<Long, List<String>> subjectiveContentsByProject(List<Response> responses) {
+        return responses.stream()
+                .filter(response -> response.getQuestion().getCategory().equals(Category.SUBJECTIVE))
+                .collect(Collectors.groupingBy(response -> response.getQuestion().getProject().getProjectId(),
+                        Collectors.mapping(Response::getContent, Collectors.toList())));
+    }
+
+    // 응답이 달린 프로젝트 주인 (마이페이지 요약 갱신용)
+    private List<Long> projectOwnerIds(List<Response> responses) {
+        return responses.stream()
+                .map(response -> response.getQuestion().getProject().getUsers().getUserId())
+                .distinct()
+                .toList();
+    }
+
+    private List<Long> subjectiveQuestionIds(List<Response> responses) {
+        return responses.stream()
+                .map(Response::getQuestion)
+                .filter(question -> question.getCategory().equals(Category.SUBJECTIVE))
+                .map(Question::getQuestionId)
+                .distinct()
+                .toList();
     }
 
     private ResponseDto mapToDto(Response response) {
@@ -230,18 +189,4 @@ public class ResponseService {
                 .userId(response.getUsers().getUserId())
                 .build();
     }
-
-    // 개인 맞춤 서비스 알람
-    public NotificationDto noticeAmount(String token) {
-        Long userId = findUserIdByJwt(token);
-
-        long responseAmount = countFeedbackForUserProjectsAfterLastLogout(userId);
-        long commentAmount = projectCommentService.commentCountsForLogin(userId);
-
-        return NotificationDto.builder()
-                .responseAmount(responseAmount)
-                .commentAmount(commentAmount)
-                .build();
-
-    }
 }
@@ -0,0 +1,23 @@
+package cocodas.prier.project.feedback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// 프로젝트별로 저장/삭제된 주관식 응답 내용. 커밋 후 키워드 횟수 반영에 사용
+@Getter
+@AllArgsConstructor
+public class SubjectiveResponsesChangedEvent {
+    private Map<Long, List<String>> contentsByProject;
+    private boolean deleted;
+
+    public static SubjectiveResponsesChangedEvent created(Map<Long, List<String>> contentsByProject) {
+        return new SubjectiveResponsesChangedEvent(contentsByProject, false);
+    }
+
+    public static SubjectiveResponsesChangedEvent deleted(Map<Long, List<String>> contentsByProject) {
+        return new SubjectiveResponsesChangedEvent(contentsByProject, true);
+    }
+}
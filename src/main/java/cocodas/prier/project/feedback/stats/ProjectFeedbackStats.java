@@ -0,0 +1,78 @@
+package cocodas.prier.project.feedback.stats;
+
+import cocodas.prier.project.project.Project;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 프로젝트별 피드백 통계. 응답 저장·삭제 시 ProjectFeedbackStatsRepository 의 원자적 UPDATE 로만 갱신
+// 조회 화면에서는 질문/응답 컬렉션을 돌지 않고 이 행만 읽음
+// 댓글 수는 따로 두지 않고 Project.commentCount 하나만 사용
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "project_feedback_stats")
+public class ProjectFeedbackStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    // 질문별 응답 수 중 최댓값 (= 피드백 수)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int maxResponses;
+
+    // 응답을 남긴 서로 다른 유저 수
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int respondentCount;
+
+    // 객관식 응답 분포 (10, 20, 30, 40, 50)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int veryGoodCount;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int goodCount;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int sosoCount;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int badCount;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int veryBadCount;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int objectiveResponseCount;
+
+    @Column(nullable = false, columnDefinition = "DOUBLE DEFAULT 0")
+    private double objectiveScoreSum;
+
+    // 아직 응답이 없어 행이 없는 프로젝트용
+    public static ProjectFeedbackStats empty(Long projectId) {
+        ProjectFeedbackStats stats = new ProjectFeedbackStats();
+        stats.projectId = projectId;
+        return stats;
+    }
+
+    public double getAverageScore() {
+        return objectiveResponseCount == 0 ? 0.0 : objectiveScoreSum / objectiveResponseCount;
+    }
+
+    // 백분율 값 -> (모든 객관식 응답 평균 / 50) * 100
+    public double getPercentage() {
+        return (getAverageScore() / 50.0) * 100;
+    }
+
+    // 프로젝트 댓글 수(Project.commentCount), 프로젝트 피드백 수, 이 둘의 합
+    public int[] getFeedbackAmount(int commentCount) {
+        return new int[]{commentCount, maxResponses, commentCount + maxResponses};
+    }
+}
@@ -0,0 +1,33 @@
+package cocodas.prier.project.feedback.stats;
+
+import cocodas.prier.project.feedback.question.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 기존 데이터로 질문별 응답 수, 응답자 행과 프로젝트 피드백 통계를 한 번 채움
+// project.feedback-stats.backfill=true 로 기동했을 때만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "project.feedback-stats.backfill", havingValue = "true")
+public class ProjectFeedbackStatsBackfillRunner implements ApplicationRunner {
+
+    private final QuestionRepository questionRepository;
+    private final ProjectFeedbackStatsRepository projectFeedbackStatsRepository;
+    private final ProjectRespondentRepository projectRespondentRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        questionRepository.recountAllResponseCounts();
+        projectRespondentRepository.insertAllFromResponses();
+        projectFeedbackStatsRepository.createAllMissing();
+        int recounted = projectFeedbackStatsRepository.recountAll();
+        log.info("프로젝트 피드백 통계 백필 완료: {}개", recounted);
+    }
+}
@@ -0,0 +1,72 @@
+package cocodas.prier.project.feedback.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectFeedbackStatsRepository extends JpaRepository<ProjectFeedbackStats, Long> {
+
+    // 나머지 컬럼은 DEFAULT 0 으로 채워짐
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO project_feedback_stats (project_id) VALUES (:projectId)", nativeQuery = true)
+    void createIfAbsent(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("UPDATE ProjectFeedbackStats s SET " +
+            "s.respondentCount = s.respondentCount + :respondentDelta, " +
+            "s.veryGoodCount = s.veryGoodCount + :veryGood, " +
+            "s.goodCount = s.goodCount + :good, " +
+            "s.sosoCount = s.sosoCount + :soso, " +
+            "s.badCount = s.badCount + :bad, " +
+            "s.veryBadCount = s.veryBadCount + :veryBad, " +
+            "s.objectiveResponseCount = s.objectiveResponseCount + :objectiveCount, " +
+            "s.objectiveScoreSum = s.objectiveScoreSum + :objectiveScoreSum " +
+            "WHERE s.projectId = :projectId")
+    void addResponses(@Param("projectId") Long projectId,
+                      @Param("respondentDelta") int respondentDelta,
+                      @Param("veryGood") int veryGood,
+                      @Param("good") int good,
+                      @Param("soso") int soso,
+                      @Param("bad") int bad,
+                      @Param("veryBad") int veryBad,
+                      @Param("objectiveCount") int objectiveCount,
+                      @Param("objectiveScoreSum") double objectiveScoreSum);
+
+    // Question.responseCount 갱신 후 호출
+    @Modifying
+    @Query(value = "UPDATE project_feedback_stats " +
+            "SET max_responses = (SELECT COALESCE(MAX(q.response_count), 0) FROM question q WHERE q.project_id = :projectId) " +
+            "WHERE project_id = :projectId", nativeQuery = true)
+    void refreshMaxResponses(@Param("projectId") Long projectId);
+
+    // 백필용: 모든 프로젝트의 통계 행을 만들고 원본 테이블에서 다시 집계 (question.response_count 가 먼저 맞춰져 있어야 함)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO project_feedback_stats (project_id) SELECT project_id FROM project", nativeQuery = true)
+    int createAllMissing();
+
+    @Modifying
+    @Query(value = "UPDATE project_feedback_stats s SET " +
+            "max_responses = (SELECT COALESCE(MAX(q.response_count), 0) FROM question q WHERE q.project_id = s.project_id), " +
+            "respondent_count = (SELECT COUNT(DISTINCT r.user_id) FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id), " +
+            "very_good_count = (SELECT COUNT(*) FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id AND q.category = 'OBJECTIVE' AND r.content = '10'), " +
+            "good_count = (SELECT COUNT(*) FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id AND q.category = 'OBJECTIVE' AND r.content = '20'), " +
+            "soso_count = (SELECT COUNT(*) FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id AND q.category = 'OBJECTIVE' AND r.content = '30'), " +
+            "bad_count = (SELECT COUNT(*) FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id AND q.category = 'OBJECTIVE' AND r.content = '40'), " +
+            "very_bad_count = (SELECT COUNT(*) FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id AND q.category = 'OBJECTIVE' AND r.content = '50'), " +
+            "objective_response_count = (SELECT COUNT(*) FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id AND q.category = 'OBJECTIVE'), " +
+            "objective_score_sum = (SELECT COALESCE(SUM(CAST(r.content AS DECIMAL(10, 2))), 0) FROM response r " +
+            "JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = s.project_id AND q.category = 'OBJECTIVE')",
+            nativeQuery = true)
+    int recountAll();
+}
@@ -0,0 +1,107 @@
+package cocodas.prier.project.feedback.stats;
+
+import cocodas.prier.project.feedback.question.Category;
+import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.question.QuestionRepository;
+import cocodas.prier.project.feedback.response.Response;
+import cocodas.prier.project.project.Project;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectFeedbackStatsService {
+
+    private final ProjectFeedbackStatsRepository projectFeedbackStatsRepository;
+    private final ProjectRespondentRepository projectRespondentRepository;
+    private final QuestionRepository questionRepository;
+
+    public ProjectFeedbackStats getStats(Long projectId) {
+        return projectFeedbackStatsRepository.findById(projectId)
+                .orElseGet(() -> ProjectFeedbackStats.empty(projectId));
+    }
+
+    //프로젝트 댓글 수, 프로젝트 피드백 수, 이 둘의 합 이렇게 3개 반환 (댓글 수는 Project.commentCount)
+    public int[] getFeedbackAmount(Project project) {
+        return getStats(project.getProjectId()).getFeedbackAmount(project.getCommentCount());
+    }
+
+    // 한 유저가 한 프로젝트에 남긴 응답 묶음 저장(sign = 1) 또는 삭제(sign = -1) 반영
+    // 삭제는 그 유저의 프로젝트 응답 전부를 지울 때만 호출
+    @Transactional
+    public void applyResponses(Long projectId, Long userId, List<Response> responses, int sign) {
+        if (responses.isEmpty()) {
+            return;
+        }
+
+        // 응답자 수는 응답자 행이 실제로 생기거나 지워졌을 때만 바뀜
+        int respondentDelta = sign > 0
+                ? projectRespondentRepository.insertIfAbsent(projectId, userId)
+                : -projectRespondentRepository.deleteByProjectIdAndUserId(projectId, userId);
+
+        // 질문별 응답 수
+        Map<Long, Long> countsByQuestion = responses.stream()
+                .collect(Collectors.groupingBy(response -> response.getQuestion().getQuestionId(), Collectors.counting()));
+        countsByQuestion.forEach((questionId, count) ->
+                questionRepository.addResponseCount(questionId, sign * count.intValue()));
+
+        // 객관식 응답 분포
+        int[] histogram = new int[5];
+        int objectiveCount = 0;
+        double objectiveScoreSum = 0;
+        for (Response response : responses) {
+            Question question = response.getQuestion();
+            if (!question.getCategory().equals(Category.OBJECTIVE)) {
+                continue;
+            }
+
+            Double score = parseScore(response.getContent());
+            if (score == null) {
+                continue;
+            }
+            objectiveCount++;
+            objectiveScoreSum += score;
+
+            int bucket = switch (response.getContent()) {
+                case "10" -> 0;
+                case "20" -> 1;
+                case "30" -> 2;
+                case "40" -> 3;
+                case "50" -> 4;
+                default -> -1;
+            };
+            if (bucket >= 0) {
+                histogram[bucket]++;
+            }
+        }
+
+        projectFeedbackStatsRepository.createIfAbsent(projectId);
+        projectFeedbackStatsRepository.addResponses(projectId,
+                respondentDelta,
+                sign * histogram[0],
+                sign * histogram[1],
+                sign * histogram[2],
+                sign * histogram[3],
+                sign * histogram[4],
+                sign * objectiveCount,
+                sign * objectiveScoreSum);
+        projectFeedbackStatsRepository.refreshMaxResponses(projectId);
+    }
+
+    private static Double parseScore(String content) {
+        try {
+            return content == null ? null : Double.parseDouble(content);
+        } catch (NumberFormatException e) {
+            log.warn("숫자가 아닌 객관식 응답: {}", content);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package cocodas.prier.project.feedback.stats;
+
+import cocodas.prier.project.project.Project;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+
+// 프로젝트에 응답을 남긴 유저. (project_id, user_id) 기본 키로 유저당 한 행만 있으므로
+// INSERT IGNORE / DELETE 의 영향 행 수로 처음 응답인지, 마지막 응답 삭제인지 판단 (응답자 수 통계용)
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(ProjectRespondent.Key.class)
+@Table(name = "project_respondent")
+public class ProjectRespondent {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long projectId;
+        private Long userId;
+    }
+}
@@ -0,0 +1,31 @@
+package cocodas.prier.project.feedback.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectRespondentRepository extends JpaRepository<ProjectRespondent, ProjectRespondent.Key> {
+
+    // 처음 응답이면 1, 이미 응답한 유저면 0 (동시에 들어온 요청 중 하나만 1)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO project_respondent (project_id, user_id) VALUES (:projectId, :userId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // 지운 행이 있으면 1
+    @Modifying
+    @Query(value = "DELETE FROM project_respondent WHERE project_id = :projectId AND user_id = :userId",
+            nativeQuery = true)
+    int deleteByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // 백필용: 응답 테이블에서 응답자 행을 채움
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO project_respondent (project_id, user_id) " +
+            "SELECT DISTINCT q.project_id, r.user_id FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE r.user_id IS NOT NULL",
+            nativeQuery = true)
+    int insertAllFromResponses();
+}
@@ -3,11 +3,21 @@ package cocodas.prier.project.media;
 import cocodas.prier.project.project.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjectMediaRepository extends JpaRepository<ProjectMedia, Long> {
     List<ProjectMedia> findAllByProject(Project project);
+
+    // 여러 프로젝트의 메인 이미지를 한 번에 조회
+    @Query("SELECT pm FROM ProjectMedia pm WHERE pm.project.projectId IN :projectIds AND pm.isMain = true")
+    List<ProjectMedia> findMainMediaByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // 프로젝트의 내용 이미지 파일명
+    @Query("SELECT pm.metadata FROM ProjectMedia pm WHERE pm.project.projectId = :projectId AND pm.isMain = false")
+    List<String> findContentMetadataByProjectId(@Param("projectId") Long projectId);
 }
@@ -1,6 +1,7 @@
 package cocodas.prier.project.media;
 
 import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.aws.S3UploadPipeline;
 import cocodas.prier.project.media.dto.ProjectMediaDto;
 import cocodas.prier.project.project.Project;
 import lombok.RequiredArgsConstructor;
@@ -9,9 +10,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,52 +27,38 @@ public class ProjectMediaService {
     private final ProjectMediaRepository projectMediaRepository;
     private final AwsS3Service awsS3Service;
 
+    // 업로드는 호출한 쪽이 트랜잭션 전에 끝내고, 여기서는 S3 키만 저장
+    // s3Key == null 일 경우 기본 이미지
     @Transactional
-    public String createMainImage(Project project, MultipartFile file) throws IOException {
-        return createImage(project, file, true, 0); // 메인 이미지는 항상 order 0
+    public String createMainImage(Project project, MultipartFile file, String s3Key) {
+        if (s3Key == null) {
+            saveImage(project, "defaultImage", null, true, 0);
+        } else {
+            saveImage(project, file.getOriginalFilename(), s3Key, true, 0); // 메인 이미지는 항상 order 0
+        }
+        return "메인 이미지 등록 완료";
     }
 
+    // s3Keys 는 files 순서와 같음
     @Transactional
-    public String createContentImage(Project project, MultipartFile[] files) throws IOException {
+    public String createContentImage(Project project, List<MultipartFile> files, List<String> s3Keys) {
         int order = 1;
-        if (files != null) {
-            for (MultipartFile file : files) {
-                if (file != null && !file.isEmpty()) {  // 파일이 null이 아니고, 비어있지 않은 경우에만 이미지 생성
-                    createImage(project, file, false, order++);
-                }
-            }
+        for (int i = 0; i < files.size(); i++) {
+            saveImage(project, files.get(i).getOriginalFilename(), s3Keys.get(i), false, order++);
         }
         return "내용 이미지 등록 완료";
     }
 
-    private String createImage(Project project, MultipartFile file, boolean isMain, int order) throws IOException {
-
-        //s3Key == null 일 경우 기본 이미지
-        if (file == null || file.isEmpty()) {
-            ProjectMedia projectMedia = ProjectMedia.builder()
-                    .metadata("defaultImage")
-                    .isMain(isMain)
-                    .s3Key(null)
-                    .orderIndex(order) // 순서 설정
-                    .project(project)
-                    .build();
-            projectMediaRepository.save(projectMedia);
-            project.getProjectMedia().add(projectMedia);
-        }
-        else {
-            String key = handleFileUpload(file);
-            ProjectMedia projectMedia = ProjectMedia.builder()
-                    .metadata(file.getOriginalFilename())
-                    .isMain(isMain)
-                    .s3Key(key)
-                    .orderIndex(order) // 순서 설정
-                    .project(project)
-                    .build();
-            projectMediaRepository.save(projectMedia);
-            project.getProjectMedia().add(projectMedia);
-        }
-
-        return isMain ? "메인 이미지 등록 완료" : "이미지 등록 완료";
+    private void saveImage(Project project, String metadata, String s3Key, boolean isMain, int order) {
+        ProjectMedia projectMedia = ProjectMedia.builder()
+                .metadata(metadata)
+                .isMain(isMain)
+                .s3Key(s3Key)
+                .orderIndex(order) // 순서 설정
+                .project(project)
+                .build();
+        projectMediaRepository.save(projectMedia);
+        project.getProjectMedia().add(projectMedia);
     }
 
     @Transactional
@@ -84,15 +71,16 @@ public class ProjectMediaService {
     }
 
 
+    // newS3Key 는 호출한 쪽이 트랜잭션 전에 올려 둔 새 메인 이미지 (없으면 null)
     @Transactional
-    public void updateMainImage(Project project, Boolean isDeleted, MultipartFile file) throws IOException {
+    public void updateMainImage(Project project, Boolean isDeleted, MultipartFile file, String newS3Key) {
         ProjectMedia mainMedia = project.getProjectMedia().stream()
                 .filter(ProjectMedia::isMain)
                 .findFirst()
                 .orElseThrow(() -> new IllegalStateException("메인 이미지 존재하지 않음"));
 
         // 메인 이미지가 제공되지 않은 경우 기본 이미지로 교체
-        if (file == null || file.isEmpty()) {
+        if (newS3Key == null) {
             if(isDeleted) {
                 // 기존 메인 이미지가 기본 이미지가 아니라면 삭제
                 if (mainMedia.getS3Key() != null) {
@@ -108,17 +96,24 @@ public class ProjectMediaService {
                 awsS3Service.deleteFile(mainMedia.getS3Key());  // 기존 파일 S3에서 삭제
             }
 
-                String newS3Key = handleFileUpload(file);  // 새 파일 업로드
-                mainMedia.setS3Key(newS3Key);  // 새 S3 키 설정
-                mainMedia.setMetadata(file.getOriginalFilename());  // 새 메타데이터 설정
-
+            mainMedia.setS3Key(newS3Key);  // 새 S3 키 설정
+            mainMedia.setMetadata(file.getOriginalFilename());  // 새 메타데이터 설정
         }
 
         projectMediaRepository.save(mainMedia);  // 변경 사항 저장
     }
 
+    // 기존 내용 이미지와 파일명이 겹치지 않아 새로 업로드해야 하는 파일 (updateContentImages 와 같은 기준)
+    public List<MultipartFile> newContentImages(Long projectId, MultipartFile[] files) {
+        Set<String> existing = new HashSet<>(projectMediaRepository.findContentMetadataByProjectId(projectId));
+        return S3UploadPipeline.nonEmpty(files).stream()
+                .filter(file -> !existing.contains(file.getOriginalFilename()))
+                .toList();
+    }
+
+    // newS3Keys 는 newContentImages 로 고른 파일들을 트랜잭션 전에 올려 둔 키 (같은 순서)
     @Transactional
-    public void updateContentImages(Project project, String[] deleteImages, MultipartFile[] files) throws IOException {
+    public void updateContentImages(Project project, String[] deleteImages, MultipartFile[] files, List<String> newS3Keys) {
         if (files == null) {
             files = new MultipartFile[0];
         }
@@ -145,18 +140,16 @@ public class ProjectMediaService {
             }
         }
 
-        // 기존에 없는 새 파일 업로드 및 순서 업데이트
+        // 새 파일 저장 및 순서 업데이트
         int index = 1;
+        int uploaded = 0;
         for (MultipartFile file : files) {
             if (!file.isEmpty()) {
                 String originalFilename = file.getOriginalFilename();
-                ProjectMedia media = contentImagesMap.values().stream()
-                        .filter(m -> m.getMetadata().equals(originalFilename))
-                        .findFirst()
-                        .orElse(null);
+                ProjectMedia media = findContentImage(contentImagesMap, originalFilename);
 
                 if (media == null) {
-                    String newS3Key = handleFileUpload(file);
+                    String newS3Key = newS3Keys.get(uploaded++);
                     ProjectMedia newMedia = ProjectMedia.builder()
                             .metadata(originalFilename)
                             .isMain(false)
@@ -179,23 +172,11 @@ public class ProjectMediaService {
     }
 
 
-    private String handleFileUpload(MultipartFile file) throws IOException {
-
-        /*
-            임시 파일을 생성.
-            첫 번째 인자는 파일의 접두어, 두 번째 인자는 접미어(파일 확장자를 포함한 파일 이름)로
-            시스템의 기본 임시 파일 디렉터리에 저장.
-        */
-        File tempFile = File.createTempFile("project-", file.getOriginalFilename());
-        /*
-            사용자가 업로드한 파일(MultipartFile 객체)을 위에서 생성한 임시 파일로 복사.
-            이 과정을 통해 서버에 파일이 저장.
-         */
-        file.transferTo(tempFile);
-
-        String key = awsS3Service.uploadFile(tempFile);
-        tempFile.delete();
-        return key;
+    private ProjectMedia findContentImage(Map<String, ProjectMedia> contentImagesMap, String originalFilename) {
+        return contentImagesMap.values().stream()
+                .filter(m -> m.getMetadata().equals(originalFilename))
+                .findFirst()
+                .orElse(null);
     }
 
     public List<ProjectMediaDto> getProjectDetailMedia(Project project) {
@@ -220,6 +201,21 @@ public class ProjectMediaService {
         return getS3Url(s3Key);
     }
 
+    // 프로젝트 목록 조회용: 프로젝트 ID별 메인 이미지 URL (메인 이미지가 기본 이미지면 null)
+    public Map<Long, String> getMainImageUrls(Collection<Long> projectIds) {
+        Map<Long, String> mainImageUrls = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return mainImageUrls;
+        }
+
+        List<ProjectMedia> mainMedia = projectMediaRepository.findMainMediaByProjectIds(projectIds);
+        Map<String, String> urlByS3Key = awsS3Service.getPublicUrls(mainMedia.stream()
+                .map(ProjectMedia::getS3Key)
+                .toList());
+        mainMedia.forEach(media -> mainImageUrls.putIfAbsent(media.getProject().getProjectId(), urlByS3Key.get(media.getS3Key())));
+        return mainImageUrls;
+    }
+
     public String getS3Url(String s3Key) {
         if (s3Key == null) {
             return null;
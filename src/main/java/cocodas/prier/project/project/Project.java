@@ -4,6 +4,7 @@ import cocodas.prier.project.comment.ProjectComment;
 import cocodas.prier.project.feedback.question.Question;
 import cocodas.prier.project.media.ProjectMedia;
 import cocodas.prier.project.tag.projecttag.ProjectTag;
+import cocodas.prier.statics.keywordAi.ProjectKeyword;
 import cocodas.prier.user.Users;
 import jakarta.persistence.*;
 import lombok.Builder;
@@ -63,11 +64,18 @@ public class Project {
 
     private String teamMate;
 
-    @Column(nullable = false)
+    // score / calculatedScore / commentCount 는 댓글 생성/수정/삭제 시 ProjectRepository 의 원자적 UPDATE 로만 갱신
+    // 댓글 수는 여기 하나만 두고 피드백 통계(ProjectFeedbackStats)도 이 값을 읽음
+    // 엔티티를 수정해 flush 할 때 읽어 둔 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+    @Column(nullable = false, updatable = false)
     private Float score = 0F;
 
+    @Column(updatable = false)
     private Float calculatedScore = 0F;
 
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer commentCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Users users;
@@ -86,6 +94,9 @@ public class Project {
     @OrderColumn(name = "orderIndex")
     private List<Question> feedbackQuestions = new ArrayList<>();
 
+    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ProjectKeyword> projectKeywords = new ArrayList<>();
+
     @Builder
     public Project(String title, String introduce, String goal, String teamName, String teamDescription, String link, LocalDate devStartDate, LocalDate devEndDate, String teamMate, Users users) {
         this.title = title;
@@ -152,12 +163,4 @@ public class Project {
     public void setFeedbackQuestions(List<Question> feedbackQuestions) {
         this.feedbackQuestions = feedbackQuestions;
     }
-
-    public void updateScore(Float score) {
-        this.score += score;
-    }
-
-    public void setCalculatedScore(Float calculatedScore) {
-        this.calculatedScore = calculatedScore;
-    }
 }
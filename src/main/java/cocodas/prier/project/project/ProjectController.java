@@ -4,6 +4,8 @@ import cocodas.prier.project.project.dto.MyPageProjectDto;
 import cocodas.prier.project.project.dto.ProjectDetailDto;
 import cocodas.prier.project.project.dto.ProjectDto;
 import cocodas.prier.project.project.dto.ProjectForm;
+import cocodas.prier.project.search.dto.TagFacetDto;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -14,6 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -22,33 +26,22 @@ public class ProjectController {
 
     private final ProjectService projectService;
 
-    private static String getToken(String auth) {
-        if (auth == null || !auth.startsWith("Bearer ")) {
-            throw new RuntimeException("JWT Token is missing");
-        }
-
-        return auth.substring(7);
-    }
 
     // 프로젝트 생성
     @PostMapping
     public ResponseEntity<Long> createProject(@RequestPart("form") ProjectForm form,
                                                 @RequestParam(name = "mainImage", required = false) MultipartFile mainImage,
                                                 @RequestParam(name = "contentImages", required = false) MultipartFile[] contentImages,
-                                                @RequestHeader("Authorization") String auth) {
-
-        String token = getToken(auth);
-        Long result = projectService.handleCreateProject(form, mainImage, contentImages, token);
+                                                @LoginUser Long userId) {
+        Long result = projectService.handleCreateProject(form, mainImage, contentImages, userId);
         return ResponseEntity.ok(result);
     }
 
     // 프로젝트 삭제
     @DeleteMapping("/{projectId}")
     public ResponseEntity<String> deleteProject(@PathVariable Long projectId,
-                                                @RequestHeader("Authorization") String auth) {
-
-        String token = getToken(auth);
-        String result = projectService.deleteProject(token, projectId);
+                                                @LoginUser Long userId) {
+        String result = projectService.deleteProject(userId, projectId);
 
         return ResponseEntity.ok(result);
     }
@@ -60,19 +53,17 @@ public class ProjectController {
                                                 @RequestPart("form") ProjectForm form,
                                                 @RequestParam(name = "mainImage", required = false) MultipartFile mainImage,
                                                 @RequestParam(value = "contentImages", required = false) MultipartFile[] contentImages,
-                                                @RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        String result = projectService.updateProject(projectId, form, mainImage, contentImages, token);
+                                                @LoginUser Long userId) {
+        String result = projectService.updateProject(projectId, form, mainImage, contentImages, userId);
         return ResponseEntity.ok(result);
     }
 
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectDetailDto> getProjectDetail(@PathVariable Long projectId,
-                                                             @RequestHeader("Authorization") String auth) {
+                                                             @LoginUser Long userId) {
 
         try {
-            String token = getToken(auth);
-            ProjectDetailDto result = projectService.getProjectDetail(projectId, token);
+            ProjectDetailDto result = projectService.getProjectDetail(projectId, userId);
             return ResponseEntity.ok(result);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
@@ -86,6 +77,7 @@ public class ProjectController {
     @GetMapping
     public ResponseEntity<Page<ProjectDto>> getSearchedProjects(
             @RequestParam(value = "search", required = false) String keyword,
+            @RequestParam(name = "tag", required = false) String tagName,
             @RequestParam(name = "filter", required = false) Integer filter,
             @RequestParam(name = "page", defaultValue = "0") int page) {
 
@@ -94,7 +86,7 @@ public class ProjectController {
 
 
         if (keyword != null && !keyword.isEmpty()) {
-            projectPage = projectService.getSearchedProjects(keyword, pageable);
+            projectPage = projectService.getSearchedProjects(keyword, tagName, pageable);
         } else {
             projectPage = projectService.getAllProjects(filter, pageable);
         }
@@ -102,36 +94,37 @@ public class ProjectController {
         return ResponseEntity.ok(projectPage);
     }
 
+    // 검색 결과의 태그별 프로젝트 수
+    @GetMapping("/search/facets")
+    public ResponseEntity<List<TagFacetDto>> getSearchTagFacets(@RequestParam("search") String keyword) {
+        return ResponseEntity.ok(projectService.getSearchTagFacets(keyword));
+    }
+
     // 나의 프로젝트 조회
     @GetMapping("/my-projects")
     public ResponseEntity<Page<ProjectDto>> getMyProjects(
-            @RequestHeader("Authorization") String auth,
+            @LoginUser Long userId,
             @RequestParam("filter") Integer filter,
             @RequestParam(name = "page", defaultValue = "0") int page) {
 
-        String token = getToken(auth);
-        return ResponseEntity.ok(projectService.getMyProjects(token, filter, page));
+        return ResponseEntity.ok(projectService.getMyProjects(userId, filter, page));
     }
 
     // 유저 프로젝트 조회
     @GetMapping("/user-projects")
     public ResponseEntity<Page<ProjectDto>> getUserProjects(
-            @RequestHeader("Authorization") String auth,
+            @LoginUser Long loginUserId,
             @RequestParam("userId") Long userId,
             @RequestParam("filter") Integer filter,
             @RequestParam(name = "page", defaultValue = "0") int page) {
 
-        String token = getToken(auth);
-
-
         Pageable pageable = PageRequest.of(page, 5);  // 페이지 크기와 페이지 번호 설정
-        return ResponseEntity.ok(projectService.getUserProjects(token, userId, filter, pageable));
+        return ResponseEntity.ok(projectService.getUserProjects(loginUserId, userId, filter, pageable));
     }
 
     // 나의 최근 프로젝트, 피드백 개수
     @GetMapping("/recent-project")
-    public ResponseEntity<MyPageProjectDto> getMyRecentProject(@RequestHeader("Authorization") String auth,
-                                                               @RequestParam("userId") Long userId) {
+    public ResponseEntity<MyPageProjectDto> getMyRecentProject(@RequestParam("userId") Long userId) {
         return ResponseEntity.ok(projectService.getRecentProject(userId));
     }
 
@@ -140,9 +133,9 @@ public class ProjectController {
     @PostMapping("/{projectId}/extend")
     public ResponseEntity<String> extendFeedback(@PathVariable Long projectId,
                                                  @RequestParam Integer weeks,
-                                                 @RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        String result = projectService.extendFeedback(projectId, weeks, token);
+                                                 @LoginUser Long userId,
+                                                 @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        String result = projectService.extendFeedback(projectId, weeks, userId, idempotencyKey);
 
         return ResponseEntity.ok(result);
     }
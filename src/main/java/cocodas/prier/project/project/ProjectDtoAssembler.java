@@ -0,0 +1,61 @@
+package cocodas.prier.project.project;
+
+import cocodas.prier.project.media.ProjectMediaService;
+import cocodas.prier.project.project.dto.ProjectDto;
+import cocodas.prier.project.tag.projecttag.ProjectTagService;
+import cocodas.prier.project.tag.tag.dto.TagDto;
+import cocodas.prier.user.UserProfileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// 프로젝트 목록 페이지를 ProjectDto 페이지로 변환
+// 행마다 지연 로딩하지 않고 메인 이미지, 태그, 작성자 프로필을 페이지 단위로 한 번씩만 조회
+@Component
+@RequiredArgsConstructor
+public class ProjectDtoAssembler {
+
+    private final ProjectMediaService projectMediaService;
+    private final ProjectTagService projectTagService;
+    private final UserProfileService userProfileService;
+
+    public Page<ProjectDto> assemble(Page<Project> projects, Predicate<Project> isMine) {
+        if (projects.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), projects.getPageable(), projects.getTotalElements());
+        }
+
+        List<Long> projectIds = projects.getContent().stream()
+                .map(Project::getProjectId)
+                .toList();
+        Set<Long> ownerIds = projects.getContent().stream()
+                .map(project -> project.getUsers().getUserId())
+                .collect(Collectors.toSet());
+
+        Map<Long, String> mainImageUrls = projectMediaService.getMainImageUrls(projectIds);
+        Map<Long, List<TagDto>> tags = projectTagService.getProjectTags(projectIds);
+        Map<Long, String> profileUrls = userProfileService.getProfileUrls(ownerIds);
+
+        return projects.map(project -> new ProjectDto(
+                project.getProjectId(),
+                project.getUsers().getUserId(),
+                project.getTitle(),
+                project.getTeamName(),
+                mainImageUrls.get(project.getProjectId()),
+                project.getDevStartDate(),
+                project.getStatus(),
+                project.getLink(),
+                tags.getOrDefault(project.getProjectId(), Collections.emptyList()),
+                project.getCalculatedScore(),
+                profileUrls.get(project.getUsers().getUserId()),
+                isMine.test(project)
+        ));
+    }
+}
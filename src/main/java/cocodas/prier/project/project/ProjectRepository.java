@@ -1,11 +1,10 @@
 package cocodas.prier.project.project;
 
 import cocodas.prier.user.Users;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,14 +15,6 @@ import java.util.Optional;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
 
-    @Query("SELECT DISTINCT p FROM Project p " +
-            "LEFT JOIN p.projectTags pt " +
-            "LEFT JOIN pt.tag t " +
-            "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(p.teamName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(t.tagName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Project> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
     @Query("SELECT p FROM Project p " +
             "WHERE p.users = :user " +
             "ORDER BY p.createdAt DESC " +
@@ -32,4 +23,46 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpec
 
     @EntityGraph(attributePaths = {"feedbackQuestions.responses"})
     Optional<Project> findWithQuestionsAndResponsesByProjectId(Long projectId);
+
+    // 댓글 점수 합계와 댓글 수를 원자적으로 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p " +
+            "SET p.score = p.score + :scoreDelta, p.commentCount = p.commentCount + :commentDelta " +
+            "WHERE p.projectId = :projectId")
+    int addCommentScore(@Param("projectId") Long projectId,
+                        @Param("scoreDelta") Float scoreDelta,
+                        @Param("commentDelta") int commentDelta);
+
+    // 저장된 점수 합계와 댓글 수로 평균 점수(0.5 단위 반올림, 최대 5점) 재계산
+    // score 는 FLOAT 라 ROUND 는 짝수 쪽으로 반올림하므로 Math.round 와 같도록 FLOOR(x + 0.5) 사용
+    @Modifying
+    @Query(value = "UPDATE project " +
+            "SET calculated_score = CASE WHEN comment_count = 0 THEN 0 " +
+            "ELSE LEAST(5, FLOOR(score * 2 / comment_count + 0.5) / 2) END " +
+            "WHERE project_id = :projectId", nativeQuery = true)
+    int refreshCalculatedScore(@Param("projectId") Long projectId);
+
+    // 백필용: 모든 프로젝트의 댓글 수와 점수 합계를 댓글 테이블에서 다시 집계
+    @Modifying
+    @Query(value = "UPDATE project p " +
+            "SET comment_count = (SELECT COUNT(*) FROM project_comment c WHERE c.project_id = p.project_id), " +
+            "score = (SELECT COALESCE(SUM(c.score), 0) FROM project_comment c WHERE c.project_id = p.project_id)",
+            nativeQuery = true)
+    int recountAllCommentScores();
+
+    @Modifying
+    @Query(value = "UPDATE project " +
+            "SET calculated_score = CASE WHEN comment_count = 0 THEN 0 " +
+            "ELSE LEAST(5, FLOOR(score * 2 / comment_count + 0.5) / 2) END", nativeQuery = true)
+    int refreshAllCalculatedScores();
+
+    // 이 프로젝트에 댓글을 단 유저 (마이페이지 댓글 목록에 프로젝트 제목/팀명이 보임)
+    @Query("SELECT DISTINCT c.users.userId FROM ProjectComment c WHERE c.project.projectId = :projectId")
+    List<Long> findCommenterIds(@Param("projectId") Long projectId);
+
+    @Query("SELECT p.projectId FROM Project p")
+    List<Long> findAllProjectIds();
+
+    @Query("SELECT p.users.userId FROM Project p WHERE p.projectId = :projectId")
+    Optional<Long> findOwnerId(@Param("projectId") Long projectId);
 }
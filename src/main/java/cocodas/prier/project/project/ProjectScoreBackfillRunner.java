@@ -0,0 +1,28 @@
+package cocodas.prier.project.project;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 기존 데이터의 score / commentCount / calculatedScore 를 댓글 테이블 기준으로 한 번 재계산
+// project.score.backfill=true 로 기동했을 때만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "project.score.backfill", havingValue = "true")
+public class ProjectScoreBackfillRunner implements ApplicationRunner {
+
+    private final ProjectRepository projectRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int recounted = projectRepository.recountAllCommentScores();
+        projectRepository.refreshAllCalculatedScores();
+        log.info("프로젝트 점수 백필 완료: {}개", recounted);
+    }
+}
@@ -1,33 +1,42 @@
 package cocodas.prier.project.project;
 
+import cocodas.prier.aws.S3UploadPipeline;
 import cocodas.prier.point.pointTransaction.PointTransactionService;
 import cocodas.prier.point.pointTransaction.TransactionType;
-import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.stats.ProjectFeedbackStatsService;
 import cocodas.prier.project.feedback.question.QuestionService;
 import cocodas.prier.project.media.ProjectMediaService;
 import cocodas.prier.project.project.dto.*;
+import cocodas.prier.project.search.ProjectSearchService;
+import cocodas.prier.project.search.dto.TagFacetDto;
 import cocodas.prier.project.tag.projecttag.ProjectTagService;
+import cocodas.prier.user.CurrentUserContext;
 import cocodas.prier.user.UserProfileService;
-import cocodas.prier.user.UserRepository;
 import cocodas.prier.user.Users;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.user.mypage.MyPageChangedEvent;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,49 +45,74 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
 
-    private final JwtTokenProvider jwtTokenProvider;
     private final ProjectTagService projectTagService;
     private final QuestionService questionService;
     private final ProjectMediaService projectMediaService;
     private final PointTransactionService pointTransactionService;
     private final UserProfileService userProfileService;
-
-    @Transactional
+    private final ProjectDtoAssembler projectDtoAssembler;
+    private final ProjectFeedbackStatsService projectFeedbackStatsService;
+    private final ProjectSearchService projectSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final S3UploadPipeline s3UploadPipeline;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이미지는 트랜잭션 전에 업로드하고, 프로젝트 저장은 그 다음 짧은 트랜잭션에서 (실패하면 업로드한 파일 삭제)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createProject(ProjectForm form,
                                 MultipartFile mainImage,
                                 MultipartFile[] contentImages,
-                                String token) {
-
-        //유저 찾기
-        Users user = getUsersByToken(token);
-
-        Project project = buildProject(form, user);
-        project.setStatus(ProjectStatus.values()[form.getStatus()]);
-        Project savedProject = projectRepository.save(project);
-
-        handleProjectTags(form, project);
-        handleProjectQuestions(form, project);
-        handleProjectMedia(mainImage, contentImages, project);
+                                Long userId) {
+
+        List<MultipartFile> mainFiles = S3UploadPipeline.nonEmpty(new MultipartFile[]{mainImage});
+        List<MultipartFile> contentFiles = S3UploadPipeline.nonEmpty(contentImages);
+        List<MultipartFile> uploadFiles = new ArrayList<>(mainFiles);
+        uploadFiles.addAll(contentFiles);
+
+        return s3UploadPipeline.uploadThen(uploadFiles, keys -> transactionTemplate.execute(status -> {
+            //유저 찾기
+            Users user = findUser(userId);
+
+            Project project = buildProject(form, user);
+            project.setStatus(ProjectStatus.values()[form.getStatus()]);
+            Project savedProject = projectRepository.save(project);
+
+            handleProjectTags(form, project);
+            handleProjectQuestions(form, project);
+
+            // keys 는 메인 이미지(있으면), 내용 이미지 순서
+            String mainKey = mainFiles.isEmpty() ? null : keys.get(0);
+            projectMediaService.createMainImage(project, mainImage, mainKey);
+            projectMediaService.createContentImage(project, contentFiles, keys.subList(mainFiles.size(), keys.size()));
+            projectSearchService.index(project);
+
+            user.getProjects().add(project);
+            eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
+            return savedProject.getProjectId();
+        }));
+    }
 
-        user.getProjects().add(project);
-        return savedProject.getProjectId();
+    // 프로젝트 주인과 댓글 작성자의 마이페이지 요약 갱신 (삭제 시에는 댓글이 지워지기 전에 호출)
+    private void publishMyPageChanged(Long ownerId, Long projectId) {
+        List<Long> userIds = new ArrayList<>(projectRepository.findCommenterIds(projectId));
+        userIds.add(ownerId);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userIds));
     }
 
-    private Users getUsersByToken(String token) {
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
-        Users user = userRepository.findById(userId)
+    private Users findUser(Long userId) {
+        Users user = currentUserContext.findUser(userId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
         log.info("유저 정보: " + user.getNickname());
         return user;
     }
 
-    @Transactional
-    public Long handleCreateProject(ProjectForm form, MultipartFile mainImage, MultipartFile[] contentImages, String token) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long handleCreateProject(ProjectForm form, MultipartFile mainImage, MultipartFile[] contentImages, Long userId) {
         try {
             validateProjectForm(form);
-            return createProject(form, mainImage, contentImages, token);
+            return createProject(form, mainImage, contentImages, userId);
         } catch (IllegalArgumentException e) {
             log.error("Project creation failed: {}", e.getMessage());
             return -1L;
@@ -123,103 +157,85 @@ public class ProjectService {
         }
     }
 
-    private void handleProjectMedia(MultipartFile mainImage, MultipartFile[] contentImages, Project project) {
-        try {
-            projectMediaService.createMainImage(project, mainImage);
-        } catch (IOException e) {
-            log.error("메인 이미지 업로드 실패: {}", e.getMessage());
-            throw new RuntimeException("메인 이미지 업로드 실패", e);
-        }
-        if (contentImages != null) {
-            try {
-                projectMediaService.createContentImage(project, contentImages);
-            } catch (IOException e) {
-                log.error("내용 이미지 업로드 실패: {}", e.getMessage());
-                throw new RuntimeException("내용 이미지 업로드 실패", e);
-            }
-        }
-    }
-
     @Transactional
-    public String deleteProject(String token, Long projectId) {
+    public String deleteProject(Long userId, Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
 
-        Users user = getUsersByToken(token);
+        Users user = findUser(userId);
         if (!user.equals(project.getUsers())) {
             return "잘못된 사용자, 삭제 실패";
         }
 
+        publishMyPageChanged(userId, projectId);
         projectMediaService.deleteImage(project);
+        projectSearchService.remove(projectId);
         projectRepository.deleteById(projectId);
         return "프로젝트 삭제 완료";
     }
 
-    @Transactional
+    // 새 이미지는 트랜잭션 전에 업로드하고, 수정은 그 다음 짧은 트랜잭션에서 (실패하면 업로드한 파일 삭제)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String updateProject(Long projectId,
                                 ProjectForm projectForm,
                                 MultipartFile mainImage,
                                 MultipartFile[] contentImages,
-                                String token) {
+                                Long userId) {
 
-        Project project = projectRepository.findById(projectId)
+        // 권한이 없으면 업로드하지 않음 (프로젝트 주인은 바뀌지 않으므로 트랜잭션 밖에서 확인)
+        Long ownerId = projectRepository.findOwnerId(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
-
-        Users user = getUsersByToken(token);
-        if (!user.equals(project.getUsers())) {
+        if (!ownerId.equals(userId)) {
             return "잘못된 사용자, 수정 실패";
         }
 
+        List<MultipartFile> mainFiles = S3UploadPipeline.nonEmpty(new MultipartFile[]{mainImage});
+        List<MultipartFile> newContentFiles = projectMediaService.newContentImages(projectId, contentImages);
+        List<MultipartFile> uploadFiles = new ArrayList<>(mainFiles);
+        uploadFiles.addAll(newContentFiles);
+
+        return s3UploadPipeline.uploadThen(uploadFiles, keys -> transactionTemplate.execute(status -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
+
+            project.setTitle(projectForm.getTitle());
+            project.setIntroduce(projectForm.getIntroduce());
+            project.setGoal(projectForm.getGoal());
+            project.setDevStartDate(projectForm.getStartDate());
+            project.setDevEndDate(projectForm.getEndDate());
+            project.setStatus(ProjectStatus.values()[projectForm.getStatus()]);
+            project.setTeamName(projectForm.getTeamName());
+            project.setTeamDescription(projectForm.getTeamDescription());
+            project.setTeamMate(projectForm.getTeamMate());
+            project.setLink(projectForm.getLink());
+
+            // 태그 업데이트
+            if (projectForm.getTags() != null) {
+                log.info(projectForm.getTags()[0]);
+                projectTagService.updateProjectTags(project, projectForm.getTags());
+            }
 
-        project.setTitle(projectForm.getTitle());
-        project.setIntroduce(projectForm.getIntroduce());
-        project.setGoal(projectForm.getGoal());
-        project.setDevStartDate(projectForm.getStartDate());
-        project.setDevEndDate(projectForm.getEndDate());
-        project.setStatus(ProjectStatus.values()[projectForm.getStatus()]);
-        project.setTeamName(projectForm.getTeamName());
-        project.setTeamDescription(projectForm.getTeamDescription());
-        project.setTeamMate(projectForm.getTeamMate());
-        project.setLink(projectForm.getLink());
-
-        // 태그 업데이트
-        if (projectForm.getTags() != null) {
-            log.info(projectForm.getTags()[0]);
-            projectTagService.updateProjectTags(project, projectForm.getTags());
-        }
-
-        // 질문 업데이트
-        if (projectForm.getQuestion() != null && projectForm.getType() != null) {
-            questionService.updateQuestions(project, projectForm.getQuestion(), projectForm.getQuestionId(), projectForm.getType());
-        }
-
-        // 미디어 파일 업데이트
-
-        try {
-            projectMediaService.updateMainImage(project, projectForm.getDeleteMainImage(), mainImage);
-        } catch (IOException e) {
-            log.error("메인 이미지 업데이트 실패: {}", e.getMessage());
-            throw new RuntimeException("메인 이미지 업데이트 실패", e);
-        }
-
-
-
-
-        try {
-            projectMediaService.updateContentImages(project, projectForm.getDeleteImages(), contentImages);
-        } catch (IOException e) {
-            log.error("내용 이미지 업데이트 실패: {}", e.getMessage());
-            throw new RuntimeException("내용 이미지 업데이트 실패", e);
-        }
-
+            // 질문 업데이트
+            if (projectForm.getQuestion() != null && projectForm.getType() != null) {
+                questionService.updateQuestions(project, projectForm.getQuestion(), projectForm.getQuestionId(), projectForm.getType());
+            }
 
-        project.setUpdatedAt(LocalDateTime.now());
-        return "프로젝트 업데이트 완료";
+            // 미디어 파일 업데이트 (keys 는 메인 이미지(있으면), 새 내용 이미지 순서)
+            String mainKey = mainFiles.isEmpty() ? null : keys.get(0);
+            projectMediaService.updateMainImage(project, projectForm.getDeleteMainImage(), mainImage, mainKey);
+            projectMediaService.updateContentImages(project, projectForm.getDeleteImages(), contentImages,
+                    keys.subList(mainFiles.size(), keys.size()));
+
+            project.setUpdatedAt(LocalDateTime.now());
+            projectSearchService.index(project);
+            publishMyPageChanged(userId, projectId);
+            return "프로젝트 업데이트 완료";
+        }));
     }
 
-    public ProjectDetailDto getProjectDetail(Long projectId, String token) {
+    public ProjectDetailDto getProjectDetail(Long projectId, Long userId) {
 
-        Users user = getUsersByToken(token);
+        Users user = findUser(userId);
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
@@ -247,8 +263,8 @@ public class ProjectService {
                 questionService.getProjectQuestions(project),
                 projectMediaService.getProjectDetailMedia(project),
                 projectTagService.getProjectTags(project),
-                calculateScore(project),
-                getFeedbackAmount(project),
+                project.getCalculatedScore(),
+                projectFeedbackStatsService.getFeedbackAmount(project),
                 userProfileService.getProfile(project.getUsers().getUserId()).getS3Key()
         );
     }
@@ -266,7 +282,7 @@ public class ProjectService {
                 projectMediaService.getProjectDetailMedia(project).get(0),
                 project.getGoal(),
                 project.getLink(),
-                getFeedbackAmount(project));
+                projectFeedbackStatsService.getFeedbackAmount(project));
     }
 
 
@@ -282,28 +298,12 @@ public class ProjectService {
         }
 
         pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
-        return projectRepository.findAll(pageable).map(project -> {
-            Float score = project.getCalculatedScore();
-            return new ProjectDto(
-                    project.getProjectId(),
-                    project.getUsers().getUserId(),
-                    project.getTitle(),
-                    project.getTeamName(),
-                    projectMediaService.getMainImageUrl(project),
-                    project.getDevStartDate(),
-                    project.getStatus(),
-                    project.getLink(),
-                    projectTagService.getProjectTags(project),
-                    score,
-                    userProfileService.getProfile(project.getUsers().getUserId()).getS3Key(),
-                    false
-            );
-        });
+        return projectDtoAssembler.assemble(projectRepository.findAll(pageable), project -> false);
     }
 
     // 나의 프로젝트 조회
-    public Page<ProjectDto> getMyProjects(String token, int filter, int page) {
-        Users user = getUsersByToken(token);
+    public Page<ProjectDto> getMyProjects(Long userId, int filter, int page) {
+        Users user = findUser(userId);
 
         Specification<Project> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -327,28 +327,15 @@ public class ProjectService {
 
         Page<Project> projects = projectRepository.findAll(spec, pageable);
 
-        return projects.map(project -> new ProjectDto(
-                project.getProjectId(),
-                project.getUsers().getUserId(),
-                project.getTitle(),
-                project.getTeamName(),
-                projectMediaService.getMainImageUrl(project),
-                project.getDevStartDate(),
-                project.getStatus(),
-                project.getLink(),
-                projectTagService.getProjectTags(project),
-                calculateScore(project),
-                userProfileService.getProfile(project.getUsers().getUserId()).getS3Key(),
-                true
-        ));
+        return projectDtoAssembler.assemble(projects, project -> true);
     }
 
     // 유저 프로젝트 조회
-    public Page<ProjectDto> getUserProjects(String token, Long userId, int filter, Pageable pageable) {
-        Users user = userRepository.findById(userId)
+    public Page<ProjectDto> getUserProjects(Long loginUserId, Long userId, int filter, Pageable pageable) {
+        Users user = currentUserContext.findUser(userId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
 
-        Users loginUser = getUsersByToken(token);
+        Users loginUser = findUser(loginUserId);
 
         Specification<Project> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -373,30 +360,16 @@ public class ProjectService {
 
         Page<Project> projects = projectRepository.findAll(spec, sortedPageable);
 
-        return projects.map(project -> {
-            // 로그에 프로젝트 제목과 상태를 기록
-            log.info("Project 제목: {}, Project 상태: {}", project.getTitle(), project.getStatus());
-
-            return new ProjectDto(
-                    project.getProjectId(),
-                    project.getUsers().getUserId(),
-                    project.getTitle(),
-                    project.getTeamName(),
-                    projectMediaService.getMainImageUrl(project),
-                    project.getDevStartDate(),
-                    project.getStatus(),
-                    project.getLink(),
-                    projectTagService.getProjectTags(project),
-                    calculateScore(project),
-                    userProfileService.getProfile(project.getUsers().getUserId()).getS3Key(),
-                    project.getUsers().equals(loginUser)
-            );
-        });
+        projects.forEach(project ->
+                // 로그에 프로젝트 제목과 상태를 기록
+                log.info("Project 제목: {}, Project 상태: {}", project.getTitle(), project.getStatus()));
+
+        return projectDtoAssembler.assemble(projects, project -> project.getUsers().equals(loginUser));
     }
 
     // %%% 마이페이지 최근 프로젝트 & 피드백 개수 조회
     public MyPageProjectDto getRecentProject(Long userId) {
-        Users user = userRepository.findById(userId)
+        Users user = currentUserContext.findUser(userId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 유저"));
 
         Project project = projectRepository.findMyRecentProject(user)
@@ -410,69 +383,59 @@ public class ProjectService {
                 .projectId(project.getProjectId())
                 .title(project.getTitle())
                 .teamName(project.getTeamName())
-                .score(calculateScore(project))
-                .feedbackAmount(getFeedbackAmount(project)[2])
+                .score(project.getCalculatedScore())
+                .feedbackAmount(projectFeedbackStatsService.getFeedbackAmount(project)[2])
                 .build();
     }
 
 
-    public Page<ProjectDto> getSearchedProjects(String keyword, Pageable pageable) {
-        return projectRepository.findByKeyword(keyword, pageable)
-                .map(project -> new ProjectDto(
-                        project.getProjectId(),
-                        project.getUsers().getUserId(),
-                        project.getTitle(),
-                        project.getTeamName(),
-                        projectMediaService.getMainImageUrl(project),
-                        project.getDevStartDate(),
-                        project.getStatus(),
-                        project.getLink(),
-                        projectTagService.getProjectTags(project),
-                        calculateScore(project),
-                        userProfileService.getProfile(project.getUsers().getUserId()).getS3Key(),
-                        false
-                ));
+    // 검색 색인 기준 관련도 순. tagName 이 있으면 해당 태그 프로젝트만
+    public Page<ProjectDto> getSearchedProjects(String keyword, String tagName, Pageable pageable) {
+        Page<Long> projectIds = projectSearchService.search(keyword, tagName, pageable);
+
+        // 순위는 유지하면서 프로젝트는 한 번에 조회
+        Map<Long, Project> projects = projectRepository.findAllById(projectIds.getContent()).stream()
+                .collect(Collectors.toMap(Project::getProjectId, Function.identity()));
+        List<Project> ranked = projectIds.getContent().stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Page<Project> page = new PageImpl<>(ranked, pageable, projectIds.getTotalElements());
+        return projectDtoAssembler.assemble(page, project -> false);
+    }
+
+    public List<TagFacetDto> getSearchTagFacets(String keyword) {
+        return projectSearchService.getTagFacets(keyword);
     }
 
     @Transactional
-    public String extendFeedback(Long projectId, Integer weeks, String token) {
+    // idempotencyKey 가 있으면 같은 키로 다시 요청해도 포인트는 한 번만 차감
+    public String extendFeedback(Long projectId, Integer weeks, Long userId, String idempotencyKey) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 프로젝트"));
 
-        Users user = getUsersByToken(token);
+        Users user = findUser(userId);
         if (!user.equals(project.getUsers())) {
             return "잘못된 사용자, 요청 실패";
         }
 
-        pointTransactionService.decreasePoints(user, weeks * 250, TransactionType.FEEDBACK_EXTENSION);
+        String extensionKey = idempotencyKey == null ? null : "extend:" + projectId + ":" + idempotencyKey;
+        if (extensionKey != null && pointTransactionService.isProcessed(extensionKey)) {
+            return user.getNickname() + " 이미 처리된 연장 요청";
+        }
+
+        pointTransactionService.decreasePoints(user, weeks * 250, TransactionType.FEEDBACK_EXTENSION, null, extensionKey);
         project.addFeedbackEndAt(weeks);
 
         log.info(user.getNickname() + " " + weeks * 250 + "포인트 차감 완료 " + weeks + "주 연장 완료");
         return user.getNickname() + " " + weeks * 250 + "포인트 차감 완료 " + weeks + "주 연장 완료";
     }
 
+    // 댓글 생성/수정/삭제 시에만 호출: 점수 합계와 댓글 수를 증감하고 평균 점수를 다시 계산
     @Transactional
-    public Float calculateScore(Project project) {
-        int commentsAmount = project.getProjectComments().size();
-        float averageScore = project.getScore() / commentsAmount;
-
-        averageScore = Math.min(5, Math.round(averageScore * 2) / 2.0f);
-
-        project.setCalculatedScore(averageScore);
-        projectRepository.save(project);
-
-        return averageScore;
-    }
-
-    //프로젝트 댓글 수, 프로젝트 피드백 수, 이 둘의 합 이렇게 3개 반환
-    public int[] getFeedbackAmount(Project project) {
-        List<Question> feedbackQuestions = project.getFeedbackQuestions();
-        AtomicInteger maxValue = new AtomicInteger(Integer.MIN_VALUE);
-        feedbackQuestions.forEach(q -> {
-            if (maxValue.get() < q.getResponses().size()) {
-                maxValue.set(q.getResponses().size());
-            }
-        });
-        return new int[]{project.getProjectComments().size(), maxValue.get(), project.getProjectComments().size() + maxValue.get()};
+    public void applyCommentScore(Long projectId, Float scoreDelta, int commentDelta) {
+        projectRepository.addCommentScore(projectId, scoreDelta, commentDelta);
+        projectRepository.refreshCalculatedScore(projectId);
     }
 }
\ No newline at end of file
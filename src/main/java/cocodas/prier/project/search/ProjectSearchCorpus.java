@@ -0,0 +1,7 @@
+package cocodas.prier.project.search;
+
+// 색인된 전체 프로젝트 수와 평균 문서 길이
+public interface ProjectSearchCorpus {
+    Long getDocumentCount();
+    Double getAverageLength();
+}
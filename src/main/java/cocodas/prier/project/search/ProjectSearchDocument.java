@@ -0,0 +1,33 @@
+package cocodas.prier.project.search;
+
+import cocodas.prier.project.project.Project;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 색인된 프로젝트별 문서 길이 (BM25 길이 정규화용)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "project_search_document")
+public class ProjectSearchDocument {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @Column(nullable = false)
+    private int documentLength;
+
+    public ProjectSearchDocument(Long projectId, int documentLength) {
+        this.projectId = projectId;
+        this.documentLength = documentLength;
+    }
+}
@@ -0,0 +1,19 @@
+package cocodas.prier.project.search;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectSearchDocumentRepository extends JpaRepository<ProjectSearchDocument, Long> {
+
+    @Query("SELECT COUNT(d) AS documentCount, COALESCE(AVG(d.documentLength), 0) AS averageLength " +
+            "FROM ProjectSearchDocument d")
+    ProjectSearchCorpus getCorpus();
+
+    @Modifying
+    @Query("DELETE FROM ProjectSearchDocument d WHERE d.projectId = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,30 @@
+package cocodas.prier.project.search;
+
+import cocodas.prier.project.project.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기존 프로젝트로 검색 색인을 한 번 채움
+// project.search.reindex=true 로 기동했을 때만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "project.search.reindex", havingValue = "true")
+public class ProjectSearchIndexBackfillRunner implements ApplicationRunner {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectSearchService projectSearchService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> projectIds = projectRepository.findAllProjectIds();
+        projectIds.forEach(projectSearchService::reindex);
+        log.info("프로젝트 검색 색인 백필 완료: {}개", projectIds.size());
+    }
+}
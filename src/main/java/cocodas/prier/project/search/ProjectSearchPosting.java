@@ -0,0 +1,9 @@
+package cocodas.prier.project.search;
+
+// 검색어 하나와 일치한 프로젝트의 등장 횟수와 문서 길이
+public interface ProjectSearchPosting {
+    Long getProjectId();
+    String getTerm();
+    Integer getTermFrequency();
+    Integer getDocumentLength();
+}
@@ -0,0 +1,228 @@
+package cocodas.prier.project.search;
+
+import cocodas.prier.project.project.Project;
+import cocodas.prier.project.project.ProjectRepository;
+import cocodas.prier.project.search.dto.TagFacetDto;
+import cocodas.prier.project.tag.projecttag.ProjectTag;
+import cocodas.prier.project.tag.projecttag.ProjectTagRepository;
+import cocodas.prier.statics.keywordAi.KomoranAnalyzer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 프로젝트 제목/팀명/소개/목표/태그 역색인 관리와 BM25 검색
+// 색인은 프로젝트 생성/수정/삭제와 같은 트랜잭션에서 프로젝트 단위로 갱신
+// 검색어별 BM25 순위는 한 번만 계산해서 캐시하고, 페이지/태그 필터/태그 집계는 캐시된 순위로 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectSearchService {
+
+    // 필드 가중치: 제목, 태그 > 팀명 > 소개, 목표
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 3;
+    private static final int TEAM_NAME_WEIGHT = 2;
+    private static final int TEXT_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int MAX_TERM_LENGTH = 100;
+    private static final int MAX_QUERY_TERMS = 10;
+    private static final int MAX_FACETS = 20;
+
+    private final ProjectSearchTermRepository projectSearchTermRepository;
+    private final ProjectSearchDocumentRepository projectSearchDocumentRepository;
+    private final ProjectTagRepository projectTagRepository;
+    private final ProjectRepository projectRepository;
+    private final KomoranAnalyzer komoranAnalyzer;
+
+    @Value("${project.search.cache.ttl-seconds:60}")
+    private long rankingCacheTtlSeconds;
+
+    @Value("${project.search.cache.max-size:1000}")
+    private long rankingCacheMaxSize;
+
+    private Cache<Set<String>, List<Long>> rankingCache;
+
+    @PostConstruct
+    public void initializeCache() {
+        this.rankingCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(rankingCacheTtlSeconds))
+                .maximumSize(rankingCacheMaxSize)
+                .build();
+    }
+
+    // BM25 점수 순 프로젝트 ID 페이지. tagName 이 있으면 그 태그가 달린 프로젝트만
+    public Page<Long> search(String keyword, String tagName, Pageable pageable) {
+        List<Long> rankedIds = ranking(keyword);
+        if (tagName != null && !tagName.isBlank() && !rankedIds.isEmpty()) {
+            Set<Long> tagged = new HashSet<>(projectTagRepository.findProjectIdsByTagName(tagName.strip(), rankedIds));
+            rankedIds = rankedIds.stream().filter(tagged::contains).toList();
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        return new PageImpl<>(rankedIds.subList(from, to), pageable, rankedIds.size());
+    }
+
+    // 검색 결과 전체에서 많이 달린 태그 순
+    public List<TagFacetDto> getTagFacets(String keyword) {
+        List<Long> rankedIds = ranking(keyword);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        return projectTagRepository.countTagsByProjectIds(rankedIds, PageRequest.of(0, MAX_FACETS));
+    }
+
+    // 프로젝트 생성/수정 시 해당 프로젝트 색인 다시 만들기
+    @Transactional
+    public void index(Project project) {
+        Long projectId = project.getProjectId();
+        evictRankings();
+        projectSearchTermRepository.deleteAllByProjectId(projectId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, project.getTitle(), TITLE_WEIGHT);
+        addTerms(frequencies, project.getTeamName(), TEAM_NAME_WEIGHT);
+        addTerms(frequencies, project.getIntroduce(), TEXT_WEIGHT);
+        addTerms(frequencies, project.getGoal(), TEXT_WEIGHT);
+        for (ProjectTag projectTag : projectTagRepository.findAllWithTagByProjectIds(List.of(projectId))) {
+            String tagName = projectTag.getTag().getTagName();
+            if (tagName == null || tagName.isBlank()) {
+                continue;
+            }
+            // 태그는 이름 전체로도 검색되도록 원문도 색인
+            addTerm(frequencies, tagName.strip().toLowerCase(), TAG_WEIGHT);
+            addTerms(frequencies, tagName, TAG_WEIGHT);
+        }
+
+        projectSearchTermRepository.saveAll(frequencies.entrySet().stream()
+                .map(entry -> ProjectSearchTerm.builder()
+                        .project(project)
+                        .term(entry.getKey())
+                        .termFrequency(entry.getValue())
+                        .build())
+                .toList());
+
+        int documentLength = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        projectSearchDocumentRepository.save(new ProjectSearchDocument(projectId, documentLength));
+    }
+
+    @Transactional
+    public void remove(Long projectId) {
+        evictRankings();
+        projectSearchTermRepository.deleteAllByProjectId(projectId);
+        projectSearchDocumentRepository.deleteByProjectId(projectId);
+    }
+
+    // 기존 프로젝트 색인 (백필용)
+    @Transactional
+    public void reindex(Long projectId) {
+        projectRepository.findById(projectId).ifPresent(this::index);
+    }
+
+    private List<Long> ranking(String keyword) {
+        Set<String> terms = queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return rankingCache.get(terms, this::rank);
+    }
+
+    // 색인이 바뀌면 문서 수/평균 길이도 바뀌어 모든 검색어의 점수가 달라지므로 전부 제거
+    // 커밋/롤백 후에 한 번 더 제거 (커밋 전에 다른 요청이 예전 색인으로 다시 캐시에 넣는 경우 방지)
+    private void evictRankings() {
+        rankingCache.invalidateAll();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                rankingCache.invalidateAll();
+            }
+        });
+    }
+
+    // 일치한 프로젝트 전체를 BM25 점수 내림차순(같으면 최신 프로젝트 먼저)으로
+    private List<Long> rank(Set<String> terms) {
+        List<ProjectSearchPosting> postings = projectSearchTermRepository.findPostings(terms);
+        if (postings.isEmpty()) {
+            return List.of();
+        }
+
+        ProjectSearchCorpus corpus = projectSearchDocumentRepository.getCorpus();
+        double documentCount = corpus.getDocumentCount();
+        double averageLength = Math.max(corpus.getAverageLength(), 1.0);
+
+        Map<String, Long> documentFrequencies = postings.stream()
+                .collect(Collectors.groupingBy(ProjectSearchPosting::getTerm, Collectors.counting()));
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (ProjectSearchPosting posting : postings) {
+            double df = documentFrequencies.get(posting.getTerm());
+            double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            double tf = posting.getTermFrequency();
+            double norm = K1 * (1 - B + B * posting.getDocumentLength() / averageLength);
+            scores.merge(posting.getProjectId(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        komoranAnalyzer.extractSearchTerms(text).forEach(term -> addTerm(frequencies, term, weight));
+    }
+
+    private static void addTerm(Map<String, Integer> frequencies, String term, int weight) {
+        if (term.length() <= MAX_TERM_LENGTH) {
+            frequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    // 검색어도 같은 형태소 분석을 거치고, 원문 전체도 태그 이름과 맞춰보기 위해 포함
+    private Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (keyword == null || keyword.isBlank()) {
+            return terms;
+        }
+
+        String whole = keyword.strip().toLowerCase();
+        if (whole.length() <= MAX_TERM_LENGTH) {
+            terms.add(whole);
+        }
+        komoranAnalyzer.extractSearchTerms(keyword).stream()
+                .distinct()
+                .limit(MAX_QUERY_TERMS)
+                .forEach(terms::add);
+        return terms;
+    }
+}
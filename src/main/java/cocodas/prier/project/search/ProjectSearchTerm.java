@@ -0,0 +1,40 @@
+package cocodas.prier.project.search;
+
+import cocodas.prier.project.project.Project;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 프로젝트 검색용 역색인: 프로젝트별 형태소와 필드 가중치를 곱한 등장 횟수
+// 프로젝트 생성/수정/삭제 시 ProjectSearchService 가 프로젝트 단위로 다시 만듦
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_project_search_term", columnNames = {"project_id", "term"}),
+        indexes = @Index(name = "idx_project_search_term", columnList = "term, project_id, term_frequency"))
+public class ProjectSearchTerm {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long projectSearchTermId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @Column(nullable = false, length = 100)
+    private String term;
+
+    @Column(nullable = false)
+    private int termFrequency;
+
+    @Builder
+    public ProjectSearchTerm(Project project, String term, int termFrequency) {
+        this.project = project;
+        this.term = term;
+        this.termFrequency = termFrequency;
+    }
+}
@@ -0,0 +1,24 @@
+package cocodas.prier.project.search;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectSearchTermRepository extends JpaRepository<ProjectSearchTerm, Long> {
+
+    @Query("SELECT t.project.projectId AS projectId, t.term AS term, " +
+            "t.termFrequency AS termFrequency, d.documentLength AS documentLength " +
+            "FROM ProjectSearchTerm t JOIN ProjectSearchDocument d ON d.projectId = t.project.projectId " +
+            "WHERE t.term IN :terms")
+    List<ProjectSearchPosting> findPostings(@Param("terms") Collection<String> terms);
+
+    @Modifying
+    @Query("DELETE FROM ProjectSearchTerm t WHERE t.project.projectId = :projectId")
+    void deleteAllByProjectId(@Param("projectId") Long projectId);
+}
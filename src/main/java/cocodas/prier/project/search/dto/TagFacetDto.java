@@ -0,0 +1,12 @@
+package cocodas.prier.project.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 검색 결과 안에서 태그별 프로젝트 수
+@Data
+@AllArgsConstructor
+public class TagFacetDto {
+    private String tagName;
+    private Long projectCount;
+}
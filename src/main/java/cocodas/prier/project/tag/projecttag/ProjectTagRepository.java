@@ -1,10 +1,14 @@
 package cocodas.prier.project.tag.projecttag;
 
 import cocodas.prier.project.project.Project;
+import cocodas.prier.project.search.dto.TagFacetDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +20,24 @@ public interface ProjectTagRepository extends JpaRepository<ProjectTag, Long> {
     List<ProjectTag> findByProjectProjectId(Long projectId);
 
     void deleteAllByProject(Project project);
+
+    // 여러 프로젝트의 태그를 태그 정보와 함께 한 번에 조회
+    @Query("SELECT pt FROM ProjectTag pt JOIN FETCH pt.tag " +
+            "WHERE pt.project.projectId IN :projectIds " +
+            "ORDER BY pt.projectTagId")
+    List<ProjectTag> findAllWithTagByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // 검색 결과 중 해당 태그가 달린 프로젝트 ID
+    @Query("SELECT pt.project.projectId FROM ProjectTag pt " +
+            "WHERE LOWER(pt.tag.tagName) = LOWER(:tagName) AND pt.project.projectId IN :projectIds")
+    List<Long> findProjectIdsByTagName(@Param("tagName") String tagName,
+                                       @Param("projectIds") Collection<Long> projectIds);
+
+    // 검색 결과의 태그별 프로젝트 수
+    @Query("SELECT new cocodas.prier.project.search.dto.TagFacetDto(t.tagName, COUNT(DISTINCT pt.project.projectId)) " +
+            "FROM ProjectTag pt JOIN pt.tag t " +
+            "WHERE pt.project.projectId IN :projectIds " +
+            "GROUP BY t.tagName " +
+            "ORDER BY COUNT(DISTINCT pt.project.projectId) DESC, t.tagName ASC")
+    List<TagFacetDto> countTagsByProjectIds(@Param("projectIds") Collection<Long> projectIds, Pageable pageable);
 }
@@ -12,8 +12,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -84,6 +86,19 @@ public class ProjectTagService {
     }
 
 
+    // 프로젝트 목록 조회용: 프로젝트 ID별 태그 목록
+    public Map<Long, List<TagDto>> getProjectTags(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return projectTagRepository.findAllWithTagByProjectIds(projectIds).stream()
+                .collect(Collectors.groupingBy(
+                        projectTag -> projectTag.getProject().getProjectId(),
+                        Collectors.mapping(projectTag -> new TagDto(
+                                projectTag.getTag().getTagId(),
+                                projectTag.getTag().getTagName()), Collectors.toList())));
+    }
 
     //태그별 프로젝트 조회
     public List<Project> findAllProjectsByTagId(Long tagId) {
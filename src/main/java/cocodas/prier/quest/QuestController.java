@@ -1,6 +1,6 @@
 package cocodas.prier.quest;
 
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,19 +12,13 @@ import java.time.LocalDate;
 @RequestMapping("/api")
 public class QuestController {
     private final QuestService questService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     @PutMapping("/quests/{date}/{sequence}")
     public ResponseEntity<String> quest(@PathVariable LocalDate date,
                                         @PathVariable int sequence,
-                                        @RequestHeader("Authorization") String auth) {
-        String token = getToken(auth);
-        Long userId = jwtTokenProvider.getUserIdFromJwt(token);
+                                        @LoginUser Long userId) {
         String result = questService.updateQuest(date, userId, sequence);
         return ResponseEntity.ok(result);
     }
 
-    private static String getToken(String auth) {
-        return auth.replace("Bearer ", "");
-    }
 }
\ No newline at end of file
@@ -6,7 +6,11 @@ import cocodas.prier.project.comment.ProjectCommentRepository;
 import cocodas.prier.project.feedback.response.ResponseRepository;
 import cocodas.prier.user.UserRepository;
 import cocodas.prier.user.Users;
+import cocodas.prier.user.mypage.MyPageChangedEvent;
+import cocodas.prier.user.notification.LiveNotificationEvent;
+import cocodas.prier.user.notification.NotificationType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,7 @@ public class QuestService {
     private final ResponseRepository responseRepository;
     private final ProjectCommentRepository projectCommentRepository;
     private final PointTransactionService pointTransactionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createQuest(Users users) {
@@ -35,33 +40,44 @@ public class QuestService {
         quest.setUsers(users);
 
         questRepository.save(quest);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(users.getUserId()));
     }
 
     @Transactional
     public String updateQuest(LocalDate createdAt, Long userId, int sequence) {
         Users users = findUsersById(userId);
+        Quest quest;
+        // 검증 실패는 메시지로 돌려줌 (다른 트랜잭션 빈을 거치지 않으므로 롤백 전용으로 표시되지 않음)
         try {
-            Quest quest = findByCreatedAtAndUserId(createdAt, userId);
+            quest = findByCreatedAtAndUserId(createdAt, userId);
             switch (sequence) {
                 case 1:
                     quest.updateFirst(true);
-                    pointTransactionService.increasePoints(users, 1, TransactionType.QUEST_REWARD, null);
                     break;
                 case 2:
                     validateAndUpdateSecondQuest(userId, quest);
-                    pointTransactionService.increasePoints(users, 2, TransactionType.QUEST_REWARD, null);
                     break;
                 case 3:
                     validateAndUpdateThirdQuest(userId, quest);
-                    pointTransactionService.increasePoints(users, 3, TransactionType.QUEST_REWARD, null);
                     break;
                 default:
                     return "지원하지 않는 퀘스트 번호입니다.";
             }
-            return "퀘스트가 성공적으로 업데이트되었습니다.";
         } catch (RuntimeException e) {
             return e.getMessage();
         }
+
+        // 보상 지급이 실패하면 퀘스트 완료 표시까지 함께 롤백되어야 하므로 잡지 않고 그대로 던짐
+        // (잡고 정상 반환하면 커밋 시점에 UnexpectedRollbackException)
+        pointTransactionService.increasePoints(users, sequence, TransactionType.QUEST_REWARD, null, questRewardKey(quest, sequence));
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
+        eventPublisher.publishEvent(LiveNotificationEvent.of(userId, NotificationType.QUEST, (long) sequence));
+        return "퀘스트가 성공적으로 업데이트되었습니다.";
+    }
+
+    // 같은 퀘스트 보상은 한 번만 지급
+    private static String questRewardKey(Quest quest, int sequence) {
+        return "quest:" + quest.getQuestId() + ":" + sequence;
     }
 
     private Users findUsersById(Long userId) {
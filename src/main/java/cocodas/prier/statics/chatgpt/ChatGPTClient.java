@@ -0,0 +1,50 @@
+package cocodas.prier.statics.chatgpt;
+
+import cocodas.prier.statics.chatgpt.request.ChatGPTRequest;
+import cocodas.prier.statics.chatgpt.response.ChatGPTResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+// OpenAI chat completions 호출. openai.api.url 로 로컬 스텁 서버를 가리킬 수 있음
+@Component
+@RequiredArgsConstructor
+public class ChatGPTClient {
+
+    private final WebClient.Builder webClientBuilder;
+
+    @Value("${openai.api.key}")
+    private String CHATGPT_API_KEY;
+
+    @Value("${openai.api.url:https://api.openai.com}")
+    private String apiUrl;
+
+    @Value("${openai.api.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    public void initializeWebClient() {
+        this.webClient = webClientBuilder.baseUrl(apiUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + CHATGPT_API_KEY)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                .build();
+    }
+
+    public Mono<String> summarize(String prompt) {
+        return webClient.post()
+                .uri("/v1/chat/completions")
+                .bodyValue(new ChatGPTRequest(prompt))
+                .retrieve()
+                .bodyToMono(ChatGPTResponse.class)
+                .map(ChatGPTResponse::getResponseText)
+                .timeout(Duration.ofSeconds(timeoutSeconds));
+    }
+}
@@ -1,82 +1,53 @@
 package cocodas.prier.statics.chatgpt;
 
 import cocodas.prier.project.feedback.question.Category;
-import cocodas.prier.project.feedback.question.Question;
-import cocodas.prier.project.feedback.response.Response;
-import cocodas.prier.project.project.ProjectRepository;
-import cocodas.prier.statics.chatgpt.request.ChatGPTRequest;
-import cocodas.prier.statics.chatgpt.response.ChatGPTResponse;
+import cocodas.prier.project.feedback.question.QuestionRepository;
+import cocodas.prier.project.feedback.question.QuestionRepository.QuestionResponseStatus;
 import cocodas.prier.statics.chatgpt.response.SummaryResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ChatGPTService {
 
-    private final WebClient.Builder webClientBuilder;
-    private final ProjectRepository projectRepository;
-
-    @Value("${openai.api.key}")
-    private String CHATGPT_API_KEY;
+    private final QuestionRepository questionRepository;
+    private final FeedbackSummaryService feedbackSummaryService;
+    private final FeedbackSummaryGenerator feedbackSummaryGenerator;
 
+    // 저장된 요약을 바로 반환하고, 없거나 오래된 요약은 pending 으로 표시한 뒤 백그라운드에서 재생성
     public List<SummaryResponse> getChatGptResponse(Long projectId) {
-        List<Question> questions = getSubjectiveQuestions(projectId);
+        List<QuestionResponseStatus> questions = questionRepository.findResponseStatusByProjectId(projectId, Category.SUBJECTIVE);
 
-        WebClient webClient = createWebClient();
+        Map<Long, FeedbackSummary> summaries = feedbackSummaryService.getSummaries(questions.stream()
+                .map(QuestionResponseStatus::getQuestionId)
+                .toList());
 
-        List<Mono<SummaryResponse>> responseMonos = questions.stream()
-                .map(question -> createSummaryMono(webClient, question))
+        return questions.stream()
+                .map(question -> toSummaryResponse(question, summaries.get(question.getQuestionId())))
                 .toList();
-
-        return Flux.merge(responseMonos)
-                .collectList()
-                .block();
-    }
-
-    private List<Question> getSubjectiveQuestions(Long projectId) {
-        return projectRepository.findWithQuestionsAndResponsesByProjectId(projectId)
-                .map(project -> project.getFeedbackQuestions().stream()
-                        .filter(question -> question.getCategory().equals(Category.SUBJECTIVE))
-                        .collect(Collectors.toList()))
-                .orElse(Collections.emptyList());
-    }
-
-    private WebClient createWebClient() {
-        return webClientBuilder.baseUrl("https://api.openai.com")
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + CHATGPT_API_KEY)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-                .build();
-    }
-
-    private Mono<SummaryResponse> createSummaryMono(WebClient webClient, Question question) {
-        String prompt = question
-                .getResponses()
-                .stream()
-                .map(Response::getContent)
-                .collect(Collectors.joining(" "));
-        return sendChatGptRequest(webClient, prompt)
-                .map(response -> new SummaryResponse(question.getQuestionId(),
-                        question.getContent(),
-                        question.getResponses().size(),
-                        response));
     }
 
-    private Mono<String> sendChatGptRequest(WebClient webClient, String prompt) {
-        return webClient.post()
-                .uri("/v1/chat/completions")
-                .bodyValue(new ChatGPTRequest(prompt))
-                .retrieve()
-                .bodyToMono(ChatGPTResponse.class)
-                .map(ChatGPTResponse::getResponseText);
+    private SummaryResponse toSummaryResponse(QuestionResponseStatus question, FeedbackSummary summary) {
+        int feedbackCount = question.getResponseCount().intValue();
+        if (feedbackCount == 0) {
+            return new SummaryResponse(question.getQuestionId(), question.getContent(), 0, null, false);
+        }
+
+        boolean pending = summary == null || summary.getResponseVersion() < question.getResponseVersion();
+        if (pending) {
+            feedbackSummaryGenerator.refresh(question.getQuestionId());
+        }
+
+        return new SummaryResponse(question.getQuestionId(),
+                question.getContent(),
+                feedbackCount,
+                summary == null ? null : summary.getSummary(),
+                pending);
     }
 }
@@ -0,0 +1,48 @@
+package cocodas.prier.statics.chatgpt;
+
+import cocodas.prier.project.feedback.question.Question;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+// 주관식 질문별 ChatGPT 요약. responseVersion 은 요약에 반영된 Question.responseVersion
+@Entity
+@Getter
+@NoArgsConstructor
+public class FeedbackSummary {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long feedbackSummaryId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Question question;
+
+    @Column(nullable = false)
+    private Long responseVersion;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public FeedbackSummary(Question question, Long responseVersion, String summary) {
+        this.question = question;
+        this.responseVersion = responseVersion;
+        this.summary = summary;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateSummary(Long responseVersion, String summary) {
+        this.responseVersion = responseVersion;
+        this.summary = summary;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
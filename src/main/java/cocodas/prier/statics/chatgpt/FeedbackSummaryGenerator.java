@@ -0,0 +1,57 @@
+package cocodas.prier.statics.chatgpt;
+
+import cocodas.prier.project.feedback.response.ResponseCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 요청 스레드를 막지 않고 백그라운드에서 질문 요약을 다시 만듦
+// 같은 질문은 동시에 하나만 생성하고, 생성 중 새 응답이 들어왔으면 끝난 뒤 한 번 더 생성
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedbackSummaryGenerator {
+
+    private final FeedbackSummaryService feedbackSummaryService;
+    private final ChatGPTClient chatGPTClient;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResponseCreated(ResponseCreatedEvent event) {
+        event.getQuestionIds().forEach(this::refresh);
+    }
+
+    public void refresh(Long questionId) {
+        if (!inFlight.add(questionId)) {
+            return;
+        }
+
+        Mono.fromCallable(() -> feedbackSummaryService.loadSource(questionId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .flatMap(source -> chatGPTClient.summarize(source.getPrompt())
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(summary -> feedbackSummaryService.saveSummary(questionId, source.getResponseVersion(), summary)))
+                .map(summary -> true)
+                .defaultIfEmpty(false)
+                .subscribe(saved -> {
+                    inFlight.remove(questionId);
+                    if (saved && feedbackSummaryService.isStale(questionId)) {
+                        refresh(questionId);
+                    }
+                }, error -> {
+                    inFlight.remove(questionId);
+                    log.warn("피드백 요약 생성 실패, questionId: {}", questionId, error);
+                });
+    }
+}
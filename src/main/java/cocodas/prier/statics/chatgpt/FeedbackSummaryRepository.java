@@ -0,0 +1,19 @@
+package cocodas.prier.statics.chatgpt;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FeedbackSummaryRepository extends JpaRepository<FeedbackSummary, Long> {
+
+    Optional<FeedbackSummary> findByQuestion_QuestionId(Long questionId);
+
+    @Query("SELECT fs FROM FeedbackSummary fs WHERE fs.question.questionId IN :questionIds")
+    List<FeedbackSummary> findAllByQuestionIds(@Param("questionIds") Collection<Long> questionIds);
+}
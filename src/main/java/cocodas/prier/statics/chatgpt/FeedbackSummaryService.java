@@ -0,0 +1,84 @@
+package cocodas.prier.statics.chatgpt;
+
+import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.question.QuestionRepository;
+import cocodas.prier.project.feedback.response.ResponseRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedbackSummaryService {
+
+    private final FeedbackSummaryRepository feedbackSummaryRepository;
+    private final QuestionRepository questionRepository;
+    private final ResponseRepository responseRepository;
+
+    // 질문 ID -> 저장된 요약
+    public Map<Long, FeedbackSummary> getSummaries(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return Map.of();
+        }
+        return feedbackSummaryRepository.findAllByQuestionIds(questionIds).stream()
+                .collect(Collectors.toMap(summary -> summary.getQuestion().getQuestionId(), Function.identity()));
+    }
+
+    // 요약 요청에 보낼 응답 내용과 그 시점의 응답 버전 (응답이 없으면 empty)
+    // 버전을 먼저 읽어서, 그 사이 응답이 더 들어와도 요약이 실제보다 최신으로 기록되지 않게 함
+    public Optional<SummarySource> loadSource(Long questionId) {
+        Question question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문: " + questionId));
+        Long responseVersion = question.getResponseVersion();
+
+        List<String> contents = responseRepository.findContentsByQuestionId(questionId);
+        if (contents.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new SummarySource(responseVersion, String.join(" ", contents)));
+    }
+
+    // 더 최신 버전의 요약만 저장
+    @Transactional
+    public void saveSummary(Long questionId, Long responseVersion, String summary) {
+        Optional<FeedbackSummary> existing = feedbackSummaryRepository.findByQuestion_QuestionId(questionId);
+        if (existing.isPresent()) {
+            if (existing.get().getResponseVersion() < responseVersion) {
+                existing.get().updateSummary(responseVersion, summary);
+            }
+            return;
+        }
+
+        feedbackSummaryRepository.save(FeedbackSummary.builder()
+                .question(questionRepository.getReferenceById(questionId))
+                .responseVersion(responseVersion)
+                .summary(summary)
+                .build());
+    }
+
+    public boolean isStale(Long questionId) {
+        Long currentVersion = questionRepository.findById(questionId)
+                .map(Question::getResponseVersion)
+                .orElse(0L);
+        return feedbackSummaryRepository.findByQuestion_QuestionId(questionId)
+                .map(summary -> summary.getResponseVersion() < currentVersion)
+                .orElse(true);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SummarySource {
+        private Long responseVersion;
+        private String prompt;
+    }
+}
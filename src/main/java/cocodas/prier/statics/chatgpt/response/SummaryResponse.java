@@ -10,4 +10,6 @@ public class SummaryResponse {
     private String questionContent;
     private Integer feedbackCount;
     private String summary;
+    // 요약이 없거나 새 응답이 반영되지 않아 재생성 중이면 true (summary 는 이전 요약 또는 null)
+    private boolean pending;
 }
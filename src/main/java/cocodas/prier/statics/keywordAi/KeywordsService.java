@@ -5,15 +5,12 @@ import cocodas.prier.project.feedback.response.Response;
 import cocodas.prier.project.project.Project;
 import cocodas.prier.project.project.ProjectRepository;
 import cocodas.prier.statics.keywordAi.dto.response.KeyWordResponseDto;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
-import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
-import kr.co.shineware.nlp.komoran.core.Komoran;
-import kr.co.shineware.nlp.komoran.model.Token;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,31 +18,51 @@ import java.util.Map;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class KeywordsService {
     private final ProjectRepository projectRepository;
+    private final ProjectKeywordRepository projectKeywordRepository;
+    private final KomoranAnalyzer komoranAnalyzer;
 
+    // 응답 저장 시 누적된 형용사 횟수 상위 5개
     public List<KeyWordResponseDto> getKeywordByProjectId(Long projectId) {
-        Project project = getProjectById(projectId);
-
-        List<String> feedbackList = getFeedbackList(project);
+        return projectKeywordRepository.findTop5ByProjectId(projectId).stream()
+                .map(keyword -> new KeyWordResponseDto(keyword.getKeyword(), keyword.getKeywordCount()))
+                .toList();
+    }
 
-        Map<String, Integer> keywordCountMap = extractKeywords(feedbackList);
+    // 주관식 응답들의 형용사별 등장 횟수. 형태소 분석은 DB 트랜잭션 밖에서 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Integer> countKeywords(List<String> feedbackList) {
+        return extractKeywords(feedbackList);
+    }
 
-        List<Map.Entry<String, Integer>> sortedKeywords = getSortedKeywords(keywordCountMap);
+    // 새로 저장된 주관식 응답의 형용사 횟수 더하기
+    // 커밋 후 리스너(ProjectKeywordListener)에서 호출하므로 별도 트랜잭션으로 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void addCounts(Long projectId, Map<String, Integer> keywordCounts) {
+        keywordCounts.forEach((keyword, count) -> projectKeywordRepository.addCount(projectId, keyword, count));
+    }
 
-        List<KeyWordResponseDto> responseDtos = new ArrayList<>();
-        for (Map.Entry<String, Integer> entry : sortedKeywords) {
-            responseDtos.add(new KeyWordResponseDto(entry.getKey(), entry.getValue()));
+    // 삭제된 주관식 응답의 형용사 횟수 빼기 (0 이하가 된 키워드는 삭제)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void subtractCounts(Long projectId, Map<String, Integer> keywordCounts) {
+        if (keywordCounts.isEmpty()) {
+            return;
         }
 
-        return responseDtos;
+        keywordCounts.forEach((keyword, count) -> projectKeywordRepository.subtractCount(projectId, keyword, count));
+        projectKeywordRepository.deleteEmpty(projectId);
     }
 
-    private static List<Map.Entry<String, Integer>> getSortedKeywords(Map<String, Integer> keywordCountMap) {
-        return keywordCountMap.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(5)
-                .toList();
+    // 기존 응답 전체로 키워드 횟수를 다시 만들기 (백필용)
+    @Transactional
+    public void rebuild(Long projectId) {
+        Project project = getProjectById(projectId);
+
+        projectKeywordRepository.deleteAllByProjectId(projectId);
+        extractKeywords(getFeedbackList(project))
+                .forEach((keyword, count) -> projectKeywordRepository.addCount(projectId, keyword, count));
     }
 
     private static List<String> getFeedbackList(Project project) {
@@ -61,16 +78,11 @@ public class KeywordsService {
     }
 
     private Map<String, Integer> extractKeywords(List<String> feedbackList) {
-        Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
         Map<String, Integer> keywordCountMap = new HashMap<>();
 
         for (String feedback : feedbackList) {
-            List<Token> tokens = komoran.analyze(feedback).getTokenList();
-            for (Token token : tokens) {
-                if (token.getPos().equals("VA")) {
-                    String keyword = token.getMorph() + "다";
-                    keywordCountMap.put(keyword, keywordCountMap.getOrDefault(keyword, 0) + 1);
-                }
+            for (String keyword : komoranAnalyzer.extractAdjectives(feedback)) {
+                keywordCountMap.put(keyword, keywordCountMap.getOrDefault(keyword, 0) + 1);
             }
         }
         return keywordCountMap;
@@ -0,0 +1,95 @@
+package cocodas.prier.statics.keywordAi;
+
+import jakarta.annotation.PostConstruct;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import kr.co.shineware.nlp.komoran.model.Token;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Komoran 모델은 로딩 비용이 커서 기동 시 한 번만 만들어 풀로 공유
+// 한 인스턴스는 한 번에 한 스레드만 사용하도록 빌려 쓰고 돌려놓음
+// 인스턴스마다 FULL 모델 사전 전체를 힙에 따로 들고 있으므로 기본은 1개.
+// 늘리기 전에 기동 로그의 모델 메모리 사용량(인스턴스 수만큼 곱해짐)을 확인
+@Slf4j
+@Component
+public class KomoranAnalyzer {
+
+    private static final Set<String> SEARCH_TAGS = Set.of("NNG", "NNP", "SL", "SN");
+
+    @Value("${komoran.pool-size:1}")
+    private int poolSize;
+
+    private BlockingQueue<Komoran> pool;
+
+    @PostConstruct
+    public void loadModels() {
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+        long usedBefore = usedHeap();
+        for (int i = 0; i < poolSize; i++) {
+            pool.add(new Komoran(DEFAULT_MODEL.FULL));
+        }
+        // GC 시점에 따라 오차가 있는 대략적인 값
+        long loadedMb = (usedHeap() - usedBefore) / (1024 * 1024);
+        log.info("Komoran 모델 로딩 완료: {}개, 힙 사용 약 {}MB 증가", poolSize, loadedMb);
+    }
+
+    // 형용사(VA) 원형 목록. 같은 형용사가 여러 번 나오면 그 횟수만큼 포함
+    public List<String> extractAdjectives(String text) {
+        List<String> adjectives = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return adjectives;
+        }
+
+        List<Token> tokens = analyze(text);
+        for (Token token : tokens) {
+            if (token.getPos().equals("VA")) {
+                adjectives.add(token.getMorph() + "다");
+            }
+        }
+        return adjectives;
+    }
+
+    // 검색 색인용 형태소 목록: 일반/고유 명사, 영문, 숫자. 영문은 소문자로 통일
+    public List<String> extractSearchTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        for (Token token : analyze(text)) {
+            if (SEARCH_TAGS.contains(token.getPos())) {
+                terms.add(token.getMorph().toLowerCase());
+            }
+        }
+        return terms;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private List<Token> analyze(String text) {
+        Komoran komoran;
+        try {
+            komoran = pool.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("형태소 분석기 대기 중 인터럽트", e);
+        }
+
+        try {
+            return komoran.analyze(text).getTokenList();
+        } finally {
+            pool.add(komoran);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package cocodas.prier.statics.keywordAi;
+
+import cocodas.prier.project.project.Project;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 프로젝트별 주관식 응답 형용사 등장 횟수
+// 응답 저장/삭제 시 ProjectKeywordRepository 의 원자적 UPSERT/UPDATE 로만 갱신
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_project_keyword", columnNames = {"project_id", "keyword"}),
+        indexes = @Index(name = "idx_project_keyword_count", columnList = "project_id, keyword_count"))
+public class ProjectKeyword {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long projectKeywordId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false, length = 100)
+    private String keyword;
+
+    @Column(nullable = false)
+    private int keywordCount;
+}
@@ -0,0 +1,30 @@
+package cocodas.prier.statics.keywordAi;
+
+import cocodas.prier.project.project.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기존 응답으로 프로젝트별 키워드 횟수를 한 번 채움
+// statics.keyword.backfill=true 로 기동했을 때만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statics.keyword.backfill", havingValue = "true")
+public class ProjectKeywordBackfillRunner implements ApplicationRunner {
+
+    private final ProjectRepository projectRepository;
+    private final KeywordsService keywordsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> projectIds = projectRepository.findAllProjectIds();
+        projectIds.forEach(keywordsService::rebuild);
+        log.info("프로젝트 키워드 백필 완료: {}개", projectIds.size());
+    }
+}
@@ -0,0 +1,36 @@
+package cocodas.prier.statics.keywordAi;
+
+import cocodas.prier.project.feedback.response.SubjectiveResponsesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+// 응답 저장/삭제가 커밋된 뒤에 형태소 분석과 키워드 횟수 반영을 함 (응답 트랜잭션이 분석 시간만큼 길어지지 않음)
+// 반영에 실패해도 커밋된 응답은 그대로 두고 로그만 남김. 어긋난 횟수는 statics.keyword.backfill 로 다시 만들 수 있음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectKeywordListener {
+
+    private final KeywordsService keywordsService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubjectiveResponsesChanged(SubjectiveResponsesChangedEvent event) {
+        event.getContentsByProject().forEach((projectId, contents) -> {
+            try {
+                Map<String, Integer> keywordCounts = keywordsService.countKeywords(contents);
+                if (event.isDeleted()) {
+                    keywordsService.subtractCounts(projectId, keywordCounts);
+                } else {
+                    keywordsService.addCounts(projectId, keywordCounts);
+                }
+            } catch (RuntimeException e) {
+                log.warn("프로젝트 키워드 횟수 반영 실패, projectId: {}", projectId, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package cocodas.prier.statics.keywordAi;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProjectKeywordRepository extends JpaRepository<ProjectKeyword, Long> {
+
+    @Query("SELECT pk FROM ProjectKeyword pk " +
+            "WHERE pk.project.projectId = :projectId AND pk.keywordCount > 0 " +
+            "ORDER BY pk.keywordCount DESC, pk.keyword ASC " +
+            "LIMIT 5")
+    List<ProjectKeyword> findTop5ByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_keyword (project_id, keyword, keyword_count) " +
+            "VALUES (:projectId, :keyword, :delta) " +
+            "ON DUPLICATE KEY UPDATE keyword_count = keyword_count + :delta", nativeQuery = true)
+    void addCount(@Param("projectId") Long projectId, @Param("keyword") String keyword, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE ProjectKeyword pk SET pk.keywordCount = pk.keywordCount - :delta " +
+            "WHERE pk.project.projectId = :projectId AND pk.keyword = :keyword")
+    void subtractCount(@Param("projectId") Long projectId, @Param("keyword") String keyword, @Param("delta") int delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectKeyword pk WHERE pk.project.projectId = :projectId AND pk.keywordCount <= 0")
+    void deleteEmpty(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectKeyword pk WHERE pk.project.projectId = :projectId")
+    void deleteAllByProjectId(@Param("projectId") Long projectId);
+}
@@ -2,8 +2,10 @@ package cocodas.prier.statics.keywordAi.dto.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class KeyWordResponseDto {
 //    private Long projectId;
@@ -1,47 +1,26 @@
 package cocodas.prier.statics.objective;
 
 import cocodas.prier.project.feedback.question.Category;
-import cocodas.prier.project.feedback.question.Question;
-import cocodas.prier.project.project.ProjectRepository;
+import cocodas.prier.project.feedback.response.ResponseRepository;
+import cocodas.prier.project.feedback.stats.ProjectFeedbackStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-
-import java.util.Collections;
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class ObjectiveResponseService {
-    private final ProjectRepository projectRepository;
-
-    //1. 각 질문마다 응답을 찾아서 평균을 구하면서 모든 질문의 응답에 대한 평균 구하기
-    //2. 백분율 값 구하기 -> (모든 응답 평균 / 50) * 100
-    public Double calculateFeedbackPercentage(Long projectId) {
-        long startTime = System.currentTimeMillis();
-
-        double average = getObjectiveQuestionsByProjectId(projectId)
-                .stream()
-                .flatMap(question -> question.getResponses().stream())
-                .mapToDouble(response -> Double.parseDouble(response.getContent()))
-                .average()
-                .orElse(0.0);
+    private final ResponseRepository responseRepository;
+    private final ProjectFeedbackStatsService projectFeedbackStatsService;
 
-        System.out.println("Query Entity Graph execution time: " + (System.currentTimeMillis() - startTime) + " ms");
-
-        return (average / 50.0) * 100;
+    // 질문별 응답 분포: 응답을 로딩하지 않고 (질문, 응답값) 별 개수만 한 번에 집계
+    public ObjectiveStatistics getStatistics(Long projectId) {
+        return ObjectiveStatistics.from(responseRepository.countAnswersByProjectId(projectId, Category.OBJECTIVE));
     }
 
-
-    //projectId로 project 찾아오고 객관식 질문 리스트를 가져오기
-    private List<Question> getObjectiveQuestionsByProjectId(Long projectId) {
-        return projectRepository.findWithQuestionsAndResponsesByProjectId(projectId)
-                .map(project -> project
-                        .getFeedbackQuestions()
-                        .stream()
-                        .filter(question -> question
-                                .getCategory()
-                                .equals(Category.OBJECTIVE))
-                        .toList())
-                .orElse(Collections.emptyList());
+    //모든 객관식 응답 평균의 백분율 값 -> (모든 응답 평균 / 50) * 100, 응답 저장 시 누적된 통계에서 읽음
+    public Double calculateFeedbackPercentage(Long projectId) {
+        return projectFeedbackStatsService.getStats(projectId).getPercentage();
     }
 }
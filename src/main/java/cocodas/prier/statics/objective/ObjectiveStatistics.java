@@ -0,0 +1,54 @@
+package cocodas.prier.statics.objective;
+
+import cocodas.prier.project.feedback.response.ResponseRepository.ObjectiveAnswerCount;
+import cocodas.prier.project.feedback.response.dto.ResponseObjectiveDto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 객관식 질문별 응답 분포
+// ResponseRepository.countAnswersByProjectId 의 (질문, 응답값) 집계 결과로 계산
+// 프로젝트 전체 평균은 ProjectFeedbackStats 에 누적된 값을 사용
+@Getter
+public class ObjectiveStatistics {
+
+    private final List<ResponseObjectiveDto> questions;
+
+    private ObjectiveStatistics(List<ResponseObjectiveDto> questions) {
+        this.questions = questions;
+    }
+
+    // rows 는 질문 순서대로 정렬되어 있어야 함
+    public static ObjectiveStatistics from(List<ObjectiveAnswerCount> rows) {
+        Map<Long, ResponseObjectiveDto> questions = new LinkedHashMap<>();
+
+        for (ObjectiveAnswerCount row : rows) {
+            ResponseObjectiveDto dto = questions.computeIfAbsent(row.getQuestionId(),
+                    questionId -> new ResponseObjectiveDto(questionId, row.getQuestionContent(), 0, 0, 0, 0, 0, 0));
+
+            int count = row.getAnswerCount().intValue();
+            if (count == 0) {
+                continue;   // 응답이 없는 질문
+            }
+
+            dto.setFeedbackCount(dto.getFeedbackCount() + count);
+            if (row.getAnswer() == null) {
+                continue;
+            }
+
+            switch (row.getAnswer()) {
+                case "10" -> dto.setVeryGood(dto.getVeryGood() + count);
+                case "20" -> dto.setGood(dto.getGood() + count);
+                case "30" -> dto.setSoso(dto.getSoso() + count);
+                case "40" -> dto.setBad(dto.getBad() + count);
+                case "50" -> dto.setVeryBad(dto.getVeryBad() + count);
+                default -> { }
+            }
+        }
+
+        return new ObjectiveStatistics(new ArrayList<>(questions.values()));
+    }
+}
@@ -0,0 +1,145 @@
+package cocodas.prier.user;
+
+import cocodas.prier.user.kakao.jwt.UserAuthentication;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 요청 하나 안에서 같은 유저를 여러 서비스가 조회해도 users 테이블은 한 번만 읽도록 요청 속성에 보관
+// 보관하는 것은 조회 결과를 복사한 UserSummary 뿐이고, 엔티티는 트랜잭션마다 그 영속성 컨텍스트에서 가져옴
+// (다른 트랜잭션에서 읽은 준영속 엔티티를 넘기면 변경이 반영되지 않거나 지연 로딩이 실패함)
+// 요청 스레드가 아닌 곳(스케줄러, fan-out 실행기 등)에서는 보관하지 않고 바로 조회
+@Component
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private static final String SUMMARIES_ATTRIBUTE = CurrentUserContext.class.getName() + ".summaries";
+
+    private final UserRepository userRepository;
+
+    // JwtAuthenticationFilter 가 인증한 userId
+    public Long getUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof UserAuthentication)) {
+            throw new AuthenticationCredentialsNotFoundException("JWT Token is missing");
+        }
+        return Long.valueOf(authentication.getPrincipal().toString());
+    }
+
+    // 이번 요청에서 이미 있는 유저로 확인했으면 현재 트랜잭션의 프록시를 돌려줘서 다시 조회하지 않음
+    // (연관관계 설정에만 쓰면 SELECT 없음, 필드를 읽으면 그때 현재 트랜잭션에서 한 번 조회)
+    public Optional<Users> findUser(Long userId) {
+        Map<Long, UserSummary> summaries = requestCache();
+        if (summaries == null) {
+            return userRepository.findById(userId);
+        }
+
+        if (summaries.containsKey(userId) && TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Optional.of(userRepository.getReferenceById(userId));
+        }
+
+        Optional<Users> user = userRepository.findById(userId);
+        user.ifPresent(found -> summaries.put(userId, Snapshot.of(found)));
+        return user;
+    }
+
+    // 이번 요청에서 읽은 값이 있으면 그 값을, 아니면 필요한 컬럼만 조회
+    public Optional<UserSummary> findSummary(Long userId) {
+        Map<Long, UserSummary> summaries = requestCache();
+        if (summaries == null) {
+            return userRepository.findSummaryByUserId(userId);
+        }
+
+        UserSummary summary = summaries.get(userId);
+        if (summary == null) {
+            summary = userRepository.findSummaryByUserId(userId).map(Snapshot::of).orElse(null);
+            if (summary != null) {
+                summaries.put(userId, summary);
+            }
+        }
+        return Optional.ofNullable(summary);
+    }
+
+    // 잔액 변경처럼 조회 결과가 바뀌는 작업 후 호출
+    public void evictSummary(Long userId) {
+        Map<Long, UserSummary> summaries = requestCache();
+        if (summaries != null) {
+            summaries.remove(userId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, UserSummary> requestCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<Long, UserSummary> cache = (Map<Long, UserSummary>) attributes.getAttribute(SUMMARIES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<>();
+            attributes.setAttribute(SUMMARIES_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cache;
+    }
+
+    // 요청 속성에 두는 값은 엔티티나 조회 결과 프록시가 아니라 불변 복사본
+    private static final class Snapshot implements UserSummary {
+        private final Long userId;
+        private final String nickname;
+        private final String s3Key;
+        private final String metadata;
+        private final Integer balance;
+
+        private Snapshot(Long userId, String nickname, String s3Key, String metadata, Integer balance) {
+            this.userId = userId;
+            this.nickname = nickname;
+            this.s3Key = s3Key;
+            this.metadata = metadata;
+            this.balance = balance;
+        }
+
+        private static Snapshot of(Users user) {
+            return new Snapshot(user.getUserId(), user.getNickname(), user.getS3Key(), user.getMetadata(), user.getBalance());
+        }
+
+        private static Snapshot of(UserSummary summary) {
+            return new Snapshot(summary.getUserId(), summary.getNickname(), summary.getS3Key(), summary.getMetadata(),
+                    summary.getBalance());
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public String getNickname() {
+            return nickname;
+        }
+
+        @Override
+        public String getS3Key() {
+            return s3Key;
+        }
+
+        @Override
+        public String getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public Integer getBalance() {
+            return balance;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package cocodas.prier.user;
 
 import cocodas.prier.user.dto.request.*;
+import cocodas.prier.user.kakao.jwt.LoginUser;
 import cocodas.prier.user.response.MyPageResponseDto;
 import cocodas.prier.user.response.OhterMyPageResponseDto;
 import lombok.RequiredArgsConstructor;
@@ -21,99 +22,87 @@ public class UserController {
     // 나의 마이페이지 보기
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/mypage")
-    public MyPageResponseDto viewMyPage(@RequestHeader("Authorization") String authorizationHeader) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        return userService.viewMyPage(token);
+    public MyPageResponseDto viewMyPage(@LoginUser Long userId) {
+        return userService.viewMyPage(userId);
     }
 
     // 다른 사람의 마이페이지 보기
     @GetMapping("/mypage/{userId}")
-    public OhterMyPageResponseDto viewOtherPage(@PathVariable(name = "userId") Long userId,
-                                                @RequestHeader("Authorization") String authorizationHeader) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        return userService.viewOtherMyPage(token, userId);
+    public OhterMyPageResponseDto viewOtherPage(@PathVariable(name = "userId") Long otherUserId,
+                                                @LoginUser Long userId) {
+        return userService.viewOtherMyPage(userId, otherUserId);
     }
 
     // 마이페이지 수정하기 Controller
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/nickname")
-    public void newNickName(@RequestHeader("Authorization") String authorizationHeader,
+    public void newNickName(@LoginUser Long userId,
                             @RequestBody NickNameRequestDto nickNameRequestDto) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newNickName(token, nickNameRequestDto.getNickname());
+        userService.newNickName(userId, nickNameRequestDto.getNickname());
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/belonging")
-    public void newBelonging(@RequestHeader("Authorization") String authorizationHeader,
+    public void newBelonging(@LoginUser Long userId,
                              @RequestBody BelongingRequestDto belongingRequestDto) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newBelonging(token, belongingRequestDto.getBelonging());
+        userService.newBelonging(userId, belongingRequestDto.getBelonging());
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/intro")
-    public void newIntro(@RequestHeader("Authorization") String authorizationHeader,
+    public void newIntro(@LoginUser Long userId,
                          @RequestBody IntroRequestDto introRequestDto) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newIntro(token, introRequestDto.getIntro());
+        userService.newIntro(userId, introRequestDto.getIntro());
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/blog")
-    public void newBlogUrl(@RequestHeader("Authorization") String authorizationHeader,
+    public void newBlogUrl(@LoginUser Long userId,
                          @RequestBody BlogUrlRequestDto blogUrlRequestDto) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newBlogUrl(token, blogUrlRequestDto.getBlogUrl());
+        userService.newBlogUrl(userId, blogUrlRequestDto.getBlogUrl());
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/github")
-    public void newGithubUrl(@RequestHeader("Authorization") String authorizationHeader,
+    public void newGithubUrl(@LoginUser Long userId,
                          @RequestBody GithubUrlRequestDto githubUrlRequestDto) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newGithubUrl(token, githubUrlRequestDto.getGithubUrl());
+        userService.newGithubUrl(userId, githubUrlRequestDto.getGithubUrl());
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/figma")
-    public void newFigmaUrl(@RequestHeader("Authorization") String authorizationHeader,
+    public void newFigmaUrl(@LoginUser Long userId,
                          @RequestBody FigmaUrlRequestDto figmaUrlRequestDto) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newFigmaUrl(token, figmaUrlRequestDto.getFigmaUrl());
+        userService.newFigmaUrl(userId, figmaUrlRequestDto.getFigmaUrl());
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/notion")
-    public void newNotionUrl(@RequestHeader("Authorization") String authorizationHeader,
+    public void newNotionUrl(@LoginUser Long userId,
                          @RequestBody NotionUrlRequestDto notionUrlRequestDto) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newNotionUrl(token, notionUrlRequestDto.getNotionUrl());
+        userService.newNotionUrl(userId, notionUrlRequestDto.getNotionUrl());
     }
 
     // 프로필 사진 수정하기
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/users/profile/img")
-    public void newProfileImg(@RequestHeader("Authorization") String authorizationHeader,
+    public void newProfileImg(@LoginUser Long userId,
                               @RequestParam(name = "media") MultipartFile media) throws IOException {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.newProfileImg(token, media);
+        userService.newProfileImg(userId, media);
     }
 
     // 프로필 사진 삭제하기
     @ResponseStatus(HttpStatus.OK)
     @DeleteMapping("/users/profile/img")
-    public void deleteProfileImg(@RequestHeader("Authorization") String authorizationHeader) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.deleteProfileImg(token);
+    public void deleteProfileImg(@LoginUser Long userId) {
+        userService.deleteProfileImg(userId);
     }
 
     @ResponseStatus(HttpStatus.OK)
     @PutMapping("/logout")
-    public void updateLastLogoutAt(@RequestHeader("Authorization") String authorizationHeader,
+    public void updateLastLogoutAt(@LoginUser Long userId,
                                    @RequestBody LogoutRequest logoutRequest) {
-        String token = authorizationHeader.replace("Bearer ", "");
-        userService.updateLastLogoutAt(token, logoutRequest.getLastLogoutAt());
+        userService.updateLastLogoutAt(userId, logoutRequest.getLastLogoutAt());
     }
 
 }
\ No newline at end of file
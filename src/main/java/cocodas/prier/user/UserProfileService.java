@@ -2,42 +2,151 @@ package cocodas.prier.user;
 
 import cocodas.prier.aws.AwsS3Service;
 import cocodas.prier.user.response.ProfileImgDto;
+import cocodas.prier.user.response.UserProfileDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 프로필(닉네임, 이미지 키, 잔액) 스냅샷을 유저 ID 별로 메모리에 보관
+// 프로필 이미지/닉네임 수정, 포인트 잔액 변경 시 evict 로 제거하고, 그 외에는 TTL 이 지나면 다시 조회
+// 이미지 URL 은 보관하지 않고 AwsS3Service 의 presigned URL 캐시에서 가져옴
 @Service
 @RequiredArgsConstructor
 public class UserProfileService {
 
     private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
     private final AwsS3Service awsS3Service;
 
-    @Value("${profile.default.s3key}")
+    // 탈퇴 등으로 users 행이 없는 작성자 표시용
+    private static final String DELETED_USER_NICKNAME = "탈퇴한 사용자";
+
+    @Value("${profile.default.s3key:}")
     private String defaultProfileS3Key;
 
+    @Value("${profile.cache.ttl-minutes:10}")
+    private long profileCacheTtlMinutes;
+
+    @Value("${profile.cache.max-size:10000}")
+    private long profileCacheMaxSize;
+
+    private Cache<Long, ProfileSnapshot> profileCache;
+
+    @PostConstruct
+    public void initializeCache() {
+        this.profileCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(profileCacheTtlMinutes))
+                .maximumSize(profileCacheMaxSize)
+                .build();
+    }
+
     public ProfileImgDto getProfile(Long userId) {
-        Users users = findUserExist(userId);
-
-        String metadata;
-        String publicUrl;
-        if (users == null) {
-            metadata = "userProfile.svg";
-            publicUrl = awsS3Service.getPublicUrl(defaultProfileS3Key);
-        } else {
-            metadata = users.getMetadata();
-            publicUrl = awsS3Service.getPublicUrl(users.getS3Key());
+        ProfileSnapshot snapshot = profileCache.get(userId, id -> currentUserContext.findSummary(id)
+                .map(ProfileSnapshot::new)
+                .orElse(null));
+        if (snapshot == null) {
+            throw new IllegalArgumentException("User not found!");
         }
 
         return new ProfileImgDto(
-                metadata,
-                publicUrl,
-                users.getBalance()
+                snapshot.metadata,
+                awsS3Service.getPublicUrl(snapshot.s3Key),
+                snapshot.balance
         );
     }
 
-    private Users findUserExist(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found!"));
+    // 목록 조회용: 캐시에 없는 유저만 한 번의 쿼리로 가져오고, 이미지 URL 도 한 번에 서명
+    // 요청한 ID 는 모두 결과에 포함 (users 행이 없는 ID 는 탈퇴한 사용자 프로필, 캐시에는 넣지 않음)
+    public Map<Long, UserProfileDto> getProfiles(Collection<Long> userIds) {
+        Set<Long> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (distinctIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, ProfileSnapshot> snapshots = new HashMap<>(profileCache.getAll(distinctIds, this::loadSnapshots));
+        distinctIds.forEach(userId -> snapshots.computeIfAbsent(userId, id -> deletedUserSnapshot()));
+        Map<String, String> urlByS3Key = awsS3Service.getPublicUrls(snapshots.values().stream()
+                .map(snapshot -> snapshot.s3Key)
+                .toList());
+
+        Map<Long, UserProfileDto> profiles = new HashMap<>();
+        snapshots.forEach((userId, snapshot) -> profiles.put(userId, new UserProfileDto(
+                userId,
+                snapshot.nickname,
+                snapshot.metadata,
+                urlByS3Key.get(snapshot.s3Key),
+                snapshot.balance
+        )));
+        return profiles;
+    }
+
+    // 목록 조회용: 유저 ID별 프로필 이미지 URL
+    public Map<Long, String> getProfileUrls(Collection<Long> userIds) {
+        Map<Long, String> profileUrls = new HashMap<>();
+        getProfiles(userIds).forEach((userId, profile) -> profileUrls.put(userId, profile.getProfileUrl()));
+        return profileUrls;
+    }
+
+    // 지금 바로 제거하고, 트랜잭션 안이면 커밋/롤백 후에 한 번 더 제거
+    // (커밋 전에 다른 요청이 예전 값을 다시 캐시에 넣는 경우 방지)
+    public void evict(Long userId) {
+        currentUserContext.evictSummary(userId);
+        profileCache.invalidate(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                profileCache.invalidate(userId);
+            }
+        });
+    }
+
+    private Map<Long, ProfileSnapshot> loadSnapshots(Set<? extends Long> userIds) {
+        List<UserSummary> summaries = userRepository.findSummariesByUserIdIn(List.copyOf(userIds));
+        return summaries.stream()
+                .collect(Collectors.toMap(UserSummary::getUserId, ProfileSnapshot::new));
+    }
+
+    private ProfileSnapshot deletedUserSnapshot() {
+        String s3Key = defaultProfileS3Key == null || defaultProfileS3Key.isBlank() ? null : defaultProfileS3Key;
+        return new ProfileSnapshot(DELETED_USER_NICKNAME, null, s3Key, 0);
+    }
+
+    // 캐시에 두는 값은 조회 결과 프록시가 아니라 불변 복사본
+    private static final class ProfileSnapshot {
+        private final String nickname;
+        private final String metadata;
+        private final String s3Key;
+        private final Integer balance;
+
+        private ProfileSnapshot(UserSummary summary) {
+            this(summary.getNickname(), summary.getMetadata(), summary.getS3Key(), summary.getBalance());
+        }
+
+        private ProfileSnapshot(String nickname, String metadata, String s3Key, Integer balance) {
+            this.nickname = nickname;
+            this.metadata = metadata;
+            this.s3Key = s3Key;
+            this.balance = balance;
+        }
     }
 }
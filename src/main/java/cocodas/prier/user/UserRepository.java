@@ -1,11 +1,38 @@
 package cocodas.prier.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByEmail(String email);
+
+    @Query("SELECT u.userId AS userId, u.nickname AS nickname, u.s3Key AS s3Key, " +
+            "u.metadata AS metadata, u.balance AS balance FROM Users u WHERE u.userId = :userId")
+    Optional<UserSummary> findSummaryByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT u.userId AS userId, u.nickname AS nickname, u.s3Key AS s3Key, " +
+            "u.metadata AS metadata, u.balance AS balance FROM Users u WHERE u.userId IN :userIds")
+    List<UserSummary> findSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.balance FROM Users u WHERE u.userId = :userId")
+    Integer findBalanceById(@Param("userId") Long userId);
+
+    // 포인트 잔액은 아래 원자적 UPDATE 로만 변경
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Users u SET u.balance = COALESCE(u.balance, 0) + :amount WHERE u.userId = :userId")
+    int addBalance(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 잔액이 부족하면 0 을 반환하고 아무것도 바꾸지 않음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Users u SET u.balance = u.balance - :amount " +
+            "WHERE u.userId = :userId AND u.balance >= :amount")
+    int deductBalance(@Param("userId") Long userId, @Param("amount") int amount);
 }
@@ -1,311 +1,225 @@
 package cocodas.prier.user;
 
-import cocodas.prier.aws.AwsS3Service;
-import cocodas.prier.project.comment.ProjectCommentService;
-import cocodas.prier.project.comment.dto.MyPageCommentDto;
-import cocodas.prier.project.feedback.response.ResponseService;
-import cocodas.prier.project.project.ProjectService;
-import cocodas.prier.project.project.dto.MyPageProjectDto;
-import cocodas.prier.user.dto.NotificationDto;
-import cocodas.prier.quest.Quest;
-import cocodas.prier.statics.keywordAi.KeywordsService;
-import cocodas.prier.statics.keywordAi.dto.response.KeyWordResponseDto;
-import cocodas.prier.statics.objective.ObjectiveResponseService;
-import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
+import cocodas.prier.aws.S3UploadPipeline;
+import cocodas.prier.user.mypage.MyPageChangedEvent;
+import cocodas.prier.user.mypage.MyPageSummaryData;
+import cocodas.prier.user.mypage.MyPageSummaryRefresher;
+import cocodas.prier.user.notification.NotificationCounterService;
 import cocodas.prier.user.response.MyPageResponseDto;
 import cocodas.prier.user.response.OhterMyPageResponseDto;
 import cocodas.prier.user.response.ProfileImgDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
 
-    private final ProjectService projectService;
+    private final MyPageSummaryRefresher myPageSummaryRefresher;
 
-    private final KeywordsService keywordsService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final ObjectiveResponseService objectiveResponseService;
+    private final S3UploadPipeline s3UploadPipeline;
 
-    private final ProjectCommentService projectCommentService;
-
-    private final JwtTokenProvider jwtTokenProvider;
+    private final UserProfileService userProfileService;
 
-    private final AwsS3Service awsS3Service;
+    private final NotificationCounterService notificationCounterService;
 
-    private final UserProfileService userProfileService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${profile.default.s3key}")
     private String defaultProfileS3Key;
 
-    private Long findUserIdByJwt(String token) {
-        return jwtTokenProvider.getUserIdFromJwt(token);
-    }
-
     private Users findUserExist(Long userId) {
-        return userRepository.findById(userId)
+        return currentUserContext.findUser(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found!"));
     }
 
     // 나의 마이페이지 보기
-    public MyPageResponseDto viewMyPage(String token) {
-
-        Long userId = findUserIdByJwt(token);
-
-        Users users = findUserExist(userId);
-
-        // 퀘스트
-        Quest quests = users.getQuests()
-                .stream()
-                .filter(quest -> quest.getCreatedAt().equals(LocalDate.now()))
-                .findFirst()
-                .orElse(null);
+    // 최근 프로젝트/통계/키워드/댓글은 매번 계산하지 않고 미리 만들어 둔 요약을 읽음
+    public MyPageResponseDto viewMyPage(Long userId) {
+        MyPageSummaryData summary = myPageSummaryRefresher.load(userId);
+        boolean todayQuest = summary.isQuestOf(LocalDate.now());
 
         // 프로필
         ProfileImgDto profile = userProfileService.getProfile(userId);
 
-        // 최신 프로젝트 가져오기
-        MyPageProjectDto nowProject = projectService.getRecentProject(userId);
-        Long projectId = null;
-        String teamName = null;
-        String projectTitle = null;
-        Integer feedbackAmount = null;
-        Float score = null;
-        String percentageStr = null;
-        List<KeyWordResponseDto> keywordByProjectId = null;
-        List<MyPageCommentDto> projectComments = projectCommentService.getProjectComments(userId);
-
-        if (nowProject != null) {
-            projectId = nowProject.getProjectId();
-            teamName = nowProject.getTeamName();
-            projectTitle = nowProject.getTitle();
-            feedbackAmount = nowProject.getFeedbackAmount();
-            score = nowProject.getScore();
-
-            Double percentage = objectiveResponseService.calculateFeedbackPercentage(projectId);
-            percentageStr = String.format("%.2f", percentage);
-
-            keywordByProjectId = keywordsService.getKeywordByProjectId(projectId);
-        }
-
         return new MyPageResponseDto(
-                users.getNickname(),
-                users.getBelonging(),
-                users.getTier(),
-                users.getGithubUrl(),
-                users.getNotionUrl(),
-                users.getBlogUrl(),
-                users.getFigmaUrl(),
-                users.getEmail(),
-                users.getIntro(),
-                quests.getFirst(),
-                quests.getSecond(),
-                quests.getThird(),
-                projectId,
-                teamName,
-                projectTitle,
-                feedbackAmount,
-                score,
-                percentageStr,
-                keywordByProjectId,
-                projectComments,
+                summary.getNickname(),
+                summary.getBelonging(),
+                summary.getRank(),
+                summary.getGithubUrl(),
+                summary.getNotionUrl(),
+                summary.getBlogUrl(),
+                summary.getFigmaUrl(),
+                summary.getEmail(),
+                summary.getIntro(),
+                todayQuest && summary.isFirstQuest(),
+                todayQuest && summary.isSecondQuest(),
+                todayQuest && summary.isThirdQuest(),
+                summary.getNowProjectId(),
+                summary.getNowProjectTeamName(),
+                summary.getNowProjectName(),
+                summary.getNowProjectFeedbackCount(),
+                summary.getNowProjectScore(),
+                summary.getNowProjectStaticPercentage(),
+                summary.getNowProjectKeywordList(),
+                summary.getMyPageCommentDtoList(),
                 profile
         );
     }
 
     // 다른 사람의 마이페이지 보기
-    public OhterMyPageResponseDto viewOtherMyPage(String token, Long otherUserId) {
-        Long myUserId = findUserIdByJwt(token);
-
-        Users myUsers = findUserExist(myUserId);
-
-        Users otherUsers = findUserExist(otherUserId);
+    public OhterMyPageResponseDto viewOtherMyPage(Long myUserId, Long otherUserId) {
+        MyPageSummaryData summary = myPageSummaryRefresher.load(otherUserId);
+        boolean todayQuest = summary.isQuestOf(LocalDate.now());
 
-        // 퀘스트
-        Quest quests = otherUsers.getQuests()
-                .stream()
-                .filter(quest -> quest.getCreatedAt().equals(LocalDate.now()))
-                .findFirst()
-                .orElse(null);
-
-        // ======================= 여기까지가 나에 대한 정보 =======================
-
-        // 프로필
+        // 프로필 (나, 상대방)
         ProfileImgDto profile = userProfileService.getProfile(myUserId);
+        ProfileImgDto otherProfile = userProfileService.getProfile(otherUserId);
 
-        // 최신 프로젝트 가져오기
-        MyPageProjectDto nowProject = projectService.getRecentProject(otherUserId);
-        Long projectId = null;
-        String teamName = null;
-        String projectTitle = null;
-        Integer feedbackAmount = null;
-        Float score = null;
-        String percentageStr = null;
-        List<KeyWordResponseDto> keywordByProjectId = null;
-        List<MyPageCommentDto> projectComments = null;
-
-        if (nowProject != null) {
-            projectId = nowProject.getProjectId();
-            teamName = nowProject.getTeamName();
-            projectTitle = nowProject.getTitle();
-            feedbackAmount = nowProject.getFeedbackAmount();
-            score = nowProject.getScore();
-
-            Double percentage = objectiveResponseService.calculateFeedbackPercentage(projectId);
-            percentageStr = String.format("%.2f", percentage);
-
-            keywordByProjectId = keywordsService.getKeywordByProjectId(projectId);
-
-            projectComments = projectCommentService.getProjectComments(otherUserId);
-        }
+        // 다른 사람의 댓글 목록은 진행 중인 프로젝트가 있을 때만 보여줌
+        Long projectId = summary.getNowProjectId();
 
         return new OhterMyPageResponseDto(
-                otherUsers.getNickname(),
-                otherUsers.getBelonging(),
-                otherUsers.getTier(),
-                otherUsers.getGithubUrl(),
-                otherUsers.getNotionUrl(),
-                otherUsers.getBlogUrl(),
-                otherUsers.getFigmaUrl(),
-                otherUsers.getEmail(),
-                otherUsers.getIntro(),
-                awsS3Service.getPublicUrl(otherUsers.getS3Key()),
-                quests != null && quests.getFirst(),
-                quests != null && quests.getSecond(),
-                quests != null && quests.getThird(),
+                summary.getNickname(),
+                summary.getBelonging(),
+                summary.getRank(),
+                summary.getGithubUrl(),
+                summary.getNotionUrl(),
+                summary.getBlogUrl(),
+                summary.getFigmaUrl(),
+                summary.getEmail(),
+                summary.getIntro(),
+                otherProfile.getS3Key(),
+                todayQuest && summary.isFirstQuest(),
+                todayQuest && summary.isSecondQuest(),
+                todayQuest && summary.isThirdQuest(),
                 projectId,
-                teamName,
-                projectTitle,
-                feedbackAmount,
-                score,
-                percentageStr,
-                keywordByProjectId,
-                projectComments,
+                summary.getNowProjectTeamName(),
+                summary.getNowProjectName(),
+                summary.getNowProjectFeedbackCount(),
+                summary.getNowProjectScore(),
+                summary.getNowProjectStaticPercentage(),
+                summary.getNowProjectKeywordList(),
+                projectId == null ? null : summary.getMyPageCommentDtoList(),
                 profile
         );
     }
 
     // 닉네임 수정하기
     @Transactional
-    public void newNickName(String token, String newNickname) {
-        Long userId = findUserIdByJwt(token);
+    public void newNickName(Long userId, String newNickname) {
         Users user = findUserExist(userId);
 
         user.updateNickName(newNickname);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
+        userProfileService.evict(userId);
     }
 
     // 소속 수정하기
     @Transactional
-    public void newBelonging(String token, String newBelonging) {
-        Long userId = findUserIdByJwt(token);
+    public void newBelonging(Long userId, String newBelonging) {
         Users user = findUserExist(userId);
 
         user.updateBelonging(newBelonging);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
     }
 
     // 자기소개 수정하기
     @Transactional
-    public void newIntro(String token, String newIntro) {
-        Long userId = findUserIdByJwt(token);
+    public void newIntro(Long userId, String newIntro) {
         Users user = findUserExist(userId);
 
         user.updateIntro(newIntro);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
     }
 
     // 블로그 링크 수정하기
     @Transactional
-    public void newBlogUrl(String token, String newBlogUrl) {
-        Long userId = findUserIdByJwt(token);
+    public void newBlogUrl(Long userId, String newBlogUrl) {
         Users user = findUserExist(userId);
 
         user.updateBlog(newBlogUrl);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
     }
 
     // 깃헙 링크 수정하기
     @Transactional
-    public void newGithubUrl(String token, String newGithubUrl) {
-        Long userId = findUserIdByJwt(token);
+    public void newGithubUrl(Long userId, String newGithubUrl) {
         Users user = findUserExist(userId);
 
         user.updateGithub(newGithubUrl);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
     }
 
     // 피그마 주소 수정하기
     @Transactional
-    public void newFigmaUrl(String token, String newFigmaUrl) {
-        Long userId = findUserIdByJwt(token);
+    public void newFigmaUrl(Long userId, String newFigmaUrl) {
         Users user = findUserExist(userId);
 
         user.updateFigma(newFigmaUrl);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
     }
 
     // 노션 주소 수정하기
     @Transactional
-    public void newNotionUrl(String token, String newNotionUrl) {
-        Long userId = findUserIdByJwt(token);
+    public void newNotionUrl(Long userId, String newNotionUrl) {
         Users user = findUserExist(userId);
 
         user.updateNotion(newNotionUrl);
+        eventPublisher.publishEvent(MyPageChangedEvent.of(userId));
     }
 
     // 마이페이지 프로필 수정하기
-    @Transactional
-    public void newProfileImg(String token, MultipartFile file) throws IOException {
-        Long userId = findUserIdByJwt(token);
+    // 사진은 트랜잭션 전에 업로드하고, 키 저장은 그 다음 짧은 트랜잭션에서 (실패하면 업로드한 파일 삭제)
+    public void newProfileImg(Long userId, MultipartFile file) throws IOException {
         if (file != null) {
-            saveMedia(userId, file);
+            s3UploadPipeline.uploadThen(List.of(file),
+                    keys -> transactionTemplate.execute(status -> saveMedia(userId, file, keys.get(0))));
         }
     }
 
-    private void saveMedia(Long userId, MultipartFile file) throws IOException {
-        String key = awsFileUploadAndGetKey(file);
+    private String saveMedia(Long userId, MultipartFile file, String key) {
         Users users = findUserExist(userId);
 
         users.updateMetadata(file.getOriginalFilename());
         users.updateS3Key(key);
-    }
-
-    private String awsFileUploadAndGetKey(MultipartFile file) throws IOException {
-        File tempFile = File.createTempFile("profile-", file.getOriginalFilename());
-        file.transferTo(tempFile);
-
-        String key = awsS3Service.uploadFile(tempFile);
-        tempFile.delete();
+        userProfileService.evict(userId);
         return key;
     }
 
     @Transactional
-    public void deleteProfileImg(String token) {
-        Long userId = findUserIdByJwt(token);
+    public void deleteProfileImg(Long userId) {
         Users users = findUserExist(userId);
 
         users.updateMetadata("userProfile.svg");
         users.updateS3Key(defaultProfileS3Key);
+        userProfileService.evict(userId);
     }
 
     @Transactional
-    public void updateLastLogoutAt(String token, String logoutAt) {
-        Long userId = findUserIdByJwt(token);
+    public void updateLastLogoutAt(Long userId, String logoutAt) {
         Users users = findUserExist(userId);
 
         LocalDateTime lastLogoutAt = LocalDateTime.parse(logoutAt, DateTimeFormatter.ISO_DATE_TIME);
         users.updateLastLogoutAt(lastLogoutAt);
+        notificationCounterService.reset(userId, lastLogoutAt);
     }
 
     // $$ 천승환, 이소은 -> 사용자 프로필 사진 가져가라
@@ -0,0 +1,10 @@
+package cocodas.prier.user;
+
+// 화면에서 자주 쓰는 유저 필드만 담은 가벼운 조회 결과
+public interface UserSummary {
+    Long getUserId();
+    String getNickname();
+    String getS3Key();
+    String getMetadata();
+    Integer getBalance();
+}
@@ -39,6 +39,8 @@ public class Users {
     private String metadata = "userProfile.svg";
     private String s3Key = "0af06fa9-a078-4fe3-9df8-0c1e85368fba";
     private LocalDateTime lastLogoutAt;
+    // UserRepository 의 조건부 UPDATE 로만 변경. 프로필 수정 등으로 flush 할 때 읽어 둔 잔액으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+    @Column(updatable = false)
     private Integer balance;
 
     // 카카오 로그인을 사용할 때 필요한 Builder
@@ -90,13 +92,6 @@ public class Users {
         this.lastLogoutAt = lastLogoutAt;
     }
 
-    public void updateBalance(int amount) {
-        if (this.balance == null) {
-            this.balance = 0;
-        }
-        this.balance += amount;
-    }
-
     // 테이블 연관관계 설정
     @OneToMany(mappedBy = "users", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Post> posts = new ArrayList<>();
@@ -0,0 +1,18 @@
+package cocodas.prier.user.dto;
+
+import cocodas.prier.user.notification.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class LiveNotificationDto {
+    private NotificationType type;
+    // RESPONSE/COMMENT: projectId, LIKE: postId, QUEST: 퀘스트 번호
+    private Long targetId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package cocodas.prier.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 알림 SSE 연결용 일회용 티켓 (GET /api/notifications/stream?ticket=...)
+@Getter
+@AllArgsConstructor
+public class StreamTicketDto {
+    private String ticket;
+    private long expiresInSeconds;
+}
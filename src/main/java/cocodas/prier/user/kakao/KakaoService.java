@@ -1,6 +1,5 @@
 package cocodas.prier.user.kakao;
 
-import cocodas.prier.project.feedback.response.ResponseService;
 import cocodas.prier.quest.Quest;
 import cocodas.prier.quest.QuestService;
 import cocodas.prier.user.UserRepository;
@@ -12,6 +11,7 @@ import cocodas.prier.user.dto.response.KakaoUserInfoResponseDto;
 import cocodas.prier.user.kakao.jwt.JwtTokenProvider;
 import cocodas.prier.user.dto.response.LoginSuccessResponse;
 import cocodas.prier.user.kakao.jwt.UserAuthentication;
+import cocodas.prier.user.notification.NotificationCounterService;
 import cocodas.prier.user.response.ProfileImgDto;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import lombok.RequiredArgsConstructor;
@@ -33,7 +33,7 @@ public class KakaoService {
     private final JwtTokenProvider jwtTokenProvider;
     private final QuestService questService;
     private final UserService userService;
-    private final ResponseService responseService;
+    private final NotificationCounterService notificationCounterService;
 
     @Value("${kakao.client_id}")
     private String client_id;
@@ -129,10 +129,13 @@ public class KakaoService {
 
         ProfileImgDto profile = userService.getProfile(userId);
 
-        NotificationDto notificationDto = responseService.noticeAmount(accessToken);
+        // 지난 로그아웃 이후 알림을 보여주고 카운터는 지금부터 다시 셈
+        NotificationDto notificationDto = notificationCounterService.getUnread(userId);
 
         Users users = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("Not Found User"));
-        users.updateLastLogoutAt(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        users.updateLastLogoutAt(now);
+        notificationCounterService.reset(userId, now);
 
         return new LoginSuccessResponse(userId, accessToken, kakaoAccessToken, profile, notificationDto);
     }
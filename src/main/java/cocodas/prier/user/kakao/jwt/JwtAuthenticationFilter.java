@@ -1,11 +1,14 @@
 package cocodas.prier.user.kakao.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -15,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 //모든 요청에 대해 실행되며 요청의 Authorization 헤더에서 jwt 추출, 검증해 사용자 인증
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -24,24 +28,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
-        try {
-            final String token = getJwtFromRequest(request);
-            if (jwtTokenProvider.validateToken(token) == JwtValidationType.VALID_JWT) {
-                Long userId = jwtTokenProvider.getUserIdFromJwt(token);
-                String kakaoAccessTokenFromJwt = jwtTokenProvider.getKakaoAccessTokenFromJwt(token);
+        final String token = getJwtFromRequest(request);
+        if (token != null) {
+            try {
+                // 요청마다 토큰은 한 번만 파싱/검증하고, 이후로는 인증 객체의 userId 만 사용
+                Claims claims = jwtTokenProvider.getBody(token);
+                Long userId = jwtTokenProvider.getUserId(claims);
+                String kakaoAccessTokenFromJwt = jwtTokenProvider.getKakaoAccessToken(claims);
                 //userId를 principal(주체)로 설정
-                UserAuthentication authentication = new UserAuthentication(userId.toString(), null, null, kakaoAccessTokenFromJwt);
+                UserAuthentication authentication = new UserAuthentication(userId, null, null, kakaoAccessTokenFromJwt);
                 //IP 주소, 세션 ID 같은 요청 관련 정보를 포함하는 객체를 생성해서 추가적인 인증 정보 설정
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 //spring security의 인증 컨텍스트에 설정
                 //현재 스레드의 보안 컨텍스트에 authentication을 설정해 이후의 요청 처리 과정에서 현재 사용자가 인증된 사용자로 간주됨.
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
-        } catch (Exception exception) {
-            try {
-                throw new Exception();
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+            } catch (JwtException | IllegalArgumentException e) {
+                // 유효하지 않은 토큰은 인증 없이 넘기고, 로그인이 필요한 API 에서 401 처리
+                log.debug("유효하지 않은 JWT: {}", e.getMessage());
             }
         }
         filterChain.doFilter(request, response); //다음 필터로 요청 전달
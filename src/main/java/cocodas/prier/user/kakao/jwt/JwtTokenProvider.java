@@ -1,5 +1,8 @@
 package cocodas.prier.user.kakao.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -10,6 +13,8 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
 
@@ -24,12 +29,51 @@ public class JwtTokenProvider {
     @Value("${jwt.secret}")
     private String JWT_SECRET; //jwt 서명을 위한 비밀키
 
+    @Value("${jwt.claims-cache.ttl-ms:300000}")
+    private long claimsCacheTtlMs;
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    // 키와 파서는 시작할 때 한 번만 만들어서 재사용 (둘 다 불변이라 스레드 간 공유 가능)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 서명 검증을 통과한 클레임 캐시. 키는 토큰 원문 대신 SHA-256 해시
+    private Cache<String, Claims> verifiedClaimsCache;
+
     @PostConstruct
     protected void init() {
         //UTF-8 인코딩 된 바이트 배열 -> Base64 인코딩 된 문자열
         //서명 및 검증 과정에서 비밀 키를 안전하게 관리하기 위해 수행
         JWT_SECRET = Base64.getEncoder()
                 .encodeToString(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+
+        this.signingKey = createSigningKey();
+        this.jwtParser = Jwts.parserBuilder() //jwt 문자열을 파싱하기 위한 빌더 생성
+                .setSigningKey(signingKey) //서명 키 설정
+                .build();
+
+        // 토큰 만료 시각이 캐시 TTL 보다 이르면 만료 시각에 맞춰 제거
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return expiresInNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return expiresInNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     //토큰 생성
@@ -47,30 +91,37 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setClaims(claims)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     //서명에 사용할 키 생성
-    private SecretKey getSigningKey() {
+    private SecretKey createSigningKey() {
         String encodedKey = Base64.getEncoder().encodeToString(JWT_SECRET.getBytes());
         return Keys.hmacShaKeyFor(encodedKey.getBytes()); //인코딩된 키를 HMAC-SHA 키로 변환
     }
 
     public Long getUserIdFromJwt(String token) {
-        Claims claims = getBody(token);
-        return Long.valueOf(claims.get(USER_ID).toString()); //userId를 Long으로 변환해 반환
+        return getUserId(getBody(token));
     }
 
     public String getKakaoAccessTokenFromJwt(String token) {
-        Claims claims = getBody(token);
-        return claims.get(KAKAO_ACCESS_TOKEN).toString();
+        return getKakaoAccessToken(getBody(token));
+    }
+
+    public Long getUserId(Claims claims) {
+        return Long.valueOf(claims.get(USER_ID).toString()); //userId를 Long으로 변환해 반환
+    }
+
+    public String getKakaoAccessToken(Claims claims) {
+        Object kakaoAccessToken = claims.get(KAKAO_ACCESS_TOKEN);
+        return kakaoAccessToken == null ? null : kakaoAccessToken.toString();
     }
 
     //토큰 유효성 검사
     public JwtValidationType validateToken(String token) {
         try {
-            final Claims claims = getBody(token); //클레임에서 바디 추출
+            getBody(token);
             return JwtValidationType.VALID_JWT;
         } catch (MalformedJwtException e) {
             return JwtValidationType.INVALID_JWT_TOKEN;
@@ -83,12 +134,29 @@ public class JwtTokenProvider {
         }
     }
 
-    //jwt 토큰에서 클레임 추출
-    private Claims getBody(final String token) {
-        return Jwts.parserBuilder() //jwt 문자열을 파싱하기 위한 빌더 생성
-                .setSigningKey(getSigningKey()) //서명 키 설정
-                .build()
-                .parseClaimsJws(token) //토큰 파싱, 서명 검증
-                .getBody(); //클레임 반환
+    //jwt 토큰에서 클레임 추출. 서명 검증에 성공한 토큰만 캐시에 남기 때문에 캐시 적중 시 다시 검증하지 않음
+    public Claims getBody(final String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT Token is missing");
+        }
+        return verifiedClaimsCache.get(hash(token), key -> jwtParser.parseClaimsJws(token).getBody());
+    }
+
+    private long expiresInNanos(Claims claims) {
+        long ttlMs = claimsCacheTtlMs;
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            ttlMs = Math.min(ttlMs, expiration.getTime() - System.currentTimeMillis());
+        }
+        return Math.max(0, ttlMs) * 1_000_000L;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
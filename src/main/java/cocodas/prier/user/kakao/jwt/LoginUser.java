@@ -0,0 +1,13 @@
+package cocodas.prier.user.kakao.jwt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 JwtAuthenticationFilter 가 인증한 userId 를 주입
+// Authorization 헤더를 직접 읽어 토큰을 다시 파싱하지 않도록 사용
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
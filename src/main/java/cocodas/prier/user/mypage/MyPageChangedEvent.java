@@ -0,0 +1,27 @@
+package cocodas.prier.user.mypage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 마이페이지 요약에 보이는 값이 바뀐 유저 ID 목록. 커밋 후 요약 재생성에 사용
+@Getter
+@AllArgsConstructor
+public class MyPageChangedEvent {
+    private Set<Long> userIds;
+
+    public static MyPageChangedEvent of(Long... userIds) {
+        return of(Stream.of(userIds).toList());
+    }
+
+    public static MyPageChangedEvent of(Collection<Long> userIds) {
+        return new MyPageChangedEvent(userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+    }
+}
@@ -0,0 +1,33 @@
+package cocodas.prier.user.mypage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 변경의 유저 ID 를 myPageRefreshExecutor 로 넘기기만 하고 바로 반환 (커밋한 요청 스레드에서 요약을 만들지 않음)
+// 이미 대기 작업이 있는 유저는 건너뛰어서, 같은 유저의 연속된 변경은 한 번의 재생성으로 합침
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MyPageChangedListener {
+
+    private final MyPageSummaryRefresher myPageSummaryRefresher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMyPageChanged(MyPageChangedEvent event) {
+        for (Long userId : event.getUserIds()) {
+            if (!myPageSummaryRefresher.enqueue(userId)) {
+                continue;
+            }
+            try {
+                myPageSummaryRefresher.refreshQueued(userId);
+            } catch (TaskRejectedException e) {
+                log.warn("마이페이지 요약 재생성 대기열이 가득 참, userId: {}", userId);
+                myPageSummaryRefresher.rejected(userId);
+            }
+        }
+    }
+}
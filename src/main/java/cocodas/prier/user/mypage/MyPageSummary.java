@@ -0,0 +1,27 @@
+package cocodas.prier.user.mypage;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 유저별 마이페이지 요약. 응답/댓글/프로젝트/퀘스트/프로필 변경 이벤트가 커밋된 뒤 MyPageSummaryRefresher 가 다시 만듦
+// 마이페이지 조회는 통계/키워드/댓글을 다시 계산하지 않고 이 행 하나만 읽음
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "my_page_summary")
+public class MyPageSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // MyPageSummaryData 의 JSON
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+}
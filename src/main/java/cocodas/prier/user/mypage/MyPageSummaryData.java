@@ -0,0 +1,48 @@
+package cocodas.prier.user.mypage;
+
+import cocodas.prier.project.comment.dto.MyPageCommentDto;
+import cocodas.prier.statics.keywordAi.dto.response.KeyWordResponseDto;
+import cocodas.prier.user.Rank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 마이페이지 요약에 JSON 으로 저장되는 값 (프로필 이미지는 UserProfileService 캐시에서 따로 가져옴)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyPageSummaryData {
+    private String nickname;
+    private String belonging;
+    private Rank rank;
+    private String githubUrl;
+    private String notionUrl;
+    private String blogUrl;
+    private String figmaUrl;
+    private String email;
+    private String intro;
+
+    // 요약을 만든 날의 퀘스트. 날짜가 오늘이 아니면 모두 미완료로 봄
+    private LocalDate questDate;
+    private boolean firstQuest;
+    private boolean secondQuest;
+    private boolean thirdQuest;
+
+    private Long nowProjectId;
+    private String nowProjectTeamName;
+    private String nowProjectName;
+    private Integer nowProjectFeedbackCount;
+    private Float nowProjectScore;
+    private String nowProjectStaticPercentage;
+    private List<KeyWordResponseDto> nowProjectKeywordList;
+    private List<MyPageCommentDto> myPageCommentDtoList;
+
+    public boolean isQuestOf(LocalDate date) {
+        return date.equals(questDate);
+    }
+}
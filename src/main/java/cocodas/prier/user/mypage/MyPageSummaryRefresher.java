@@ -0,0 +1,73 @@
+package cocodas.prier.user.mypage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 마이페이지 요약을 다시 만듦 (커밋 후 재생성은 MyPageChangedListener 가 myPageRefreshExecutor 로 넘김)
+// 같은 유저는 대기 작업을 하나만 두고, 동시에 하나만 생성하며, 생성 중 새 변경이 들어왔으면 끝난 뒤 한 번 더 생성
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MyPageSummaryRefresher {
+
+    private final MyPageSummaryService myPageSummaryService;
+
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    // 이미 대기 중인 유저면 false (그 작업이 시작할 때 이번 변경까지 읽으므로 새 작업이 필요 없음)
+    public boolean enqueue(Long userId) {
+        return queued.add(userId);
+    }
+
+    // 작업을 시작하면서 대기 표시를 지우므로, 이후 커밋된 변경은 새 작업으로 들어옴
+    @Async("myPageRefreshExecutor")
+    public void refreshQueued(Long userId) {
+        queued.remove(userId);
+        refresh(userId);
+    }
+
+    // 실행기가 가득 차서 작업을 넣지 못하면 요약을 지워서 다음 조회 때 다시 만들게 함
+    public void rejected(Long userId) {
+        queued.remove(userId);
+        discard(userId);
+    }
+
+    public void refresh(Long userId) {
+        pending.add(userId);
+        while (pending.contains(userId) && inFlight.add(userId)) {
+            try {
+                pending.remove(userId);
+                myPageSummaryService.rebuild(userId);
+            } catch (RuntimeException e) {
+                log.warn("마이페이지 요약 생성 실패, userId: {}", userId, e);
+                discard(userId);
+            } finally {
+                inFlight.remove(userId);
+            }
+        }
+    }
+
+    // 요약이 없으면 만들어 저장하고, 다른 요청이 생성 중이면 저장하지 않고 계산만 해서 돌려줌
+    public MyPageSummaryData load(Long userId) {
+        return myPageSummaryService.find(userId).orElseGet(() -> {
+            refresh(userId);
+            return myPageSummaryService.find(userId)
+                    .orElseGet(() -> myPageSummaryService.build(userId));
+        });
+    }
+
+    private void discard(Long userId) {
+        try {
+            myPageSummaryService.delete(userId);
+        } catch (RuntimeException e) {
+            log.warn("마이페이지 요약 삭제 실패, userId: {}", userId, e);
+        }
+    }
+}
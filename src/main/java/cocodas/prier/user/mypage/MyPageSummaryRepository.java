@@ -0,0 +1,22 @@
+package cocodas.prier.user.mypage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MyPageSummaryRepository extends JpaRepository<MyPageSummary, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO my_page_summary (user_id, payload, refreshed_at) VALUES (:userId, :payload, :refreshedAt) " +
+            "ON DUPLICATE KEY UPDATE payload = :payload, refreshed_at = :refreshedAt", nativeQuery = true)
+    void upsert(@Param("userId") Long userId, @Param("payload") String payload, @Param("refreshedAt") LocalDateTime refreshedAt);
+
+    @Modifying
+    @Query("DELETE FROM MyPageSummary s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,119 @@
+package cocodas.prier.user.mypage;
+
+import cocodas.prier.project.comment.ProjectCommentService;
+import cocodas.prier.project.project.ProjectService;
+import cocodas.prier.project.project.dto.MyPageProjectDto;
+import cocodas.prier.quest.Quest;
+import cocodas.prier.quest.QuestRepository;
+import cocodas.prier.statics.keywordAi.KeywordsService;
+import cocodas.prier.statics.objective.ObjectiveResponseService;
+import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.Users;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MyPageSummaryService {
+
+    private final MyPageSummaryRepository myPageSummaryRepository;
+    private final UserRepository userRepository;
+    private final QuestRepository questRepository;
+    private final ProjectService projectService;
+    private final ProjectCommentService projectCommentService;
+    private final ObjectiveResponseService objectiveResponseService;
+    private final KeywordsService keywordsService;
+    private final ObjectMapper objectMapper;
+
+    // 저장된 요약 (없거나 읽을 수 없으면 empty)
+    public Optional<MyPageSummaryData> find(Long userId) {
+        return myPageSummaryRepository.findById(userId)
+                .flatMap(summary -> read(userId, summary.getPayload()));
+    }
+
+    // 현재 DB 상태로 요약을 계산
+    public MyPageSummaryData build(Long userId) {
+        Users users = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found!"));
+
+        // 퀘스트
+        LocalDate today = LocalDate.now();
+        Quest quest = questRepository.findByCreatedAtAndUsers_UserId(today, userId)
+                .orElse(null);
+
+        MyPageSummaryData.MyPageSummaryDataBuilder data = MyPageSummaryData.builder()
+                .nickname(users.getNickname())
+                .belonging(users.getBelonging())
+                .rank(users.getTier())
+                .githubUrl(users.getGithubUrl())
+                .notionUrl(users.getNotionUrl())
+                .blogUrl(users.getBlogUrl())
+                .figmaUrl(users.getFigmaUrl())
+                .email(users.getEmail())
+                .intro(users.getIntro())
+                .questDate(today)
+                .firstQuest(quest != null && Boolean.TRUE.equals(quest.getFirst()))
+                .secondQuest(quest != null && Boolean.TRUE.equals(quest.getSecond()))
+                .thirdQuest(quest != null && Boolean.TRUE.equals(quest.getThird()))
+                .myPageCommentDtoList(projectCommentService.getProjectComments(userId));
+
+        // 최신 프로젝트
+        MyPageProjectDto nowProject = projectService.getRecentProject(userId);
+        if (nowProject != null) {
+            Long projectId = nowProject.getProjectId();
+            Double percentage = objectiveResponseService.calculateFeedbackPercentage(projectId);
+
+            data.nowProjectId(projectId)
+                    .nowProjectTeamName(nowProject.getTeamName())
+                    .nowProjectName(nowProject.getTitle())
+                    .nowProjectFeedbackCount(nowProject.getFeedbackAmount())
+                    .nowProjectScore(nowProject.getScore())
+                    .nowProjectStaticPercentage(String.format("%.2f", percentage))
+                    .nowProjectKeywordList(keywordsService.getKeywordByProjectId(projectId));
+        }
+
+        return data.build();
+    }
+
+    // 호출한 쪽 트랜잭션(커밋 후 리스너 포함)과 분리해서 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public MyPageSummaryData rebuild(Long userId) {
+        MyPageSummaryData data = build(userId);
+        myPageSummaryRepository.upsert(userId, write(data), LocalDateTime.now());
+        return data;
+    }
+
+    // 재생성에 실패하면 요약을 지워 다음 조회 때 다시 만들게 함
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void delete(Long userId) {
+        myPageSummaryRepository.deleteByUserId(userId);
+    }
+
+    private Optional<MyPageSummaryData> read(Long userId, String payload) {
+        try {
+            return Optional.of(objectMapper.readValue(payload, MyPageSummaryData.class));
+        } catch (JsonProcessingException e) {
+            log.warn("마이페이지 요약 읽기 실패, userId: {}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    private String write(MyPageSummaryData data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("마이페이지 요약 저장 실패", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package cocodas.prier.user.notification;
+
+import cocodas.prier.user.dto.LiveNotificationDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 받는 유저와 실시간 알림 내용. 커밋 후 NotificationHub 가 구독 중인 연결로 보냄
+@Getter
+@AllArgsConstructor
+public class LiveNotificationEvent {
+    private Long userId;
+    private LiveNotificationDto notification;
+
+    public static LiveNotificationEvent of(Long userId, NotificationType type, Long targetId) {
+        return new LiveNotificationEvent(userId, LiveNotificationDto.builder()
+                .type(type)
+                .targetId(targetId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,44 @@
+package cocodas.prier.user.notification;
+
+import cocodas.prier.user.CurrentUserContext;
+import cocodas.prier.user.dto.LiveNotificationDto;
+import cocodas.prier.user.dto.StreamTicketDto;
+import cocodas.prier.user.kakao.jwt.LoginUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private final NotificationHub notificationHub;
+    private final NotificationStreamTicketService notificationStreamTicketService;
+    private final CurrentUserContext currentUserContext;
+
+    // EventSource 로 연결하기 전에 헤더 인증으로 일회용 티켓 발급
+    @PostMapping("/stream-ticket")
+    public StreamTicketDto issueStreamTicket(@LoginUser Long userId) {
+        return new StreamTicketDto(notificationStreamTicketService.issue(userId),
+                notificationStreamTicketService.getTicketTtlSeconds());
+    }
+
+    // 새 피드백/댓글/좋아요/퀘스트 알림 실시간 구독 (event: RESPONSE, COMMENT, LIKE, QUEST)
+    // 브라우저는 ?ticket= 으로, 헤더를 붙일 수 있는 클라이언트는 Authorization 헤더로 인증
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<LiveNotificationDto>> stream(@RequestParam(name = "ticket", required = false) String ticket) {
+        Long userId = ticket == null
+                ? currentUserContext.getUserId()
+                : notificationStreamTicketService.consume(ticket);
+        return notificationHub.subscribe(userId);
+    }
+}
@@ -0,0 +1,32 @@
+package cocodas.prier.user.notification;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 프로젝트 주인별 안 읽은 알림 수. 응답/댓글 저장·삭제 시 NotificationCounterRepository 의 원자적 UPDATE 로만 갱신
+// 로그인/로그아웃 때 0 으로 돌리고 since 부터 다시 셈
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "notification_counter")
+public class NotificationCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 마지막으로 읽은 뒤 새 응답이 달린 내 프로젝트 수
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int responseCount;
+
+    // 마지막으로 읽은 뒤 내 프로젝트에 달린 댓글 수
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int commentCount;
+
+    // 이 시각 이후의 응답/댓글만 셈 (= 마지막 로그아웃 시각)
+    @Column(nullable = false)
+    private LocalDateTime since;
+}
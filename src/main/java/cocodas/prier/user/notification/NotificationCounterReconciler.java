@@ -0,0 +1,25 @@
+package cocodas.prier.user.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 이벤트로 증감한 알림 카운터가 원본 테이블과 어긋나지 않도록 주기적으로 다시 집계 (기본: 매일 새벽 4시)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCounterReconciler {
+
+    private final NotificationCounterService notificationCounterService;
+
+    @Scheduled(cron = "${notification.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        try {
+            int recounted = notificationCounterService.reconcileAll();
+            log.info("알림 카운터 재집계 완료: {}명", recounted);
+        } catch (RuntimeException e) {
+            log.warn("알림 카운터 재집계 실패", e);
+        }
+    }
+}
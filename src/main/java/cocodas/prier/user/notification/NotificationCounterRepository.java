@@ -0,0 +1,93 @@
+package cocodas.prier.user.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    // 프로젝트에 처음 안 읽은 응답이 생겼을 때만 1 을 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO unread_response_project (project_id, owner_id) VALUES (:projectId, :ownerId)", nativeQuery = true)
+    int markUnreadResponse(@Param("projectId") Long projectId, @Param("ownerId") Long ownerId);
+
+    // since 이후 응답이 더 이상 남아 있지 않으면 안 읽은 표시를 지움
+    // MySQL 전용 다중 테이블 DELETE(DELETE m FROM ... JOIN) 대신 서브쿼리로 써서 H2 테스트에서도 같은 SQL 실행
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM unread_response_project " +
+            "WHERE project_id = :projectId " +
+            "AND owner_id IN (SELECT n.user_id FROM notification_counter n " +
+            "WHERE NOT EXISTS (SELECT 1 FROM response r JOIN question q ON r.question_id = q.question_id " +
+            "WHERE q.project_id = :projectId AND r.created_at > n.since))", nativeQuery = true)
+    int clearUnreadResponse(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "UPDATE notification_counter SET response_count = GREATEST(response_count + :delta, 0) " +
+            "WHERE user_id = :userId", nativeQuery = true)
+    int addResponses(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE notification_counter SET comment_count = comment_count + 1 " +
+            "WHERE user_id = :userId", nativeQuery = true)
+    int addComment(@Param("userId") Long userId);
+
+    // 이미 읽은 댓글(since 이전에 작성된 댓글)이 지워지면 그대로 둠
+    @Modifying
+    @Query(value = "UPDATE notification_counter SET comment_count = GREATEST(comment_count - 1, 0) " +
+            "WHERE user_id = :userId AND since < :createdAt", nativeQuery = true)
+    int removeComment(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM unread_response_project WHERE owner_id = :userId", nativeQuery = true)
+    int deleteUnreadResponses(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO notification_counter (user_id, response_count, comment_count, since) " +
+            "VALUES (:userId, :responseCount, :commentCount, :since) " +
+            "ON DUPLICATE KEY UPDATE response_count = :responseCount, comment_count = :commentCount, since = :since",
+            nativeQuery = true)
+    void upsert(@Param("userId") Long userId, @Param("responseCount") int responseCount,
+                @Param("commentCount") int commentCount, @Param("since") LocalDateTime since);
+
+    // 카운터가 없던 유저의 처음 집계 / 정합성 복구용: 원본 테이블에서 다시 계산
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO unread_response_project (project_id, owner_id) " +
+            "SELECT DISTINCT p.project_id, p.user_id FROM response r " +
+            "JOIN question q ON r.question_id = q.question_id " +
+            "JOIN project p ON q.project_id = p.project_id " +
+            "WHERE p.user_id = :userId AND r.created_at > :since", nativeQuery = true)
+    int insertUnreadResponsesFromSource(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Query(value = "SELECT COUNT(*) FROM unread_response_project WHERE owner_id = :userId", nativeQuery = true)
+    int countUnreadResponses(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM project_comment c JOIN project p ON c.project_id = p.project_id " +
+            "WHERE p.user_id = :userId AND c.created_at > :since", nativeQuery = true)
+    int countCommentsFromSource(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    // 정합성 복구용: 모든 카운터를 원본 테이블에서 다시 집계
+    @Modifying
+    @Query(value = "DELETE FROM unread_response_project", nativeQuery = true)
+    int deleteAllUnreadResponses();
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO unread_response_project (project_id, owner_id) " +
+            "SELECT DISTINCT p.project_id, p.user_id FROM response r " +
+            "JOIN question q ON r.question_id = q.question_id " +
+            "JOIN project p ON q.project_id = p.project_id " +
+            "JOIN notification_counter n ON n.user_id = p.user_id " +
+            "WHERE r.created_at > n.since", nativeQuery = true)
+    int rebuildAllUnreadResponses();
+
+    @Modifying
+    @Query(value = "UPDATE notification_counter n SET " +
+            "response_count = (SELECT COUNT(*) FROM unread_response_project m WHERE m.owner_id = n.user_id), " +
+            "comment_count = (SELECT COUNT(*) FROM project_comment c JOIN project p ON c.project_id = p.project_id " +
+            "WHERE p.user_id = n.user_id AND c.created_at > n.since)", nativeQuery = true)
+    int recountAll();
+}
@@ -0,0 +1,98 @@
+package cocodas.prier.user.notification;
+
+import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.Users;
+import cocodas.prier.user.dto.NotificationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 로그인 알림(마지막 로그아웃 이후 새 응답이 달린 프로젝트 수, 새 댓글 수)을 카운터로 관리
+// 응답/댓글이 저장·삭제되는 트랜잭션에서 함께 증감하므로 로그인 시에는 카운터 한 행만 읽음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationCounterService {
+
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final UserRepository userRepository;
+
+    // 카운터가 아직 없는 유저는 원본 테이블에서 한 번 집계해서 만듦
+    @Transactional
+    public NotificationDto getUnread(Long userId) {
+        return notificationCounterRepository.findById(userId)
+                .map(counter -> toDto(counter.getResponseCount(), counter.getCommentCount()))
+                .orElseGet(() -> initialize(userId));
+    }
+
+    @Transactional
+    public void onResponse(Long projectId, Long ownerId) {
+        if (notificationCounterRepository.markUnreadResponse(projectId, ownerId) > 0) {
+            notificationCounterRepository.addResponses(ownerId, 1);
+        }
+    }
+
+    // 응답 삭제 후 호출: 안 읽은 응답이 남지 않은 프로젝트는 알림에서 뺌
+    @Transactional
+    public void onResponsesDeleted(Long projectId, Long ownerId) {
+        if (notificationCounterRepository.clearUnreadResponse(projectId) > 0) {
+            notificationCounterRepository.addResponses(ownerId, -1);
+        }
+    }
+
+    @Transactional
+    public void onComment(Long ownerId) {
+        notificationCounterRepository.addComment(ownerId);
+    }
+
+    @Transactional
+    public void onCommentDeleted(Long ownerId, LocalDateTime createdAt) {
+        notificationCounterRepository.removeComment(ownerId, createdAt);
+    }
+
+    // 로그인(알림 확인)/로그아웃 시 0 으로 돌리고 since 이후부터 다시 셈
+    @Transactional
+    public void reset(Long userId, LocalDateTime since) {
+        notificationCounterRepository.deleteUnreadResponses(userId);
+        notificationCounterRepository.upsert(userId, 0, 0, since);
+    }
+
+    // 모든 카운터를 원본 테이블에서 다시 집계
+    @Transactional
+    public int reconcileAll() {
+        notificationCounterRepository.deleteAllUnreadResponses();
+        notificationCounterRepository.rebuildAllUnreadResponses();
+        return notificationCounterRepository.recountAll();
+    }
+
+    private NotificationDto initialize(Long userId) {
+        Users users = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid user ID: " + userId));
+
+        // 로그아웃 기록이 없으면 기존 집계와 같이 0 건
+        LocalDateTime since = users.getLastLogoutAt();
+        if (since == null) {
+            reset(userId, LocalDateTime.now());
+            return toDto(0, 0);
+        }
+
+        notificationCounterRepository.deleteUnreadResponses(userId);
+        notificationCounterRepository.insertUnreadResponsesFromSource(userId, since);
+        int responseCount = notificationCounterRepository.countUnreadResponses(userId);
+        int commentCount = notificationCounterRepository.countCommentsFromSource(userId, since);
+        notificationCounterRepository.upsert(userId, responseCount, commentCount, since);
+        log.info("알림 카운터 생성, userId: {}, 응답: {}, 댓글: {}", userId, responseCount, commentCount);
+        return toDto(responseCount, commentCount);
+    }
+
+    private static NotificationDto toDto(int responseCount, int commentCount) {
+        return NotificationDto.builder()
+                .responseAmount((long) responseCount)
+                .commentAmount((long) commentCount)
+                .build();
+    }
+}
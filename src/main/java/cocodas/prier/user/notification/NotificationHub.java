@@ -0,0 +1,102 @@
+package cocodas.prier.user.notification;
+
+import cocodas.prier.user.dto.LiveNotificationDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 유저별 SSE 연결로 실시간 알림을 나눠 보냄
+// 연결마다 크기가 제한된 버퍼를 두고, 클라이언트가 느려 버퍼가 차면 가장 오래된 알림부터 버림
+// 하트비트는 타이머 하나를 모든 연결이 공유하고, 연결이 끊기면 하트비트 쓰기가 실패하면서 구독이 정리됨
+// 연결은 서블릿 비동기 요청으로 유지되므로 대기 중인 연결이 스레드를 잡지 않음
+@Slf4j
+@Component
+public class NotificationHub {
+
+    @Value("${notification.stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${notification.stream.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    private final Map<Long, Set<Sinks.Many<LiveNotificationDto>>> subscribers = new ConcurrentHashMap<>();
+
+    private Flux<ServerSentEvent<LiveNotificationDto>> heartbeat;
+
+    @PostConstruct
+    public void initializeHeartbeat() {
+        this.heartbeat = Flux.interval(Duration.ofSeconds(heartbeatSeconds))
+                .map(tick -> ServerSentEvent.<LiveNotificationDto>builder().comment("heartbeat").build())
+                .share();
+    }
+
+    public Flux<ServerSentEvent<LiveNotificationDto>> subscribe(Long userId) {
+        Sinks.Many<LiveNotificationDto> sink = Sinks.many().unicast().onBackpressureBuffer();
+
+        Flux<ServerSentEvent<LiveNotificationDto>> notifications = sink.asFlux()
+                .onBackpressureBuffer(bufferSize,
+                        dropped -> log.debug("실시간 알림 버퍼 초과로 버림, userId: {}", userId),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                .map(notification -> ServerSentEvent.builder(notification)
+                        .event(notification.getType().name())
+                        .build());
+
+        // 느린 연결 하나가 공유 하트비트를 막지 않도록 못 보낸 하트비트는 버림
+        return Flux.merge(notifications, heartbeat.onBackpressureDrop())
+                .doOnSubscribe(subscription -> register(userId, sink))
+                .doFinally(signal -> unregister(userId, sink));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLiveNotification(LiveNotificationEvent event) {
+        Set<Sinks.Many<LiveNotificationDto>> sinks = subscribers.get(event.getUserId());
+        if (sinks == null) {
+            return;
+        }
+
+        // 여러 요청 스레드가 같은 연결로 동시에 보내지 않도록 연결 단위로 직렬화
+        sinks.forEach(sink -> {
+            synchronized (sink) {
+                sink.tryEmitNext(event.getNotification());
+            }
+        });
+    }
+
+    // 종료 시 열린 연결을 모두 끝내 비동기 요청이 정리되게 함
+    @PreDestroy
+    public void completeAll() {
+        subscribers.values().forEach(sinks -> sinks.forEach(sink -> {
+            synchronized (sink) {
+                sink.tryEmitComplete();
+            }
+        }));
+    }
+
+    private void register(Long userId, Sinks.Many<LiveNotificationDto> sink) {
+        subscribers.compute(userId, (id, sinks) -> {
+            Set<Sinks.Many<LiveNotificationDto>> registered = sinks == null ? ConcurrentHashMap.newKeySet() : sinks;
+            registered.add(sink);
+            return registered;
+        });
+    }
+
+    private void unregister(Long userId, Sinks.Many<LiveNotificationDto> sink) {
+        subscribers.computeIfPresent(userId, (id, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package cocodas.prier.user.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+// 브라우저 EventSource 는 Authorization 헤더를 못 붙이므로, 헤더로 인증한 요청에서 짧게 유효한 일회용 티켓을 발급하고
+// SSE 연결 때 쿼리 파라미터로 받은 티켓으로 유저를 확인
+// 티켓은 이 서버 메모리에만 있으므로 발급한 인스턴스로 연결해야 함 (알림 구독도 인스턴스별)
+@Service
+public class NotificationStreamTicketService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Value("${notification.stream.ticket-ttl-seconds:30}")
+    private long ticketTtlSeconds;
+
+    @Value("${notification.stream.ticket-max-size:10000}")
+    private long ticketMaxSize;
+
+    private Cache<String, Long> tickets;
+
+    @PostConstruct
+    public void initializeCache() {
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ticketTtlSeconds))
+                .maximumSize(ticketMaxSize)
+                .build();
+    }
+
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, userId);
+        return ticket;
+    }
+
+    // 한 번 쓰면 삭제 (URL 이 로그 등에 남아도 재사용 불가)
+    public Long consume(String ticket) {
+        Long userId = tickets.asMap().remove(ticket);
+        if (userId == null) {
+            throw new AuthenticationCredentialsNotFoundException("Invalid or expired stream ticket");
+        }
+        return userId;
+    }
+
+    public long getTicketTtlSeconds() {
+        return ticketTtlSeconds;
+    }
+}
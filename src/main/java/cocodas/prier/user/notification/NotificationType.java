@@ -0,0 +1,8 @@
+package cocodas.prier.user.notification;
+
+public enum NotificationType {
+    RESPONSE,
+    COMMENT,
+    LIKE,
+    QUEST
+}
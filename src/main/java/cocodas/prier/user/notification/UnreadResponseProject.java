@@ -0,0 +1,20 @@
+package cocodas.prier.user.notification;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 마지막으로 읽은 뒤 새 응답이 달린 프로젝트. 같은 프로젝트에 응답이 여러 번 와도 응답 알림은 한 번만 셈
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "unread_response_project", indexes = @Index(name = "idx_unread_response_project_owner", columnList = "owner_id"))
+public class UnreadResponseProject {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+}
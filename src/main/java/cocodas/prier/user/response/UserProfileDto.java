@@ -0,0 +1,15 @@
+package cocodas.prier.user.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록 화면에서 작성자 표시용 프로필 (닉네임 + 프로필 이미지 URL)
+@Getter
+@AllArgsConstructor
+public class UserProfileDto {
+    private Long userId;
+    private String nickname;
+    private String metadata;
+    private String profileUrl;
+    private Integer balance;
+}
@@ -0,0 +1,195 @@
+package cocodas.prier.aws;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 로컬 S3 (LocalStack 컨테이너)에 실제로 올려서 단일/멀티파트 업로드, endpoint 설정, 실패 시 정리를 확인
+// Docker 가 없는 환경에서는 건너뜀
+@Testcontainers(disabledWithoutDocker = true)
+class AwsS3ServiceLocalStackTest {
+
+    private static final String BUCKET = "prier-test";
+    private static final int THRESHOLD_MB = 5;
+    private static final int THRESHOLD = THRESHOLD_MB * 1024 * 1024;
+
+    @Container
+    private static final LocalStackContainer localStack =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.5"))
+                    .withServices(LocalStackContainer.Service.S3);
+
+    // 결과 확인용 클라이언트
+    private static S3Client s3;
+
+    private AwsS3Service awsS3Service;
+    private S3UploadPipeline pipeline;
+
+    @BeforeAll
+    static void createBucket() {
+        s3 = S3Client.builder()
+                .endpointOverride(localStack.getEndpoint())
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey())))
+                .region(Region.of(localStack.getRegion()))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        s3.createBucket(b -> b.bucket(BUCKET));
+    }
+
+    @BeforeEach
+    void setUp() {
+        awsS3Service = new AwsS3Service();
+        ReflectionTestUtils.setField(awsS3Service, "accessKey", localStack.getAccessKey());
+        ReflectionTestUtils.setField(awsS3Service, "secretKey", localStack.getSecretKey());
+        ReflectionTestUtils.setField(awsS3Service, "region", localStack.getRegion());
+        ReflectionTestUtils.setField(awsS3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(awsS3Service, "endpoint", localStack.getEndpoint().toString());
+        ReflectionTestUtils.setField(awsS3Service, "multipartThresholdMb", THRESHOLD_MB);
+        ReflectionTestUtils.setField(awsS3Service, "presignedCacheTtlMinutes", 50L);
+        ReflectionTestUtils.setField(awsS3Service, "presignedCacheMaxSize", 100L);
+        awsS3Service.initializeAmazon();
+
+        pipeline = new S3UploadPipeline(awsS3Service);
+        ReflectionTestUtils.setField(pipeline, "uploadThreads", 2);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 10);
+        pipeline.initializeExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdownExecutor();
+        awsS3Service.close();
+        // 테스트마다 빈 버킷에서 시작
+        storedKeys().forEach(key -> s3.deleteObject(b -> b.bucket(BUCKET).key(key)));
+    }
+
+    @Test
+    void uploadsSmallFileWithSinglePut() throws IOException {
+        byte[] content = bytes(1024);
+
+        String key = awsS3Service.uploadStream(new ByteArrayInputStream(content), content.length, "image/png");
+
+        ResponseBytes<GetObjectResponse> stored = s3.getObjectAsBytes(b -> b.bucket(BUCKET).key(key));
+        assertThat(stored.asByteArray()).isEqualTo(content);
+        assertThat(stored.response().contentType()).isEqualTo("image/png");
+        // 멀티파트로 올린 객체만 ETag 끝에 "-파트 수" 가 붙음
+        assertThat(stored.response().eTag()).doesNotContain("-");
+    }
+
+    @Test
+    void uploadsFileOverThresholdInParts() throws IOException {
+        // 임계값의 두 배보다 조금 크면 파트 3개
+        byte[] content = bytes(2 * THRESHOLD + 1024);
+
+        String key = awsS3Service.uploadStream(new ByteArrayInputStream(content), content.length, "image/png");
+
+        ResponseBytes<GetObjectResponse> stored = s3.getObjectAsBytes(b -> b.bucket(BUCKET).key(key));
+        assertThat(stored.asByteArray()).isEqualTo(content);
+        assertThat(stored.response().eTag()).endsWith("-3\"");
+        assertThat(s3.listMultipartUploads(b -> b.bucket(BUCKET)).uploads()).isEmpty();
+    }
+
+    @Test
+    void presignsAgainstConfiguredEndpoint() throws Exception {
+        byte[] content = bytes(100);
+        String key = awsS3Service.uploadStream(new ByteArrayInputStream(content), content.length, "image/png");
+
+        // cloud.aws.s3.endpoint 를 지정하면 그 서버로 path-style URL 을 만듦
+        URI url = URI.create(awsS3Service.getPublicUrl(key));
+        assertThat(url.getHost()).isEqualTo(localStack.getEndpoint().getHost());
+        assertThat(url.getPort()).isEqualTo(localStack.getEndpoint().getPort());
+        assertThat(url.getPath()).isEqualTo("/" + BUCKET + "/" + key);
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(url).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(content);
+    }
+
+    @Test
+    void abortsMultipartUploadWhenStreamFails() {
+        // 첫 파트를 올린 뒤 스트림이 끊기는 경우
+        InputStream failing = new SequenceInputStream(new ByteArrayInputStream(bytes(THRESHOLD + 1024)), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("연결 끊김");
+            }
+        });
+
+        assertThatThrownBy(() -> awsS3Service.uploadStream(failing, 3L * THRESHOLD, "image/png"))
+                .isInstanceOf(IOException.class);
+
+        assertThat(s3.listMultipartUploads(b -> b.bucket(BUCKET)).uploads()).isEmpty();
+        assertThat(storedKeys()).isEmpty();
+    }
+
+    @Test
+    void deletesUploadedFilesWhenAnotherUploadFails() throws IOException {
+        MultipartFile broken = mock(MultipartFile.class);
+        when(broken.getInputStream()).thenThrow(new IOException("읽기 실패"));
+        when(broken.getOriginalFilename()).thenReturn("broken.png");
+
+        assertThatThrownBy(() -> pipeline.uploadThen(List.of(file("a.png"), broken, file("c.png")), keys -> keys))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(storedKeys()).isEmpty();
+    }
+
+    @Test
+    void deletesUploadedFilesWhenSaveFails() {
+        assertThatThrownBy(() -> pipeline.uploadThen(List.of(file("a.png"), file("b.png")), keys -> {
+            assertThat(storedKeys()).containsExactlyInAnyOrderElementsOf(keys);
+            throw new IllegalStateException("DB 저장 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(storedKeys()).isEmpty();
+    }
+
+    private static List<String> storedKeys() {
+        return s3.listObjectsV2(b -> b.bucket(BUCKET)).contents().stream()
+                .map(S3Object::key)
+                .toList();
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("file", name, "image/png", bytes(2048));
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
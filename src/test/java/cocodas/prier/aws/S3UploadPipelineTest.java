@@ -0,0 +1,125 @@
+package cocodas.prier.aws;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3UploadPipelineTest {
+
+    private AwsS3Service awsS3Service;
+    private S3UploadPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        awsS3Service = mock(AwsS3Service.class);
+        pipeline = new S3UploadPipeline(awsS3Service);
+        ReflectionTestUtils.setField(pipeline, "uploadThreads", 4);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 10);
+        pipeline.initializeExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdownExecutor();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void uploadsConcurrentlyAndKeepsFileOrder() throws IOException {
+        // 세 파일이 모두 업로드를 시작해야 풀려나므로, 순차 업로드라면 타임아웃으로 실패
+        CountDownLatch started = new CountDownLatch(3);
+        when(awsS3Service.uploadStream(any(), anyLong(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            return "key-" + read(invocation.getArgument(0));
+        });
+
+        List<String> keys = pipeline.uploadThen(List.of(file("a"), file("b"), file("c")), uploaded -> uploaded);
+
+        assertThat(keys).containsExactly("key-a", "key-b", "key-c");
+    }
+
+    @Test
+    void deletesUploadedKeysWhenAnyUploadFails() throws IOException {
+        when(awsS3Service.uploadStream(any(), anyLong(), anyString())).thenAnswer(invocation -> {
+            String name = read(invocation.getArgument(0));
+            if (name.equals("b")) {
+                throw new IllegalStateException("S3 오류");
+            }
+            return "key-" + name;
+        });
+
+        AtomicBoolean saved = new AtomicBoolean();
+
+        assertThatThrownBy(() -> pipeline.uploadThen(List.of(file("a"), file("b"), file("c")), keys -> saved.getAndSet(true)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(saved).isFalse();
+        verify(awsS3Service).deleteFile("key-a");
+        verify(awsS3Service).deleteFile("key-c");
+    }
+
+    @Test
+    void deletesUploadedKeysWhenSaveFails() throws IOException {
+        when(awsS3Service.uploadStream(any(), anyLong(), anyString()))
+                .thenAnswer(invocation -> "key-" + read(invocation.getArgument(0)));
+
+        assertThatThrownBy(() -> pipeline.uploadThen(List.of(file("a"), file("b")), keys -> {
+            throw new IllegalArgumentException("저장 실패");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        verify(awsS3Service).deleteFile("key-a");
+        verify(awsS3Service).deleteFile("key-b");
+    }
+
+    @Test
+    void keepsUploadedKeysWhenSaveSucceeds() throws IOException {
+        when(awsS3Service.uploadStream(any(), anyLong(), anyString()))
+                .thenAnswer(invocation -> "key-" + read(invocation.getArgument(0)));
+
+        pipeline.uploadThen(List.of(file("a")), keys -> keys);
+
+        verify(awsS3Service, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void refusesToUploadInsideTransaction() throws IOException {
+        // 업로드 동안 DB 커넥션을 잡고 있게 되므로 트랜잭션 안에서는 업로드하지 않음
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThatThrownBy(() -> pipeline.uploadThen(List.of(file("a")), keys -> keys))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(awsS3Service, never()).uploadStream(any(), anyLong(), anyString());
+    }
+
+    private static MultipartFile file(String content) {
+        return new MockMultipartFile("file", content + ".png", "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
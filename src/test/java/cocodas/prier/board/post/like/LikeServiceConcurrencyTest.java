@@ -0,0 +1,141 @@
+package cocodas.prier.board.post.like;
+
+import cocodas.prier.board.post.post.Category;
+import cocodas.prier.board.post.post.Post;
+import cocodas.prier.board.post.post.PostRepository;
+import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.Users;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서비스 트랜잭션이 각 스레드에서 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(LikeService.class)
+class LikeServiceConcurrencyTest {
+
+    private static final int USER_COUNT = 20;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long postId;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Users writer = userRepository.save(Users.builder().email("writer@prier.io").nickname("writer").build());
+            postId = postRepository.save(Post.builder()
+                    .title("post")
+                    .content("content")
+                    .category(Category.TECH)
+                    .users(writer)
+                    .createdAt(LocalDateTime.now())
+                    .build()).getPostId();
+
+            userIds = new ArrayList<>();
+            for (int i = 0; i < USER_COUNT; i++) {
+                userIds.add(userRepository.save(Users.builder().email(i + "@prier.io").nickname("user" + i).build()).getUserId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentLikesAndUnlikesKeepCountInSync() throws Exception {
+        runConcurrently(userIds.stream().map(userId -> (Runnable) () -> likeService.pushLike(userId, postId)).toList());
+        assertThat(likeCount()).isEqualTo(USER_COUNT);
+        assertThat(likeRepository.count()).isEqualTo(USER_COUNT);
+
+        // 절반만 동시에 취소
+        runConcurrently(userIds.subList(0, USER_COUNT / 2).stream()
+                .map(userId -> (Runnable) () -> likeService.pushLike(userId, postId)).toList());
+        assertThat(likeCount()).isEqualTo(USER_COUNT / 2);
+        assertThat(likeRepository.count()).isEqualTo(USER_COUNT / 2);
+    }
+
+    @Test
+    void doubleClickByOneUserNeverDriftsCount() throws Exception {
+        Long userId = userIds.get(0);
+        List<Runnable> clicks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            clicks.add(() -> likeService.pushLike(userId, postId));
+        }
+
+        // 동시에 누른 요청 중 일부는 유니크 제약 위반으로 롤백될 수 있지만, 좋아요 수는 행 수와 항상 같아야 함
+        runConcurrently(clicks);
+
+        long rows = likeRepository.count();
+        assertThat(rows).isBetween(0L, 1L);
+        assertThat(likeCount()).isEqualTo((int) rows);
+    }
+
+    private int likeCount() {
+        return postRepository.findById(postId).orElseThrow().getLikeCount();
+    }
+
+    private void runConcurrently(List<Runnable> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        // 같은 유저의 동시 INSERT 충돌은 롤백으로 끝나는 것이 정상
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
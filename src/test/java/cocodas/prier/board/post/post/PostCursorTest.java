@@ -0,0 +1,43 @@
+package cocodas.prier.board.post.post;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void roundTripsCreatedAtAndPostId() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 7, 1, 12, 30, 15);
+
+        PostCursor cursor = PostCursor.decode(PostCursor.encode(post(createdAt, 42L)));
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getPostId()).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTripsMissingCreatedAt() {
+        PostCursor cursor = PostCursor.decode(PostCursor.encode(post(null, 7L)));
+
+        assertThat(cursor.getCreatedAt()).isNull();
+        assertThat(cursor.getPostId()).isEqualTo(7L);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> PostCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Post post(LocalDateTime createdAt, Long postId) {
+        Post post = new Post();
+        ReflectionTestUtils.setField(post, "createdAt", createdAt);
+        ReflectionTestUtils.setField(post, "postId", postId);
+        return post;
+    }
+}
@@ -0,0 +1,55 @@
+package cocodas.prier.board.post.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostViewCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PostViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        counter = new PostViewCounter(jdbcTemplate);
+    }
+
+    @Test
+    void removesEntriesOnceFlushed() {
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        counter.flush();
+
+        assertThat(pendingViews()).isEmpty();
+        assertThat(counter.getPendingViews(1L)).isZero();
+    }
+
+    @Test
+    void keepsCountsWhenFlushFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new IllegalStateException("DB 오류"));
+        counter.increment(1L);
+        counter.increment(1L);
+
+        counter.flush();
+
+        assertThat(counter.getPendingViews(1L)).isEqualTo(2);
+        assertThat(pendingViews()).containsOnlyKeys(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> pendingViews() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(counter, "pendingViews");
+    }
+}
@@ -0,0 +1,129 @@
+package cocodas.prier.board.post.postmedia;
+
+import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.board.post.post.Category;
+import cocodas.prier.board.post.post.Post;
+import cocodas.prier.board.post.post.response.PostMediaDto;
+import cocodas.prier.project.media.MediaType;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 게시글 목록 한 페이지의 미디어를 게시글 수와 상관없이 쿼리 한 번, URL 서명 호출 한 번으로 가져오는지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostMediaService.class)
+class PostMediaServiceTest {
+
+    @Autowired
+    private PostMediaService postMediaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() {
+        given(awsS3Service.getPublicUrls(anyCollection())).willAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().distinct().collect(Collectors.toMap(key -> key, key -> "https://s3/" + key));
+        });
+    }
+
+    @Test
+    void loadsPageMediaWithOneQuery() {
+        Users writer = TestFixtures.user(entityManager, "writer");
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Post post = savePost(writer, "post " + i);
+            postIds.add(post.getPostId());
+            // 마지막 게시글은 미디어 없음
+            if (i < 4) {
+                saveMedia(post, "post" + i + "-a");
+                saveMedia(post, "post" + i + "-b");
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Map<Long, List<PostMediaDto>> media = postMediaService.getPostMediaDetails(postIds);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        verify(awsS3Service, times(1)).getPublicUrls(anyCollection());
+        verify(awsS3Service, never()).getPublicUrl(anyString());
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(media.get(postIds.get(i)))
+                    .extracting(PostMediaDto::getS3Key, PostMediaDto::getS3Url)
+                    .containsExactly(
+                            tuple("post" + i + "-a", "https://s3/post" + i + "-a"),
+                            tuple("post" + i + "-b", "https://s3/post" + i + "-b"));
+        }
+        assertThat(media).doesNotContainKey(postIds.get(4));
+    }
+
+    @Test
+    void emptyPageRunsNoQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(postMediaService.getPostMediaDetails(List.of())).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        verify(awsS3Service, never()).getPublicUrls(anyCollection());
+    }
+
+    private Post savePost(Users writer, String title) {
+        Post post = Post.builder()
+                .title(title)
+                .content("content")
+                .category(Category.TECH)
+                .users(writer)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private void saveMedia(Post post, String s3Key) {
+        entityManager.persist(PostMedia.builder()
+                .metadata(s3Key + ".png")
+                .s3Key(s3Key)
+                .mediaType(MediaType.IMAGE)
+                .post(post)
+                .build());
+    }
+}
@@ -0,0 +1,155 @@
+package cocodas.prier.board.post.search;
+
+import cocodas.prier.board.post.post.Category;
+import cocodas.prier.board.post.post.Post;
+import cocodas.prier.statics.keywordAi.KomoranAnalyzer;
+import cocodas.prier.user.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// 검색 결과를 커서로 끝까지 넘겨 볼 때 집계 쿼리가 몇 번 실행되는지,
+// 캐시에서 잘라낸 결과가 SQL 로 한 번에 정렬한 결과와 같은지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostSearchService.class)
+class PostSearchServiceTest {
+
+    private static final int POST_COUNT = 120;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PostSearchService postSearchService;
+
+    @Autowired
+    private PostSearchTermRepository postSearchTermRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private KomoranAnalyzer komoranAnalyzer;
+
+    private Long writerId;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 데이터이므로 순위 캐시를 비우고 설정값도 되돌림
+        ReflectionTestUtils.setField(postSearchService, "rankingSize", 500);
+        postSearchService.initializeCache();
+        when(komoranAnalyzer.extractSearchTerms(anyString())).thenReturn(List.of("spring", "jpa"));
+
+        Users writer = Users.builder().email("writer@prier.io").nickname("writer").build();
+        entityManager.persist(writer);
+        writerId = writer.getUserId();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = savePost("post " + i, "content");
+            // 점수가 겹치는 게시글이 많도록 가중치를 몇 가지로만 둠
+            entityManager.persist(PostSearchTerm.builder().post(post).term("spring").weight(i % 4 + 1).build());
+            if (i % 3 == 0) {
+                entityManager.persist(PostSearchTerm.builder().post(post).term("jpa").weight(i % 2 + 1).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesThroughCachedRankingWithOneAggregation() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Long> paged = pageThrough();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(paged).containsExactlyElementsOf(rankedInSql());
+    }
+
+    @Test
+    void continuesWithCursorQueryPastCachedRanking() {
+        // 캐시된 순위보다 뒤 페이지는 커서 쿼리로 이어서 조회
+        ReflectionTestUtils.setField(postSearchService, "rankingSize", 25);
+
+        List<Long> paged = pageThrough();
+
+        assertThat(paged).containsExactlyElementsOf(rankedInSql());
+    }
+
+    @Test
+    void writesEvictOnlyRankingsSharingATerm() {
+        postSearchService.search("spring jpa", null, null, PAGE_SIZE);
+
+        // 검색어가 겹치지 않는 글은 캐시된 순위를 건드리지 않음
+        when(komoranAnalyzer.extractSearchTerms("kotlin")).thenReturn(List.of("kotlin"));
+        postSearchService.index(savePost("kotlin", "kotlin"));
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        postSearchService.search("spring jpa", null, null, PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 겹치는 글은 순위를 다시 집계해서 바로 보임
+        Post related = savePost("spring", "spring");
+        postSearchService.index(related);
+        entityManager.flush();
+
+        List<Long> postIds = postSearchService.search("spring jpa", null, null, POST_COUNT + 1).stream()
+                .map(PostSearchHit::getPostId)
+                .toList();
+        assertThat(postIds).contains(related.getPostId());
+    }
+
+    private Post savePost(String title, String content) {
+        Post post = Post.builder()
+                .title(title)
+                .content(content)
+                .category(Category.TECH)
+                .users(entityManager.getReference(Users.class, writerId))
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(post);
+        return post;
+    }
+
+    private List<Long> pageThrough() {
+        List<Long> postIds = new ArrayList<>();
+        String cursor = null;
+        while (true) {
+            List<PostSearchHit> hits = postSearchService.search("spring jpa", null, cursor, PAGE_SIZE);
+            hits.forEach(hit -> postIds.add(hit.getPostId()));
+            if (hits.size() < PAGE_SIZE) {
+                return postIds;
+            }
+            cursor = PostSearchCursor.encode(hits.get(hits.size() - 1));
+        }
+    }
+
+    private List<Long> rankedInSql() {
+        return postSearchTermRepository.searchFirst(Set.of("spring", "jpa"), null, PageRequest.of(0, POST_COUNT)).stream()
+                .map(PostSearchHit::getPostId)
+                .toList();
+    }
+}
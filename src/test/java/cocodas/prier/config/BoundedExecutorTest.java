@@ -0,0 +1,82 @@
+package cocodas.prier.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 스레드를 요청마다 만드는 실행기(가상 스레드 경로)와 스레드 풀 모두
+// 한도가 차면 호출한 스레드를 막지 않고 바로 거절하는지 확인
+class BoundedExecutorTest {
+
+    private static final int CONCURRENCY = 2;
+
+    @Test
+    void rejectsImmediatelyWhenThreadPerTaskExecutorIsFull() throws Exception {
+        assertRejectsWhenFull(new BoundedExecutor(new SimpleAsyncTaskExecutor("test-"), CONCURRENCY));
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolIsFull() throws Exception {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(CONCURRENCY);
+        pool.setMaxPoolSize(CONCURRENCY);
+        pool.setQueueCapacity(CONCURRENCY);
+        pool.initialize();
+        try {
+            assertRejectsWhenFull(new BoundedExecutor(pool, CONCURRENCY));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void assertRejectsWhenFull(Executor executor) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.countDown();
+            });
+        }
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500);
+
+        // 실행 중인 작업이 끝나면 다시 받음
+        release.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        CountDownLatch ran = new CountDownLatch(1);
+        awaitPermit(executor, ran::countDown);
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // 작업이 끝난 직후 세마포어 반환까지 잠깐 틈이 있으므로 자리가 날 때까지 재시도
+    private void awaitPermit(Executor executor, Runnable task) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (TaskRejectedException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
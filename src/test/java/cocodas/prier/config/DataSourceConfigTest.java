@@ -0,0 +1,40 @@
+package cocodas.prier.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceConfigTest {
+
+    @Test
+    void enablesBatchRewriteForMysql() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:3306/prier");
+
+        DataSourceConfig.enableBatchRewrite(dataSource);
+
+        assertThat(dataSource.getDataSourceProperties())
+                .containsEntry(DataSourceConfig.REWRITE_BATCHED_STATEMENTS, "true");
+    }
+
+    @Test
+    void keepsValueGivenInUrl() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:3306/prier?rewriteBatchedStatements=false");
+
+        DataSourceConfig.enableBatchRewrite(dataSource);
+
+        assertThat(dataSource.getDataSourceProperties()).doesNotContainKey(DataSourceConfig.REWRITE_BATCHED_STATEMENTS);
+    }
+
+    @Test
+    void leavesOtherDatabasesAlone() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:prier;MODE=MySQL");
+
+        DataSourceConfig.enableBatchRewrite(dataSource);
+
+        assertThat(dataSource.getDataSourceProperties()).isEmpty();
+    }
+}
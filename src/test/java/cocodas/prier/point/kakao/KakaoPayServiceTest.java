@@ -0,0 +1,167 @@
+package cocodas.prier.point.kakao;
+
+import cocodas.prier.point.kakao.request.MakePayRequest;
+import cocodas.prier.point.kakao.response.Amount;
+import cocodas.prier.point.kakao.response.CancelAvailableAmount;
+import cocodas.prier.point.kakao.response.CanceledAmount;
+import cocodas.prier.point.kakao.response.KakaoCancelResponse;
+import cocodas.prier.point.kakao.response.KakaoOrderResponse;
+import cocodas.prier.point.kakao.response.PayApproveResDto;
+import cocodas.prier.user.Users;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KakaoPayServiceTest {
+
+    private static final String TID = "T1234";
+    private static final String ORDER_ID = "point-1-abc";
+
+    private KakaoPayClient kakaoPayClient;
+    private KakaoPayLedger kakaoPayLedger;
+    private KakaoPayService kakaoPayService;
+
+    @BeforeEach
+    void setUp() {
+        kakaoPayClient = mock(KakaoPayClient.class);
+        kakaoPayLedger = mock(KakaoPayLedger.class);
+        kakaoPayService = new KakaoPayService(new MakePayRequest(), kakaoPayClient, kakaoPayLedger);
+        ReflectionTestUtils.setField(kakaoPayService, "cid", "TC0ONETIME");
+    }
+
+    @Test
+    void compensatesRefundOnlyWhenKakaoRejectsIt() {
+        when(kakaoPayClient.post(any(), eq(KakaoCancelResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad request", null, null, null));
+
+        assertThatThrownBy(() -> kakaoPayService.kakaoCancel(TID, 5000, 0, 1L))
+                .isInstanceOf(HttpClientErrorException.class);
+
+        verify(kakaoPayLedger).reserveRefund(eq(1L), eq(TID), eq(5000), anyString());
+        verify(kakaoPayLedger).compensateRefund(eq(1L), eq(TID), eq(5000), anyString());
+    }
+
+    @Test
+    void leavesRefundCancelingWhenOutcomeIsUnknown() {
+        when(kakaoPayClient.post(any(), eq(KakaoCancelResponse.class)))
+                .thenThrow(new ResourceAccessException("read timed out"))
+                .thenThrow(HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "bad gateway", null, null, null));
+
+        assertThatThrownBy(() -> kakaoPayService.kakaoCancel(TID, 5000, 0, 1L))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThatThrownBy(() -> kakaoPayService.kakaoCancel(TID, 5000, 0, 1L))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        verify(kakaoPayLedger, never()).compensateRefund(any(), any(), anyInt(), any());
+        verify(kakaoPayLedger, never()).confirmRefund(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void confirmsPartialRefundWithRemainingAmount() {
+        KakaoCancelResponse response = new KakaoCancelResponse();
+        response.setCancel_available_amount(cancelAvailable(5000));
+        when(kakaoPayClient.post(any(), eq(KakaoCancelResponse.class))).thenReturn(response);
+
+        kakaoPayService.kakaoCancel(TID, 5000, 0, 1L);
+
+        verify(kakaoPayLedger).confirmRefund(eq(TID), eq(5000), eq(5000), anyString());
+    }
+
+    @Test
+    void keepsApprovalRetryableOnTimeout() {
+        when(kakaoPayLedger.startApproval(ORDER_ID)).thenReturn(payment(KakaoPayStatus.APPROVING));
+        when(kakaoPayClient.post(any(), eq(PayApproveResDto.class)))
+                .thenThrow(new ResourceAccessException("read timed out"));
+
+        assertThatThrownBy(() -> kakaoPayService.getApprove("pg", ORDER_ID))
+                .isInstanceOf(ResourceAccessException.class);
+
+        verify(kakaoPayLedger, never()).fail(any());
+    }
+
+    @Test
+    void reconcilesStuckApprovalFromOrderStatus() {
+        KakaoPay approved = payment(KakaoPayStatus.APPROVING);
+        when(kakaoPayLedger.findStuck(any())).thenReturn(List.of(approved));
+        when(kakaoPayClient.post(any(), eq(KakaoOrderResponse.class))).thenReturn(order("SUCCESS_PAYMENT", 10000, 0, 10000));
+
+        assertThat(kakaoPayService.reconcileStuckPayments(LocalDateTime.now())).isEqualTo(1);
+        verify(kakaoPayLedger).confirmApproval(ORDER_ID, 1000);
+
+        when(kakaoPayClient.post(any(), eq(KakaoOrderResponse.class))).thenReturn(order("OPEN_PAYMENT", 10000, 0, 10000));
+        kakaoPayService.reconcileStuckPayments(LocalDateTime.now());
+        verify(kakaoPayLedger).reopenApproval(ORDER_ID);
+    }
+
+    @Test
+    void reconcilesStuckRefundFromCanceledAmount() {
+        KakaoPay canceling = payment(KakaoPayStatus.CANCELING);
+        ReflectionTestUtils.setField(canceling, "refundCancelAmount", 4000);
+        ReflectionTestUtils.setField(canceling, "refundAttemptKey", "attempt");
+        when(kakaoPayLedger.findStuck(any())).thenReturn(List.of(canceling));
+
+        // 카카오페이에 환불이 반영됨 → 확정
+        when(kakaoPayClient.post(any(), eq(KakaoOrderResponse.class)))
+                .thenReturn(order("PART_CANCEL_PAYMENT", 10000, 4000, 6000));
+        kakaoPayService.reconcileStuckPayments(LocalDateTime.now());
+        verify(kakaoPayLedger).confirmRefund(TID, 4000, 6000, "attempt");
+
+        // 환불되지 않음 → 차감한 포인트 복구
+        when(kakaoPayClient.post(any(), eq(KakaoOrderResponse.class)))
+                .thenReturn(order("SUCCESS_PAYMENT", 10000, 0, 10000));
+        kakaoPayService.reconcileStuckPayments(LocalDateTime.now());
+        verify(kakaoPayLedger).compensateRefund(1L, TID, 4000, "attempt");
+    }
+
+    private static KakaoPay payment(KakaoPayStatus status) {
+        Users users = Users.builder().email("pay@test.com").nickname("pay").build();
+        ReflectionTestUtils.setField(users, "userId", 1L);
+        KakaoPay kakaoPay = KakaoPay.builder()
+                .tid(TID)
+                .partnerOrderId(ORDER_ID)
+                .status(status)
+                .users(users)
+                .build();
+        ReflectionTestUtils.setField(kakaoPay, "KakaoPayId", 1L);
+        return kakaoPay;
+    }
+
+    private static KakaoOrderResponse order(String status, int total, int canceled, int available) {
+        Amount amount = new Amount();
+        ReflectionTestUtils.setField(amount, "total", total);
+        CanceledAmount canceledAmount = new CanceledAmount();
+        canceledAmount.setTotal(canceled);
+
+        KakaoOrderResponse order = new KakaoOrderResponse();
+        order.setTid(TID);
+        order.setStatus(status);
+        order.setAmount(amount);
+        order.setCanceled_amount(canceledAmount);
+        order.setCancel_available_amount(cancelAvailable(available));
+        return order;
+    }
+
+    private static CancelAvailableAmount cancelAvailable(int total) {
+        CancelAvailableAmount amount = new CancelAvailableAmount();
+        amount.setTotal(total);
+        return amount;
+    }
+}
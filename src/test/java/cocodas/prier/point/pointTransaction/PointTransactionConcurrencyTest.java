@@ -0,0 +1,153 @@
+package cocodas.prier.point.pointTransaction;
+
+import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.user.CurrentUserContext;
+import cocodas.prier.user.UserProfileService;
+import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.Users;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 충전/차감과 프로필 수정(Users 엔티티 전체 flush)이 동시에 일어나도 잔액이 맞는지 확인
+// 각 작업이 자기 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PointTransactionService.class, CurrentUserContext.class, UserProfileService.class})
+class PointTransactionConcurrencyTest {
+
+    private static final int INITIAL_BALANCE = 1000;
+    private static final int ROUNDS = 50;
+    private static final int CHARGE = 10;
+    private static final int DEDUCT = 7;
+
+    @Autowired
+    private PointTransactionService pointTransactionService;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private PointMonthlySummaryRepository pointMonthlySummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private AwsS3Service awsS3Service;
+
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        user = transaction.execute(status -> {
+            Users saved = userRepository.save(Users.builder().email("user@prier.io").nickname("user").build());
+            userRepository.addBalance(saved.getUserId(), INITIAL_BALANCE);
+            return saved;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointTransactionRepository.deleteAllInBatch();
+        pointMonthlySummaryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void balanceSurvivesConcurrentChargesDeductionsAndProfileEdits() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            tasks.add(() -> pointTransactionService.increasePoints(user, CHARGE, TransactionType.POINT_CHARGE, null, null));
+            tasks.add(() -> pointTransactionService.decreasePoints(user, DEDUCT, TransactionType.PRODUCT_PURCHASE, null, null));
+            // 프로필 수정: 엔티티를 읽어 둔 채 다른 필드를 바꾸고 커밋
+            String nickname = "user" + i;
+            tasks.add(() -> transaction.execute(status -> {
+                Users loaded = userRepository.findById(user.getUserId()).orElseThrow();
+                loaded.updateNickName(nickname);
+                return null;
+            }));
+        }
+        Collections.shuffle(tasks);
+
+        runConcurrently(tasks);
+
+        int expected = INITIAL_BALANCE + ROUNDS * CHARGE - ROUNDS * DEDUCT;
+        assertThat(pointTransactionService.getCurrentPoints(user.getUserId())).isEqualTo(expected);
+        assertThat(pointTransactionRepository.count()).isEqualTo(ROUNDS * 2L);
+    }
+
+    @Test
+    void concurrentDeductionsNeverOverdraw() throws Exception {
+        // 잔액으로는 100번만 차감 가능한데 150번을 동시에 요청
+        int attempts = INITIAL_BALANCE / 10 + ROUNDS;
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            tasks.add(() -> pointTransactionService.decreasePoints(user, 10, TransactionType.PRODUCT_PURCHASE, null, null));
+        }
+
+        int failures = runConcurrently(tasks);
+
+        assertThat(pointTransactionService.getCurrentPoints(user.getUserId())).isZero();
+        assertThat(failures).isEqualTo(ROUNDS);
+        assertThat(pointTransactionRepository.count()).isEqualTo(INITIAL_BALANCE / 10);
+    }
+
+    // 실패한 작업 수
+    private int runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        task.call();
+                        return true;
+                    } catch (IllegalArgumentException e) {
+                        return false;   // 잔액 부족
+                    }
+                }));
+            }
+            start.countDown();
+
+            int failures = 0;
+            for (Future<Boolean> future : futures) {
+                if (!future.get(60, TimeUnit.SECONDS)) {
+                    failures++;
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
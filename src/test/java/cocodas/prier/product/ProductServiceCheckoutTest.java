@@ -0,0 +1,167 @@
+package cocodas.prier.product;
+
+import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.aws.S3UploadPipeline;
+import cocodas.prier.orders.orderproduct.OrderProductJdbcRepository;
+import cocodas.prier.orders.orderproduct.OrderProductRepository;
+import cocodas.prier.orders.orders.OrderService;
+import cocodas.prier.orders.orders.OrdersRepository;
+import cocodas.prier.point.pointTransaction.PointMonthlySummaryRepository;
+import cocodas.prier.point.pointTransaction.PointTransactionRepository;
+import cocodas.prier.point.pointTransaction.PointTransactionService;
+import cocodas.prier.product.dto.CheckoutItemDto;
+import cocodas.prier.product.dto.CheckoutRequestDto;
+import cocodas.prier.product.dto.CheckoutResponseDto;
+import cocodas.prier.product.inventory.InventoryReservation;
+import cocodas.prier.user.CurrentUserContext;
+import cocodas.prier.user.UserProfileService;
+import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.Users;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 장바구니 결제가 재고나 포인트 중 하나라도 부족하면 재고 차감, 주문, 포인트 거래, 주문 상품 배치 INSERT 가 모두 롤백되는지 확인
+// 결제 트랜잭션이 실제로 커밋/롤백되어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductService.class, OrderService.class, OrderProductJdbcRepository.class, InventoryReservation.class,
+        PointTransactionService.class, CurrentUserContext.class, UserProfileService.class})
+@TestPropertySource(properties = {"cloud.aws.region.static=ap-northeast-2", "cloud.aws.s3.bucket=prier"})
+class ProductServiceCheckoutTest {
+
+    private static final int BALANCE = 1000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrdersRepository ordersRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private PointTransactionService pointTransactionService;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private PointMonthlySummaryRepository pointMonthlySummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private AwsS3Service awsS3Service;
+
+    @MockBean
+    private S3UploadPipeline s3UploadPipeline;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = new TransactionTemplate(transactionManager).execute(status -> {
+            Users user = userRepository.save(Users.builder().email("buyer@prier.io").nickname("buyer").build());
+            userRepository.addBalance(user.getUserId(), BALANCE);
+            return user.getUserId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        pointTransactionRepository.deleteAllInBatch();
+        pointMonthlySummaryRepository.deleteAllInBatch();
+        ordersRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void savesEveryLineWhenStockAndBalanceSuffice() {
+        Long first = product(100, 5);
+        Long second = product(200, 5);
+
+        CheckoutResponseDto response = productService.checkout(userId, request(first, 2, second, 1), null);
+
+        assertThat(response.getTotalPrice()).isEqualTo(400);
+        assertThat(response.getBalance()).isEqualTo(BALANCE - 400);
+        assertThat(productRepository.findStockById(first)).isEqualTo(3);
+        assertThat(productRepository.findStockById(second)).isEqualTo(4);
+        assertThat(ordersRepository.count()).isEqualTo(1);
+        assertThat(orderProductRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void rollsBackEverythingWhenOneLineIsOutOfStock() {
+        // 첫 상품은 재고가 차감된 뒤 두 번째 상품에서 실패
+        Long first = product(100, 5);
+        Long second = product(100, 1);
+
+        assertThatThrownBy(() -> productService.checkout(userId, request(first, 2, second, 2), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertNothingChanged(first, 5, second, 1);
+    }
+
+    @Test
+    void rollsBackEverythingWhenBalanceIsShort() {
+        // 재고 차감과 주문 생성 뒤 포인트 차감에서 실패
+        Long first = product(600, 5);
+        Long second = product(500, 5);
+
+        assertThatThrownBy(() -> productService.checkout(userId, request(first, 1, second, 1), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertNothingChanged(first, 5, second, 5);
+    }
+
+    private void assertNothingChanged(Long first, int firstStock, Long second, int secondStock) {
+        assertThat(productRepository.findStockById(first)).isEqualTo(firstStock);
+        assertThat(productRepository.findStockById(second)).isEqualTo(secondStock);
+        assertThat(pointTransactionService.getCurrentPoints(userId)).isEqualTo(BALANCE);
+        assertThat(ordersRepository.count()).isZero();
+        assertThat(orderProductRepository.count()).isZero();
+        assertThat(pointTransactionRepository.count()).isZero();
+    }
+
+    private Long product(int price, int stock) {
+        return productRepository.save(Product.builder()
+                .productName("product")
+                .price(price)
+                .description("description")
+                .stock(stock)
+                .build()).getProductId();
+    }
+
+    private CheckoutRequestDto request(Long first, int firstQuantity, Long second, int secondQuantity) {
+        return new CheckoutRequestDto(List.of(
+                new CheckoutItemDto(first, firstQuantity),
+                new CheckoutItemDto(second, secondQuantity)));
+    }
+}
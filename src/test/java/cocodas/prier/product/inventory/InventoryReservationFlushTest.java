@@ -0,0 +1,71 @@
+package cocodas.prier.product.inventory;
+
+import cocodas.prier.product.Product;
+import cocodas.prier.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관리자 재고 수정 트랜잭션 안에서 evict 로 반영한 판매량이, 그 트랜잭션이 롤백돼도 DB 에 남는지 확인
+// 반영 트랜잭션이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(InventoryReservation.class)
+@TestPropertySource(properties = "product.inventory.in-memory=true")
+class InventoryReservationFlushTest {
+
+    @Autowired
+    private InventoryReservation inventoryReservation;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .productName("product")
+                .price(100)
+                .description("description")
+                .stock(10)
+                .build()).getProductId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void salesFlushedByEvictSurviveCallerRollback() {
+        // 트랜잭션 밖 예약은 바로 판매량으로 쌓임
+        inventoryReservation.reserve(productId, 3);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            inventoryReservation.evict(productId);
+            status.setRollbackOnly();
+        });
+
+        assertThat(productRepository.findStockById(productId)).isEqualTo(7);
+
+        // 이미 반영된 판매량은 다시 빠지지 않음
+        inventoryReservation.flush();
+        assertThat(productRepository.findStockById(productId)).isEqualTo(7);
+    }
+}
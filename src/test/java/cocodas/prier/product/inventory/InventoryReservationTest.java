@@ -0,0 +1,192 @@
+package cocodas.prier.product.inventory;
+
+import cocodas.prier.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 메모리 재고 모드의 초과 판매 검사
+// DB 재고는 AtomicInteger 로 흉내 내고, 예약과 동시에 반영(flush)과 카운터 재생성(evict)을 계속 일으킴
+class InventoryReservationTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final int STOCK = 500;
+
+    private final AtomicInteger dbStock = new AtomicInteger(STOCK);
+    // 반영 트랜잭션에서 차감했지만 아직 커밋되지 않은 수량
+    private final AtomicInteger uncommitted = new AtomicInteger();
+    private final AtomicBoolean failCommit = new AtomicBoolean();
+    private InventoryReservation inventoryReservation;
+
+    @BeforeEach
+    void setUp() {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findStockById(anyLong())).thenAnswer(invocation -> dbStock.get());
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(row -> uncommitted.addAndGet(((Long) row[0]).intValue()));
+            return new int[batch.size()];
+        });
+
+        // 커밋되어야 DB 재고가 줄어듦
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        doAnswer(invocation -> {
+            int flushed = uncommitted.getAndSet(0);
+            if (failCommit.get()) {
+                throw new TransactionSystemException("커밋 실패");
+            }
+            dbStock.addAndGet(-flushed);
+            return null;
+        }).when(transactionManager).commit(any());
+        doAnswer(invocation -> {
+            uncommitted.set(0);
+            return null;
+        }).when(transactionManager).rollback(any());
+
+        inventoryReservation = new InventoryReservation(productRepository, jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(inventoryReservation, "inMemory", true);
+        ReflectionTestUtils.setField(inventoryReservation, "shardCount", 8);
+        inventoryReservation.initializeFlushTransaction();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void neverOversellsWhileFlushingAndRewarming() throws Exception {
+        AtomicInteger sold = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            // 반영과 카운터 재생성을 계속 반복
+            Future<?> churn = executor.submit(() -> {
+                start.await();
+                int round = 0;
+                while (running.get()) {
+                    if (round++ % 3 == 0) {
+                        inventoryReservation.evict(PRODUCT_ID);
+                    } else {
+                        inventoryReservation.flush();
+                    }
+                    Thread.onSpinWait();
+                }
+                return null;
+            });
+
+            List<Future<?>> buyers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                buyers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < STOCK; j++) {
+                        try {
+                            inventoryReservation.reserve(PRODUCT_ID, 1 + j % 2);
+                            sold.addAndGet(1 + j % 2);
+                        } catch (IllegalArgumentException e) {
+                            // 재고 부족
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> buyer : buyers) {
+                buyer.get(60, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            churn.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        inventoryReservation.flush();
+        assertThat(sold.get()).isLessThanOrEqualTo(STOCK);
+        assertThat(dbStock.get()).isEqualTo(STOCK - sold.get()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void sellsExactlyTheStockWithoutChurn() {
+        int sold = 0;
+        for (int i = 0; i < STOCK + 10; i++) {
+            try {
+                inventoryReservation.reserve(PRODUCT_ID, 1);
+                sold++;
+            } catch (IllegalArgumentException e) {
+                // 재고 부족
+            }
+        }
+        inventoryReservation.flush();
+
+        assertThat(sold).isEqualTo(STOCK);
+        assertThat(dbStock.get()).isZero();
+    }
+
+    @Test
+    void keepsSalesWhenFlushDoesNotCommit() {
+        inventoryReservation.reserve(PRODUCT_ID, 10);
+
+        failCommit.set(true);
+        inventoryReservation.flush();
+        assertThat(dbStock.get()).isEqualTo(STOCK);
+
+        // 커밋되지 않은 판매량은 다음 반영 때 다시 시도
+        failCommit.set(false);
+        inventoryReservation.flush();
+        assertThat(dbStock.get()).isEqualTo(STOCK - 10);
+    }
+
+    @Test
+    void rollbackReturnsStockAndRewarmDoesNotCountIt() {
+        TransactionSynchronizationManager.initSynchronization();
+        inventoryReservation.reserve(PRODUCT_ID, STOCK);
+        assertThatThrownBy(() -> inventoryReservation.reserve(PRODUCT_ID, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 커밋 전 예약량은 카운터를 다시 채울 때도 빠짐
+        inventoryReservation.evict(PRODUCT_ID);
+        assertThatThrownBy(() -> inventoryReservation.reserve(PRODUCT_ID, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        inventoryReservation.evict(PRODUCT_ID);
+        inventoryReservation.reserve(PRODUCT_ID, STOCK);
+        inventoryReservation.flush();
+        assertThat(dbStock.get()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package cocodas.prier.project.feedback.question;
+
+import cocodas.prier.project.project.Project;
+import cocodas.prier.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QuestionRepositoryTest {
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void incrementResponseVersionOnlyTouchesGivenQuestions() {
+        Project project = saveProject();
+        Question first = saveQuestion(project, 0);
+        Question second = saveQuestion(project, 1);
+
+        questionRepository.incrementResponseVersion(List.of(first.getQuestionId()));
+        questionRepository.incrementResponseVersion(List.of(first.getQuestionId(), second.getQuestionId()));
+
+        assertThat(reload(first).getResponseVersion()).isEqualTo(2L);
+        assertThat(reload(second).getResponseVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void editingQuestionDoesNotOverwriteResponseVersion() {
+        Question question = saveQuestion(saveProject(), 0);
+
+        // 질문 수정 요청이 질문을 읽어 둔 뒤 다른 요청의 응답 저장이 버전을 올린 상황
+        Question loaded = questionRepository.findById(question.getQuestionId()).orElseThrow();
+        questionRepository.incrementResponseVersion(List.of(question.getQuestionId()));
+
+        loaded.changeContent("수정된 질문");
+        loaded.changeOrderIndex(3);
+        entityManager.flush();
+
+        Question reloaded = reload(question);
+        assertThat(reloaded.getContent()).isEqualTo("수정된 질문");
+        assertThat(reloaded.getOrderIndex()).isEqualTo(3);
+        assertThat(reloaded.getResponseVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void editingQuestionDoesNotOverwriteResponseCount() {
+        Question question = saveQuestion(saveProject(), 0);
+        questionRepository.addResponseCount(question.getQuestionId(), 2);
+
+        Question loaded = reload(question);
+        questionRepository.addResponseCount(question.getQuestionId(), 3);
+        questionRepository.addResponseCount(question.getQuestionId(), -1);
+
+        loaded.changeCategory(Category.OBJECTIVE);
+        entityManager.flush();
+
+        Question reloaded = reload(question);
+        assertThat(reloaded.getCategory()).isEqualTo(Category.OBJECTIVE);
+        assertThat(reloaded.getResponseCount()).isEqualTo(4);
+    }
+
+    private Project saveProject() {
+        return TestFixtures.project(entityManager, TestFixtures.user(entityManager, "owner"));
+    }
+
+    private Question saveQuestion(Project project, int orderIndex) {
+        Question question = TestFixtures.question(entityManager, project, Category.SUBJECTIVE, orderIndex);
+        entityManager.flush();
+        return question;
+    }
+
+    private Question reload(Question question) {
+        entityManager.flush();
+        entityManager.clear();
+        return questionRepository.findById(question.getQuestionId()).orElseThrow();
+    }
+}
@@ -0,0 +1,92 @@
+package cocodas.prier.project.feedback.stats;
+
+import cocodas.prier.project.feedback.question.Category;
+import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.response.Response;
+import cocodas.prier.project.project.Project;
+import cocodas.prier.project.project.ProjectRepository;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.Users;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProjectFeedbackStatsService.class)
+class ProjectFeedbackStatsServiceTest {
+
+    @Autowired
+    private ProjectFeedbackStatsService projectFeedbackStatsService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Users respondent;
+    private Project project;
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        Users owner = TestFixtures.user(entityManager, "owner");
+        respondent = TestFixtures.user(entityManager, "respondent");
+        project = TestFixtures.project(entityManager, owner);
+        question = TestFixtures.question(entityManager, project, Category.OBJECTIVE, 0);
+        entityManager.flush();
+    }
+
+    @Test
+    void countsRespondentOnceAcrossResponseBatches() {
+        // 같은 유저의 응답 묶음이 두 번 들어와도(동시 요청 포함) 응답자 행은 하나
+        projectFeedbackStatsService.applyResponses(project.getProjectId(), respondent.getUserId(), List.of(response("10")), 1);
+        projectFeedbackStatsService.applyResponses(project.getProjectId(), respondent.getUserId(), List.of(response("20")), 1);
+
+        assertThat(stats().getRespondentCount()).isEqualTo(1);
+        assertThat(stats().getObjectiveResponseCount()).isEqualTo(2);
+    }
+
+    @Test
+    void removesRespondentOnlyOnce() {
+        List<Response> responses = List.of(response("10"));
+        projectFeedbackStatsService.applyResponses(project.getProjectId(), respondent.getUserId(), responses, 1);
+
+        // 같은 삭제가 두 번 반영돼도 응답자 수는 한 번만 감소
+        projectFeedbackStatsService.applyResponses(project.getProjectId(), respondent.getUserId(), responses, -1);
+        projectFeedbackStatsService.applyResponses(project.getProjectId(), respondent.getUserId(), responses, -1);
+
+        assertThat(stats().getRespondentCount()).isZero();
+    }
+
+    @Test
+    void feedbackAmountReadsCommentCountFromProject() {
+        projectFeedbackStatsService.applyResponses(project.getProjectId(), respondent.getUserId(), List.of(response("10")), 1);
+        projectRepository.addCommentScore(project.getProjectId(), 4F, 2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // 댓글 수는 Project.commentCount 에만 쌓이고 통계는 그 값을 그대로 씀
+        Project reloaded = projectRepository.findById(project.getProjectId()).orElseThrow();
+        assertThat(projectFeedbackStatsService.getFeedbackAmount(reloaded)).containsExactly(2, 1, 3);
+    }
+
+    private ProjectFeedbackStats stats() {
+        entityManager.flush();
+        entityManager.clear();
+        return projectFeedbackStatsService.getStats(project.getProjectId());
+    }
+
+    private Response response(String content) {
+        return TestFixtures.response(entityManager, question, respondent, content);
+    }
+}
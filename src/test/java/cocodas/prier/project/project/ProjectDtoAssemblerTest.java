@@ -0,0 +1,124 @@
+package cocodas.prier.project.project;
+
+import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.project.media.ProjectMedia;
+import cocodas.prier.project.media.ProjectMediaService;
+import cocodas.prier.project.project.dto.ProjectDto;
+import cocodas.prier.project.tag.projecttag.ProjectTag;
+import cocodas.prier.project.tag.projecttag.ProjectTagService;
+import cocodas.prier.project.tag.tag.Tag;
+import cocodas.prier.project.tag.tag.TagService;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.CurrentUserContext;
+import cocodas.prier.user.UserProfileService;
+import cocodas.prier.user.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+// 프로젝트 목록 한 페이지를 만들 때 프로젝트 수와 상관없이 정해진 횟수의 쿼리만 실행하는지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectDtoAssembler.class, ProjectMediaService.class, ProjectTagService.class,
+        UserProfileService.class, CurrentUserContext.class})
+class ProjectDtoAssemblerTest {
+
+    @Autowired
+    private ProjectDtoAssembler projectDtoAssembler;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AwsS3Service awsS3Service;
+
+    @MockBean
+    private TagService tagService;
+
+    @BeforeEach
+    void setUp() {
+        given(awsS3Service.getPublicUrls(anyCollection())).willAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().distinct().collect(Collectors.toMap(key -> key, key -> "https://s3/" + key));
+        });
+    }
+
+    @Test
+    void assemblesPageWithOneQueryPerLookup() {
+        Tag backend = persist(new Tag("backend"));
+        Tag web = persist(new Tag("web"));
+
+        for (int i = 0; i < 5; i++) {
+            Users owner = TestFixtures.user(entityManager, "owner" + i);
+            Project project = TestFixtures.project(entityManager, owner, "project" + i);
+            persist(ProjectMedia.builder().metadata("main.png").isMain(true).s3Key("main-" + i).project(project).build());
+            persist(ProjectMedia.builder().metadata("content.png").isMain(false).s3Key("content-" + i).orderIndex(1).project(project).build());
+            persist(ProjectTag.builder().tag(backend).project(project).build());
+            persist(ProjectTag.builder().tag(web).project(project).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<Project> projects = projectRepository.findAll(PageRequest.of(0, 5, Sort.by("projectId")));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ProjectDto> page = projectDtoAssembler.assemble(projects, project -> false);
+
+        // 메인 이미지, 태그, 작성자 프로필 각 한 번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(5);
+
+        Map<Long, ProjectDto> byId = page.getContent().stream()
+                .collect(Collectors.toMap(ProjectDto::getProjectId, dto -> dto));
+        projects.forEach(project -> {
+            ProjectDto dto = byId.get(project.getProjectId());
+            assertThat(dto.getMainImageUrl()).startsWith("https://s3/main-");
+            assertThat(dto.getTags()).hasSize(2);
+            assertThat(dto.getProfileImageUrl()).isNotNull();
+        });
+    }
+
+    @Test
+    void emptyPageRunsNoQueries() {
+        Page<Project> projects = projectRepository.findAll(PageRequest.of(0, 5));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(projectDtoAssembler.assemble(projects, project -> false).getContent()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,67 @@
+package cocodas.prier.project.project;
+
+import cocodas.prier.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProjectRepositoryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void calculatedScoreRoundsHalfUp() {
+        Long projectId = saveProject();
+
+        // 평균 4.25 -> 4.5 (Math.round(avg * 2) / 2.0f 와 같음)
+        projectRepository.addCommentScore(projectId, 8.5F, 2);
+        projectRepository.refreshCalculatedScore(projectId);
+        assertThat(reload(projectId).getCalculatedScore()).isEqualTo(4.5F);
+
+        // 평균 4.75 -> 5.0
+        projectRepository.addCommentScore(projectId, 5.75F, 1);
+        projectRepository.refreshCalculatedScore(projectId);
+        assertThat(reload(projectId).getCalculatedScore()).isEqualTo(5F);
+    }
+
+    @Test
+    void editingProjectDoesNotOverwriteCounters() {
+        Long projectId = saveProject();
+
+        // 수정 요청이 프로젝트를 읽어 둔 뒤 다른 요청의 댓글 점수가 반영된 상황
+        Project loaded = projectRepository.findById(projectId).orElseThrow();
+        projectRepository.addCommentScore(projectId, 4F, 1);
+        projectRepository.refreshCalculatedScore(projectId);
+
+        loaded.setTitle("updated");
+        entityManager.flush();
+
+        Project reloaded = reload(projectId);
+        assertThat(reloaded.getTitle()).isEqualTo("updated");
+        assertThat(reloaded.getScore()).isEqualTo(4F);
+        assertThat(reloaded.getCommentCount()).isEqualTo(1);
+        assertThat(reloaded.getCalculatedScore()).isEqualTo(4F);
+    }
+
+    private Long saveProject() {
+        Project project = TestFixtures.project(entityManager, TestFixtures.user(entityManager, "owner"));
+        entityManager.flush();
+        return project.getProjectId();
+    }
+
+    private Project reload(Long projectId) {
+        entityManager.flush();
+        entityManager.clear();
+        return projectRepository.findById(projectId).orElseThrow();
+    }
+}
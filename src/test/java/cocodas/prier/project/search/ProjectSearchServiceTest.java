@@ -0,0 +1,90 @@
+package cocodas.prier.project.search;
+
+import cocodas.prier.project.project.Project;
+import cocodas.prier.statics.keywordAi.KomoranAnalyzer;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProjectSearchService.class)
+class ProjectSearchServiceTest {
+
+    @Autowired
+    private ProjectSearchService projectSearchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private KomoranAnalyzer komoranAnalyzer;
+
+    private Users owner;
+
+    @BeforeEach
+    void setUp() {
+        projectSearchService.initializeCache();
+        when(komoranAnalyzer.extractSearchTerms(any())).thenReturn(List.of("spring"));
+
+        owner = TestFixtures.user(entityManager, "owner");
+        for (int i = 0; i < 30; i++) {
+            projectSearchService.index(saveProject("project " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void servesLaterPagesFromCachedRanking() {
+        Page<Long> first = projectSearchService.search("spring", null, PageRequest.of(0, 10));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<Long> second = projectSearchService.search("spring", null, PageRequest.of(1, 10));
+
+        // 두 번째 페이지는 색인을 다시 읽지 않음
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(first.getTotalElements()).isEqualTo(30);
+        assertThat(second.getContent()).hasSize(10).doesNotContainAnyElementsOf(first.getContent());
+    }
+
+    @Test
+    void indexingEvictsCachedRanking() {
+        assertThat(projectSearchService.search("spring", null, PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(30);
+
+        Project added = saveProject("added");
+        projectSearchService.index(added);
+        entityManager.flush();
+
+        Page<Long> page = projectSearchService.search("spring", null, PageRequest.of(0, 50));
+        assertThat(page.getTotalElements()).isEqualTo(31);
+        assertThat(page.getContent()).contains(added.getProjectId());
+    }
+
+    private Project saveProject(String title) {
+        return TestFixtures.project(entityManager, entityManager.contains(owner) ? owner : entityManager.merge(owner), title);
+    }
+}
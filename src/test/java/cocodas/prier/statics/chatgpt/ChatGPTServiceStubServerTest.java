@@ -0,0 +1,233 @@
+package cocodas.prier.statics.chatgpt;
+
+import cocodas.prier.project.feedback.question.Category;
+import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.question.QuestionRepository;
+import cocodas.prier.project.feedback.response.ResponseRepository;
+import cocodas.prier.project.project.Project;
+import cocodas.prier.project.project.ProjectRepository;
+import cocodas.prier.statics.chatgpt.response.SummaryResponse;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.UserRepository;
+import cocodas.prier.user.Users;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// OpenAI 대신 로컬 스텁 HTTP 서버(JDK HttpServer)로 요약 재생성 흐름 확인
+// 요약 저장은 백그라운드 스레드의 자기 트랜잭션에서 커밋되므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ChatGPTService.class, FeedbackSummaryService.class, FeedbackSummaryGenerator.class, ChatGPTClient.class,
+        ChatGPTServiceStubServerTest.WebClientConfig.class})
+class ChatGPTServiceStubServerTest {
+
+    private static final HttpServer STUB = startStub();
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static volatile int status = 200;
+    private static volatile CountDownLatch release = new CountDownLatch(0);
+
+    @TestConfiguration
+    static class WebClientConfig {
+        @Bean
+        WebClient.Builder webClientBuilder() {
+            return WebClient.builder();
+        }
+    }
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.key", () -> "test-key");
+        registry.add("openai.api.url", () -> "http://localhost:" + STUB.getAddress().getPort());
+        registry.add("openai.api.timeout-seconds", () -> "5");
+    }
+
+    @Autowired
+    private ChatGPTService chatGPTService;
+
+    @Autowired
+    private FeedbackSummaryRepository feedbackSummaryRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private ResponseRepository responseRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long projectId;
+    private Long questionId;
+
+    @BeforeEach
+    void setUp() {
+        calls.set(0);
+        status = 200;
+        release = new CountDownLatch(0);
+
+        // 버전 0 으로 요약된 뒤 응답이 더 들어와 버전이 1 이 된 질문 (오래된 요약)
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            Users owner = TestFixtures.user(entityManager, "owner");
+            Project project = TestFixtures.project(entityManager, owner);
+            Question question = TestFixtures.question(entityManager, project, Category.SUBJECTIVE, 0);
+            TestFixtures.response(entityManager, question, owner, "좋아요");
+            TestFixtures.response(entityManager, question, owner, "느려요");
+            entityManager.persist(FeedbackSummary.builder()
+                    .question(question)
+                    .responseVersion(0L)
+                    .summary("이전 요약")
+                    .build());
+            entityManager.flush();
+            questionRepository.incrementResponseVersion(List.of(question.getQuestionId()));
+            projectId = project.getProjectId();
+            questionId = question.getQuestionId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        feedbackSummaryRepository.deleteAllInBatch();
+        responseRepository.deleteAllInBatch();
+        questionRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void regeneratesStaleSummaryOnce() {
+        // 스텁이 응답을 붙잡고 있는 동안 같은 질문을 다시 조회해도 요청은 하나만 나감
+        release = new CountDownLatch(1);
+
+        SummaryResponse first = summary();
+        assertThat(first.isPending()).isTrue();
+        assertThat(first.getSummary()).isEqualTo("이전 요약");
+        await(() -> calls.get() == 1);
+
+        assertThat(summary().isPending()).isTrue();
+        release.countDown();
+
+        await(() -> !summary().isPending());
+        SummaryResponse refreshed = summary();
+        assertThat(refreshed.getSummary()).isEqualTo("새 요약");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failedCallKeepsOldSummaryPending() {
+        status = 500;
+
+        assertThat(summary().isPending()).isTrue();
+        await(() -> calls.get() == 1);
+        settle();
+
+        // 실패 후에도 이전 요약은 그대로이고, 다음 조회가 다시 생성을 요청함 (생성 중 표시가 풀렸는지)
+        SummaryResponse afterFailure = summary();
+        assertThat(afterFailure.getSummary()).isEqualTo("이전 요약");
+        assertThat(afterFailure.isPending()).isTrue();
+        assertThat(feedbackSummaryRepository.findByQuestion_QuestionId(questionId).orElseThrow().getResponseVersion())
+                .isZero();
+        await(() -> calls.get() == 2);
+        settle();
+    }
+
+    private SummaryResponse summary() {
+        return chatGPTService.getChatGptResponse(projectId).get(0);
+    }
+
+    // 스텁 응답 뒤 백그라운드 구독의 완료 처리가 끝나기를 잠시 기다림
+    private static void settle() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v1/chat/completions", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                calls.incrementAndGet();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = (status == 200
+                        ? "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"새 요약\"}}]}"
+                        : "{\"error\":{\"message\":\"stub failure\"}}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
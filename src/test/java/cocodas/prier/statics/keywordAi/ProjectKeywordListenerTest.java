@@ -0,0 +1,114 @@
+package cocodas.prier.statics.keywordAi;
+
+import cocodas.prier.project.feedback.response.SubjectiveResponsesChangedEvent;
+import cocodas.prier.project.project.ProjectRepository;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// 응답 트랜잭션이 커밋된 뒤에만 키워드 횟수가 UPSERT 로 더해지고 삭제 시 빠지는지 확인
+// 리스너가 커밋 후에 별도 트랜잭션으로 저장하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({KeywordsService.class, ProjectKeywordListener.class})
+class ProjectKeywordListenerTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProjectKeywordRepository projectKeywordRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 형태소 분석 대신 공백으로 나눈 단어를 형용사로 취급
+    @MockBean
+    private KomoranAnalyzer komoranAnalyzer;
+
+    private TransactionTemplate transaction;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        given(komoranAnalyzer.extractAdjectives(anyString()))
+                .willAnswer(invocation -> Arrays.asList(invocation.<String>getArgument(0).split(" ")));
+
+        transaction = new TransactionTemplate(transactionManager);
+        projectId = transaction.execute(status ->
+                TestFixtures.project(entityManager, TestFixtures.user(entityManager, "owner")).getProjectId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectKeywordRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void addsAndSubtractsCountsAfterCommit() {
+        publish(SubjectiveResponsesChangedEvent.created(Map.of(projectId, List.of("좋다 빠르다", "좋다"))));
+        assertThat(counts()).containsExactlyInAnyOrderEntriesOf(Map.of("좋다", 2, "빠르다", 1));
+
+        // 이미 있는 키워드는 같은 행에 더해짐
+        publish(SubjectiveResponsesChangedEvent.created(Map.of(projectId, List.of("좋다 깔끔하다"))));
+        assertThat(counts()).containsExactlyInAnyOrderEntriesOf(Map.of("좋다", 3, "빠르다", 1, "깔끔하다", 1));
+        assertThat(projectKeywordRepository.count()).isEqualTo(3);
+
+        // 0 이 된 키워드는 삭제
+        publish(SubjectiveResponsesChangedEvent.deleted(Map.of(projectId, List.of("좋다 빠르다"))));
+        assertThat(counts()).containsExactlyInAnyOrderEntriesOf(Map.of("좋다", 2, "깔끔하다", 1));
+    }
+
+    @Test
+    void rolledBackResponsesAreNotCounted() {
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(SubjectiveResponsesChangedEvent.created(Map.of(projectId, List.of("좋다"))));
+            status.setRollbackOnly();
+        });
+
+        assertThat(counts()).isEmpty();
+    }
+
+    private void publish(SubjectiveResponsesChangedEvent event) {
+        transaction.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+
+    private Map<String, Integer> counts() {
+        return projectKeywordRepository.findAll().stream()
+                .collect(Collectors.toMap(ProjectKeyword::getKeyword, ProjectKeyword::getKeywordCount));
+    }
+}
@@ -0,0 +1,98 @@
+package cocodas.prier.statics.objective;
+
+import cocodas.prier.project.feedback.question.Category;
+import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.response.Response;
+import cocodas.prier.project.feedback.response.ResponseRepository;
+import cocodas.prier.project.feedback.response.dto.ResponseObjectiveDto;
+import cocodas.prier.project.project.Project;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// SQL 집계 결과가 예전 방식(응답 엔티티를 모두 읽어 자바에서 세던 방식)과 같은지,
+// 응답 수와 무관하게 쿼리 한 번으로 끝나는지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ObjectiveStatisticsTest {
+
+    private static final String[] ANSWERS = {"10", "20", "30", "40", "50"};
+
+    @Autowired
+    private ResponseRepository responseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void matchesInMemoryCountsWithOneQuery() {
+        Users user = TestFixtures.user(entityManager, "user");
+        Project project = TestFixtures.project(entityManager, user);
+
+        Random random = new Random(42);
+        List<Question> questions = new ArrayList<>();
+        List<Response> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Question question = TestFixtures.question(entityManager, project, Category.OBJECTIVE, i);
+            questions.add(question);
+
+            // 마지막 질문은 응답 없음
+            int responseCount = i == 3 ? 0 : 200;
+            for (int j = 0; j < responseCount; j++) {
+                responses.add(TestFixtures.response(entityManager, question, user, ANSWERS[random.nextInt(ANSWERS.length)]));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ResponseObjectiveDto> actual = ObjectiveStatistics.from(
+                responseRepository.countAnswersByProjectId(project.getProjectId(), Category.OBJECTIVE)).getQuestions();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(actual).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(countInMemory(questions, responses));
+    }
+
+    private List<ResponseObjectiveDto> countInMemory(List<Question> questions, List<Response> responses) {
+        List<ResponseObjectiveDto> expected = new ArrayList<>();
+        for (Question question : questions) {
+            List<String> answers = responses.stream()
+                    .filter(response -> response.getQuestion() == question)
+                    .map(Response::getContent)
+                    .toList();
+            expected.add(new ResponseObjectiveDto(
+                    question.getQuestionId(),
+                    question.getContent(),
+                    answers.size(),
+                    count(answers, "10"),
+                    count(answers, "20"),
+                    count(answers, "30"),
+                    count(answers, "40"),
+                    count(answers, "50")));
+        }
+        return expected;
+    }
+
+    private int count(List<String> answers, String answer) {
+        return (int) answers.stream().filter(answer::equals).count();
+    }
+}
@@ -0,0 +1,66 @@
+package cocodas.prier.support;
+
+import cocodas.prier.project.feedback.question.Category;
+import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.response.Response;
+import cocodas.prier.project.project.Project;
+import cocodas.prier.project.project.ProjectStatus;
+import cocodas.prier.user.Users;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// JPA 테스트에서 공통으로 쓰는 유저/프로젝트/질문/응답 저장 헬퍼
+// 테스트가 확인하는 값만 인자로 받고, 나머지 필수 컬럼은 여기서 채움
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static Users user(EntityManager entityManager, String nickname) {
+        Users user = Users.builder().email(nickname + "@prier.io").nickname(nickname).build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    public static Project project(EntityManager entityManager, Users owner) {
+        return project(entityManager, owner, "project");
+    }
+
+    public static Project project(EntityManager entityManager, Users owner, String title) {
+        Project project = Project.builder()
+                .title(title)
+                .teamName("team")
+                .link("https://prier.io")
+                .devStartDate(LocalDate.of(2024, 1, 1))
+                .devEndDate(LocalDate.of(2024, 6, 1))
+                .users(owner)
+                .build();
+        project.setStatus(ProjectStatus.DEVELOPING);
+        entityManager.persist(project);
+        return project;
+    }
+
+    public static Question question(EntityManager entityManager, Project project, Category category, int orderIndex) {
+        Question question = Question.builder()
+                .content("질문 " + orderIndex)
+                .category(category)
+                .orderIndex(orderIndex)
+                .project(project)
+                .build();
+        entityManager.persist(question);
+        return question;
+    }
+
+    public static Response response(EntityManager entityManager, Question question, Users user, String content) {
+        Response response = Response.builder()
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .question(question)
+                .user(user)
+                .build();
+        entityManager.persist(response);
+        return response;
+    }
+}
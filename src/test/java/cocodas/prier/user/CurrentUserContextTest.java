@@ -0,0 +1,110 @@
+package cocodas.prier.user;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 요청 안에서 여러 트랜잭션/서비스가 같은 유저를 찾아도 users 조회는 한 번이고,
+// 트랜잭션마다 그 영속성 컨텍스트의 엔티티를 받는지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CurrentUserContext.class)
+class CurrentUserContextTest {
+
+    @Autowired
+    private CurrentUserContext currentUserContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        userId = transaction.execute(status ->
+                userRepository.save(Users.builder().email("me@prier.io").nickname("me").build()).getUserId());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void readsUsersOncePerRequestAcrossTransactions() {
+        statistics.clear();
+
+        Users first = transaction.execute(status -> {
+            Users user = currentUserContext.findUser(userId).orElseThrow();
+            assertThat(user.getNickname()).isEqualTo("me");
+            return user;
+        });
+        assertThat(currentUserContext.findSummary(userId).orElseThrow().getNickname()).isEqualTo("me");
+        assertThat(currentUserContext.findSummary(userId)).isPresent();
+
+        transaction.executeWithoutResult(status -> {
+            Users second = currentUserContext.findUser(userId).orElseThrow();
+            // 앞 트랜잭션의 준영속 엔티티가 아니라 이 트랜잭션이 관리하는 참조
+            assertThat(second).isNotSameAs(first);
+            assertThat(entityManager.contains(second)).isTrue();
+            assertThat(second.getUserId()).isEqualTo(userId);
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rereadsSummaryAfterEviction() {
+        assertThat(currentUserContext.findSummary(userId)).isPresent();
+        statistics.clear();
+
+        currentUserContext.evictSummary(userId);
+        assertThat(currentUserContext.findSummary(userId)).isPresent();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheOutsideRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        statistics.clear();
+
+        currentUserContext.findSummary(userId);
+        currentUserContext.findSummary(userId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
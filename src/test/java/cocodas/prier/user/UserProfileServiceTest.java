@@ -0,0 +1,60 @@
+package cocodas.prier.user;
+
+import cocodas.prier.aws.AwsS3Service;
+import cocodas.prier.user.response.UserProfileDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+// 목록 작성자 중 users 행이 없는 ID 도 결과에 포함되어 호출하는 쪽에서 NPE 가 나지 않는지 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "profile.default.s3key=default-profile.png")
+@Import({UserProfileService.class, CurrentUserContext.class})
+class UserProfileServiceTest {
+
+    @Autowired
+    private UserProfileService userProfileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() {
+        given(awsS3Service.getPublicUrls(anyCollection())).willAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().collect(Collectors.toMap(key -> key, key -> "https://cdn/" + key));
+        });
+    }
+
+    @Test
+    void returnsPlaceholderForMissingUsers() {
+        Long userId = userRepository.save(Users.builder().email("author@prier.io").nickname("author").build()).getUserId();
+        Long deletedUserId = userId + 1000;
+
+        Map<Long, UserProfileDto> profiles = userProfileService.getProfiles(List.of(userId, deletedUserId));
+
+        assertThat(profiles).containsOnlyKeys(userId, deletedUserId);
+        assertThat(profiles.get(userId).getNickname()).isEqualTo("author");
+        assertThat(profiles.get(deletedUserId).getNickname()).isEqualTo("탈퇴한 사용자");
+        assertThat(profiles.get(deletedUserId).getProfileUrl()).isEqualTo("https://cdn/default-profile.png");
+        assertThat(userProfileService.getProfileUrls(List.of(deletedUserId))).containsKey(deletedUserId);
+    }
+}
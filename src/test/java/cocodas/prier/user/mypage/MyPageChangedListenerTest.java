@@ -0,0 +1,74 @@
+package cocodas.prier.user.mypage;
+
+import cocodas.prier.config.AsyncConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+// 커밋 후 리스너가 요약 재생성(여기서는 20ms)을 기다리지 않고 바로 반환하는지,
+// 같은 유저의 연속된 변경이 대기 작업 하나로 합쳐지는지 확인
+@SpringJUnitConfig({AsyncConfig.class, MyPageSummaryRefresher.class, MyPageChangedListener.class})
+class MyPageChangedListenerTest {
+
+    private static final int EVENTS = 500;
+    private static final int USERS = 5;
+    private static final long REBUILD_MILLIS = 20;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("myPageRefreshExecutor")
+    private Executor myPageRefreshExecutor;
+
+    @MockBean
+    private MyPageSummaryService myPageSummaryService;
+
+    @Test
+    void publishingReturnsWithoutWaitingForRebuildAndCoalescesUsers() throws InterruptedException {
+        Map<Long, AtomicInteger> rebuilds = new ConcurrentHashMap<>();
+        given(myPageSummaryService.rebuild(anyLong())).willAnswer(invocation -> {
+            rebuilds.computeIfAbsent(invocation.getArgument(0), id -> new AtomicInteger()).incrementAndGet();
+            Thread.sleep(REBUILD_MILLIS);
+            return null;
+        });
+
+        // 트랜잭션 밖에서 발행하면 fallbackExecution 으로 바로 리스너가 실행됨 (커밋 직후와 같은 경로)
+        long started = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            eventPublisher.publishEvent(MyPageChangedEvent.of((long) (i % USERS) + 1));
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        awaitIdle((ThreadPoolTaskExecutor) myPageRefreshExecutor);
+
+        // 요청 스레드에서 재생성했다면 최소 EVENTS * REBUILD_MILLIS (10초)
+        assertThat(publishMillis).isLessThan(EVENTS * REBUILD_MILLIS / 10);
+        assertThat(rebuilds).hasSize(USERS);
+        // 유저마다 실행 중 하나 + 대기 하나까지만 쌓이므로, 500건이 유저당 몇 번의 재생성으로 합쳐짐
+        int totalRebuilds = rebuilds.values().stream().mapToInt(AtomicInteger::get).sum();
+        assertThat(totalRebuilds).isLessThan(EVENTS / 10);
+    }
+
+    private static void awaitIdle(ThreadPoolTaskExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getActiveCount() > 0 || !executor.getThreadPoolExecutor().getQueue().isEmpty()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
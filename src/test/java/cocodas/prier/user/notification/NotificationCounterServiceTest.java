@@ -0,0 +1,182 @@
+package cocodas.prier.user.notification;
+
+import cocodas.prier.project.comment.ProjectComment;
+import cocodas.prier.project.feedback.question.Category;
+import cocodas.prier.project.feedback.question.Question;
+import cocodas.prier.project.feedback.response.Response;
+import cocodas.prier.support.TestFixtures;
+import cocodas.prier.user.Users;
+import cocodas.prier.user.dto.NotificationDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답/댓글 저장·삭제 때마다 증감한 카운터가 원본 테이블에서 다시 집계한 값(reconcileAll, 처음 집계)과 같은지 확인
+// 네이티브 SQL(INSERT IGNORE, ON DUPLICATE KEY UPDATE, GREATEST, 삭제 서브쿼리)을 H2 MySQL 모드에서 그대로 실행
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(NotificationCounterService.class)
+class NotificationCounterServiceTest {
+
+    @Autowired
+    private NotificationCounterService notificationCounterService;
+
+    @Autowired
+    private NotificationCounterRepository notificationCounterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private LocalDateTime since;
+    private Users owner;
+    private Users first;
+    private Users second;
+    private Question kept;
+    private Question cleared;
+
+    @BeforeEach
+    void setUp() {
+        since = LocalDateTime.now().minusHours(1);
+        owner = TestFixtures.user(entityManager, "owner");
+        first = TestFixtures.user(entityManager, "first");
+        second = TestFixtures.user(entityManager, "second");
+        kept = TestFixtures.question(entityManager, TestFixtures.project(entityManager, owner, "kept"), Category.OBJECTIVE, 0);
+        cleared = TestFixtures.question(entityManager, TestFixtures.project(entityManager, owner, "cleared"), Category.OBJECTIVE, 0);
+        entityManager.flush();
+
+        notificationCounterService.reset(owner.getUserId(), since);
+    }
+
+    @Test
+    void reconcileMatchesIncrementalCounting() {
+        applyActivity();
+        NotificationDto incremental = unread();
+
+        // 한 프로젝트에 응답이 여러 번 와도 한 번, 응답이 모두 지워진 프로젝트는 빠짐
+        assertThat(incremental.getResponseAmount()).isEqualTo(1);
+        // since 이후 댓글 3개 중 1개 삭제, since 이전 댓글 삭제는 영향 없음
+        assertThat(incremental.getCommentAmount()).isEqualTo(2);
+
+        assertThat(notificationCounterService.reconcileAll()).isEqualTo(1);
+        assertThat(unread()).usingRecursiveComparison().isEqualTo(incremental);
+    }
+
+    @Test
+    void firstCountFromSourceMatchesIncrementalCounting() {
+        applyActivity();
+        NotificationDto incremental = unread();
+
+        // 카운터가 없는 유저는 로그아웃 시각부터 원본 테이블에서 집계
+        owner = entityManager.find(Users.class, owner.getUserId());
+        owner.updateLastLogoutAt(since);
+        notificationCounterRepository.deleteAllInBatch();
+        notificationCounterRepository.deleteUnreadResponses(owner.getUserId());
+
+        assertThat(unread()).usingRecursiveComparison().isEqualTo(incremental);
+    }
+
+    @Test
+    void reconcileRepairsDriftedCounter() {
+        applyActivity();
+        NotificationDto expected = unread();
+
+        // 이벤트 유실 등으로 어긋난 카운터
+        notificationCounterRepository.addResponses(owner.getUserId(), 5);
+        notificationCounterRepository.addComment(owner.getUserId());
+        notificationCounterRepository.deleteUnreadResponses(owner.getUserId());
+
+        notificationCounterService.reconcileAll();
+
+        assertThat(unread()).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void removingResponsesNeverDropsCountBelowZero() {
+        Response response = respond(cleared, first);
+        entityManager.remove(response);
+        notificationCounterService.onResponsesDeleted(cleared.getProject().getProjectId(), owner.getUserId());
+        // 이미 지운 표시를 다시 지우려 해도 카운터는 그대로
+        notificationCounterService.onResponsesDeleted(cleared.getProject().getProjectId(), owner.getUserId());
+        notificationCounterRepository.addResponses(owner.getUserId(), -1);
+
+        assertThat(unread().getResponseAmount()).isZero();
+    }
+
+    // 서비스 코드와 같은 순서로 원본 행을 바꾸고 카운터 이벤트를 호출
+    private void applyActivity() {
+        respond(kept, first);
+        respond(kept, second);
+        Response clearedResponse = respond(cleared, first);
+
+        // kept 는 다른 응답이 남아 있어 그대로, cleared 는 남은 응답이 없어 빠짐
+        removeResponse(kept, findResponse(kept, first));
+        removeResponse(cleared, clearedResponse);
+
+        comment(LocalDateTime.now());
+        comment(LocalDateTime.now());
+        ProjectComment deleted = comment(LocalDateTime.now());
+        removeComment(deleted);
+
+        // since 이전에 작성된(이미 읽은) 댓글 삭제
+        ProjectComment old = comment(since.minusDays(1));
+        removeComment(old);
+    }
+
+    private Response respond(Question question, Users user) {
+        Response response = TestFixtures.response(entityManager, question, user, "10");
+        entityManager.flush();
+        notificationCounterService.onResponse(question.getProject().getProjectId(), owner.getUserId());
+        return response;
+    }
+
+    private Response findResponse(Question question, Users user) {
+        return entityManager.createQuery(
+                        "SELECT r FROM Response r WHERE r.question = :question AND r.users = :user", Response.class)
+                .setParameter("question", question)
+                .setParameter("user", user)
+                .getSingleResult();
+    }
+
+    private void removeResponse(Question question, Response response) {
+        entityManager.remove(response);
+        notificationCounterService.onResponsesDeleted(question.getProject().getProjectId(), owner.getUserId());
+    }
+
+    private ProjectComment comment(LocalDateTime createdAt) {
+        ProjectComment comment = ProjectComment.builder()
+                .content("댓글")
+                .score(4F)
+                .project(kept.getProject())
+                .users(first)
+                .build();
+        ReflectionTestUtils.setField(comment, "createdAt", createdAt);
+        entityManager.persist(comment);
+        entityManager.flush();
+        if (createdAt.isAfter(since)) {
+            notificationCounterService.onComment(owner.getUserId());
+        }
+        return comment;
+    }
+
+    private void removeComment(ProjectComment comment) {
+        entityManager.remove(comment);
+        entityManager.flush();
+        notificationCounterService.onCommentDeleted(owner.getUserId(), comment.getCreatedAt());
+    }
+
+    // 네이티브 UPDATE 는 영속성 컨텍스트의 카운터 엔티티를 갱신하지 않으므로 비우고 다시 읽음
+    private NotificationDto unread() {
+        entityManager.flush();
+        entityManager.clear();
+        return notificationCounterService.getUnread(owner.getUserId());
+    }
+}
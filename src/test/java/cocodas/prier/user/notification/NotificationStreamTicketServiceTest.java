@@ -0,0 +1,38 @@
+package cocodas.prier.user.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationStreamTicketServiceTest {
+
+    private NotificationStreamTicketService ticketService;
+
+    @BeforeEach
+    void setUp() {
+        ticketService = new NotificationStreamTicketService();
+        ReflectionTestUtils.setField(ticketService, "ticketTtlSeconds", 30L);
+        ReflectionTestUtils.setField(ticketService, "ticketMaxSize", 100L);
+        ticketService.initializeCache();
+    }
+
+    @Test
+    void ticketResolvesToIssuingUserOnlyOnce() {
+        String ticket = ticketService.issue(7L);
+
+        assertThat(ticketService.consume(ticket)).isEqualTo(7L);
+        assertThatThrownBy(() -> ticketService.consume(ticket))
+                .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+    }
+
+    @Test
+    void rejectsUnknownTicketsAndIssuesDistinctOnes() {
+        assertThat(ticketService.issue(1L)).isNotEqualTo(ticketService.issue(1L));
+        assertThatThrownBy(() -> ticketService.consume("forged"))
+                .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+    }
+}